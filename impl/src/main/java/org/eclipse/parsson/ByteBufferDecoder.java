@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import jakarta.json.JsonException;
+
+/**
+ * Reader that decodes JSON text straight from a {@link ByteBuffer} into the
+ * tokenizer buffer, without intermediate streams and byte copies. The encoding
+ * is detected as for byte streams. Files are memory mapped one window at
+ * a time, so the mapped size does not depend on the file size.
+ */
+final class ByteBufferDecoder extends Reader {
+
+    // Size of the mapped file windows
+    static final int WINDOW_SIZE = 1 << 26;
+
+    private final FileChannel channel;
+    // The channel is closed with the decoder, unless only a region of it is decoded
+    private final boolean ownsChannel;
+    // File position after the last byte to decode
+    private final long end;
+    private final int windowSize;
+    private final CharsetDecoder decoder;
+    private ByteBuffer bytes;
+    // File position of the first byte of the current window
+    private long windowStart;
+    private boolean eof;
+    private boolean flushed;
+
+    // Wrapper of the last char[] passed to read, tokenizer reads into the same buffer
+    private CharBuffer chars;
+
+    ByteBufferDecoder(ByteBuffer buffer) {
+        this.channel = null;
+        this.ownsChannel = false;
+        this.end = buffer.remaining();
+        this.windowSize = 0;
+        // slice keeps position and limit of the caller's buffer untouched
+        this.bytes = buffer.slice();
+        this.eof = true;
+        this.decoder = newDecoder(detectEncoding(bytes));
+    }
+
+    ByteBufferDecoder(FileChannel channel, int windowSize) throws IOException {
+        this.channel = channel;
+        this.ownsChannel = true;
+        this.end = channel.size();
+        this.windowSize = windowSize;
+        map(0);
+        this.decoder = newDecoder(detectEncoding(bytes));
+    }
+
+    // Decodes the UTF-8 bytes of the file region [start, end), leaves the channel open
+    ByteBufferDecoder(FileChannel channel, long start, long end, int windowSize) throws IOException {
+        this.channel = channel;
+        this.ownsChannel = false;
+        this.end = end;
+        this.windowSize = windowSize;
+        map(start);
+        if (start == 0) {
+            skipBom(StandardCharsets.UTF_8, bytes);
+        }
+        this.decoder = newDecoder(StandardCharsets.UTF_8);
+    }
+
+    // Maps the file in windows of the given size, closes the file on failure
+    static ByteBufferDecoder open(Path path, int windowSize) {
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            return new ByteBufferDecoder(channel, windowSize);
+        } catch (IOException ioe) {
+            closeQuietly(channel);
+            throw new JsonException(JsonMessages.PARSER_INPUT_FILE_IOERR(path), ioe);
+        } catch (RuntimeException re) {
+            closeQuietly(channel);
+            throw re;
+        }
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // the open failure is reported instead
+            }
+        }
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (flushed) {
+            // the decoder cannot be used after the final flush
+            return -1;
+        }
+        CharBuffer cb = chars;
+        if (cb == null || cb.array() != cbuf) {
+            cb = chars = CharBuffer.wrap(cbuf);
+        }
+        cb.clear();
+        cb.limit(off + len).position(off);
+        while (true) {
+            CoderResult result = decoder.decode(bytes, cb, eof);
+            if (result.isOverflow()) {
+                break;
+            }
+            if (result.isError()) {
+                result.throwException();
+            }
+            // underflow
+            if (eof) {
+                if (!flushed && decoder.flush(cb).isUnderflow()) {
+                    flushed = true;
+                }
+                break;
+            }
+            if (cb.position() > off) {
+                break;
+            }
+            // Next window starts with the bytes of a char split by the window end
+            map(windowStart + bytes.position());
+        }
+        int n = cb.position() - off;
+        return n == 0 && eof ? -1 : n;
+    }
+
+    private void map(long position) throws IOException {
+        long length = Math.min(windowSize, end - position);
+        bytes = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        windowStart = position;
+        eof = position + length >= end;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (ownsChannel) {
+            channel.close();
+        }
+    }
+
+    // Detects the encoding from the first bytes and skips the byte order mark
+    private static Charset detectEncoding(ByteBuffer bytes) {
+        byte[] head = new byte[Math.min(4, bytes.remaining())];
+        bytes.duplicate().get(head);
+        Charset charset = UnicodeDetectingInputStream.detectEncoding(head, 0, head.length);
+        skipBom(charset, bytes);
+        return charset;
+    }
+
+    private static void skipBom(Charset charset, ByteBuffer bytes) {
+        byte[] head = new byte[Math.min(4, bytes.remaining())];
+        bytes.duplicate().get(head);
+        int bom = UnicodeDetectingInputStream.bomLength(charset, head, 0, head.length);
+        bytes.position(bytes.position() + bom);
+    }
+
+    private static CharsetDecoder newDecoder(Charset charset) {
+        return charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.json.JsonException;
+
+/**
+ * Resettable replacement of {@link java.io.InputStreamReader}. The byte
+ * buffer and the charset decoder are kept when the decoder is reset onto
+ * another stream, so that reusable parsers do not allocate them per input.
+ */
+final class InputStreamDecoder extends Reader {
+
+    private static final int BYTE_BUFFER_SIZE = 8192;
+
+    private final ByteBuffer bytes = ByteBuffer.allocate(BYTE_BUFFER_SIZE);
+    private InputStream in;
+    private CharsetDecoder decoder;
+    private boolean eof;
+    private boolean flushed;
+
+    // Wrapper of the last char[] passed to read, tokenizer reads into the same buffer
+    private CharBuffer chars;
+
+    void reset(InputStream in, Charset charset) {
+        this.in = in;
+        if (decoder == null || !decoder.charset().equals(charset)) {
+            decoder = charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        } else {
+            decoder.reset();
+        }
+        bytes.clear().flip();
+        eof = false;
+        flushed = false;
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        CharBuffer cb = chars;
+        if (cb == null || cb.array() != cbuf) {
+            cb = chars = CharBuffer.wrap(cbuf);
+        }
+        cb.clear();
+        cb.limit(off + len).position(off);
+        while (true) {
+            CoderResult result = decoder.decode(bytes, cb, eof);
+            if (result.isOverflow()) {
+                break;
+            }
+            if (result.isError()) {
+                result.throwException();
+            }
+            // underflow
+            if (eof) {
+                if (!flushed && decoder.flush(cb).isUnderflow()) {
+                    flushed = true;
+                }
+                break;
+            }
+            if (cb.position() > off) {
+                // Return what is decoded instead of blocking for more input
+                break;
+            }
+            fill();
+        }
+        int n = cb.position() - off;
+        return n == 0 && eof ? -1 : n;
+    }
+
+    private void fill() throws IOException {
+        bytes.compact();
+        int n = in.read(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+        if (n < 0) {
+            eof = true;
+        } else {
+            bytes.position(bytes.position() + n);
+        }
+        bytes.flip();
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /*
+     * Decodes a whole in-memory JSON text at once, without streams and
+     * without refills. The encoding is detected as for byte streams.
+     * Returned buffer holds the decoded chars from index 0 to its limit.
+     * dest is used when it is large enough, otherwise a new array is allocated.
+     */
+    static CharBuffer decode(byte[] bytes, int offset, int length, char[] dest) {
+        if (offset < 0 || length < 0 || length > bytes.length - offset) {
+            throw new IndexOutOfBoundsException();
+        }
+        Charset charset = UnicodeDetectingInputStream.detectEncoding(bytes, offset, length);
+        int bom = UnicodeDetectingInputStream.bomLength(charset, bytes, offset, length);
+        offset += bom;
+        length -= bom;
+
+        // None of the JSON encodings produces more chars than bytes
+        char[] chars = dest != null && dest.length >= length ? dest : new char[length];
+        int i = 0;
+        if (charset == StandardCharsets.UTF_8) {
+            // ASCII prefix needs no decoder
+            while (i < length && bytes[offset + i] >= 0) {
+                chars[i] = (char) bytes[offset + i];
+                i++;
+            }
+        }
+        CharBuffer out = CharBuffer.wrap(chars);
+        out.position(i);
+        if (i < length) {
+            CharsetDecoder decoder = charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            ByteBuffer in = ByteBuffer.wrap(bytes, offset + i, length - i);
+            CoderResult result = decoder.decode(in, out, true);
+            if (result.isUnderflow()) {
+                result = decoder.flush(out);
+            }
+            if (!result.isUnderflow()) {
+                throw new JsonException(JsonMessages.INTERNAL_ERROR());
+            }
+        }
+        out.flip();
+        return out;
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -24,6 +24,7 @@ import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.RandomAccess;
@@ -310,6 +311,11 @@ class JsonArrayBuilderImpl implements JsonArrayBuilder {
         if (valueList == null) {
             snapshot = Collections.emptyList();
         } else {
+            JsonArray numbers = JsonNumberArrayImpl.of(valueList, jsonContext);
+            if (numbers != null) {
+                valueList = null;
+                return numbers;
+            }
             // Should we trim to minimize storage ?
             // valueList.trimToSize();
             snapshot = Collections.unmodifiableList(valueList);
@@ -318,6 +324,54 @@ class JsonArrayBuilderImpl implements JsonArrayBuilder {
         return new JsonArrayImpl(snapshot, jsonContext);
     }
 
+    /**
+     * Returns a copy of the array with the value inserted at the index.
+     * Arrays with at least {@link PersistentList#WIDTH} elements are copied
+     * to a {@link PersistentList}, so the copy and any arrays derived from it
+     * share most of their elements instead of copying all of them for each
+     * update.
+     */
+    static JsonArray insert(JsonArray array, int index, JsonValue value, JsonContext jsonContext) {
+        PersistentList<JsonValue> list = persistentList(array);
+        if (list == null) {
+            return new JsonArrayBuilderImpl(array, jsonContext).add(index, value).build();
+        }
+        return new JsonArrayImpl(list.plus(index, value), jsonContext);
+    }
+
+    /**
+     * Returns a copy of the array with the value at the index replaced, see
+     * {@link #insert(JsonArray, int, JsonValue, JsonContext)}.
+     */
+    static JsonArray replace(JsonArray array, int index, JsonValue value, JsonContext jsonContext) {
+        PersistentList<JsonValue> list = persistentList(array);
+        if (list == null) {
+            return new JsonArrayBuilderImpl(array, jsonContext).set(index, value).build();
+        }
+        return new JsonArrayImpl(list.with(index, value), jsonContext);
+    }
+
+    /**
+     * Returns a copy of the array without the value at the index, see
+     * {@link #insert(JsonArray, int, JsonValue, JsonContext)}.
+     */
+    static JsonArray remove(JsonArray array, int index, JsonContext jsonContext) {
+        PersistentList<JsonValue> list = persistentList(array);
+        if (list == null) {
+            return new JsonArrayBuilderImpl(array, jsonContext).remove(index).build();
+        }
+        return new JsonArrayImpl(list.minus(index), jsonContext);
+    }
+
+    // Returns null for small arrays, which are cheaper to copy
+    private static PersistentList<JsonValue> persistentList(JsonArray array) {
+        if (array instanceof JsonArrayImpl
+                && ((JsonArrayImpl) array).valueList instanceof PersistentList) {
+            return (PersistentList<JsonValue>) ((JsonArrayImpl) array).valueList;
+        }
+        return array.size() < PersistentList.WIDTH ? null : PersistentList.of(array);
+    }
+
     private void populate(Collection<?> collection) {
         for (Object value : collection) {
             if (value instanceof Optional) {
@@ -461,6 +515,11 @@ class JsonArrayBuilderImpl implements JsonArrayBuilder {
             return valueList.get(index);
         }
 
+        @Override
+        public Iterator<JsonValue> iterator() {
+            return valueList.iterator();
+        }
+
         @Override
         public int hashCode() {
             if (hashCode == 0) {
@@ -469,6 +528,18 @@ class JsonArrayBuilderImpl implements JsonArrayBuilder {
             return hashCode;
         }
 
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof JsonArrayImpl) {
+                // differing cached hash codes rule out a deep comparison
+                int otherHashCode = ((JsonArrayImpl) obj).hashCode;
+                if (hashCode != 0 && otherHashCode != 0 && hashCode != otherHashCode) {
+                    return false;
+                }
+            }
+            return super.equals(obj);
+        }
+
         @Override
         public String toString() {
             StringWriter sw = new StringWriter();
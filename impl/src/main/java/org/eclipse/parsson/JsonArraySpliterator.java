@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import jakarta.json.JsonValue;
+
+/**
+ * Spliterator over the elements of an array of in-memory input, whose
+ * ranges were found by {@link JsonTokenizer#memberRanges(boolean, int, int)}.
+ * Splits halve the range of elements, and each part parses its elements
+ * in place with its own parser, so the parts can be traversed by different
+ * threads.
+ */
+final class JsonArraySpliterator implements Spliterator<JsonValue> {
+
+    private final JsonMemberRanges ranges;
+    private final JsonContext jsonContext;
+    // Remaining elements [index, fence)
+    private int index;
+    private final int fence;
+    private ReusableJsonParserImpl parser;
+
+    JsonArraySpliterator(JsonMemberRanges ranges, int index, int fence, JsonContext jsonContext) {
+        this.ranges = ranges;
+        this.index = index;
+        this.fence = fence;
+        this.jsonContext = jsonContext;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super JsonValue> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        if (index >= fence) {
+            return false;
+        }
+        action.accept(parse(index++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super JsonValue> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        while (index < fence) {
+            action.accept(parse(index++));
+        }
+    }
+
+    @Override
+    public Spliterator<JsonValue> trySplit() {
+        int mid = (index + fence) >>> 1;
+        if (mid <= index) {
+            return null;
+        }
+        JsonArraySpliterator prefix = new JsonArraySpliterator(ranges, index, mid, jsonContext);
+        index = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+    }
+
+    private JsonValue parse(int i) {
+        if (parser == null) {
+            parser = ranges.newParser(jsonContext);
+        }
+        return ranges.value(i, parser);
+    }
+
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.json.stream.JsonParser.Event;
+import jakarta.json.stream.JsonParsingException;
+
+import org.eclipse.parsson.JsonTokenizer.JsonToken;
+import org.eclipse.parsson.api.JsonColumnSpec;
+import org.eclipse.parsson.api.JsonColumns;
+
+/**
+ * Extracts columns from an array of objects straight from the tokenizer,
+ * growing one primitive or String array per column.
+ */
+final class JsonColumnsImpl implements JsonColumns {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final JsonColumnSpec spec;
+    private final Map<String, Integer> indexes = new HashMap<>();
+    private final Node root = new Node();
+    // int[], long[], double[], String[] or boolean[] per column
+    private final Object[] values;
+    private final BitSet[] nulls;
+    private final BitSet[] present;
+    private int size;
+
+    // Member names leading to the columns
+    private static final class Node {
+        final Map<String, Node> members = new HashMap<>();
+        int column = -1;
+    }
+
+    JsonColumnsImpl(JsonColumnSpec spec) {
+        this.spec = spec;
+        int columns = spec.size();
+        values = new Object[columns];
+        nulls = new BitSet[columns];
+        present = new BitSet[columns];
+        for (int i = 0; i < columns; i++) {
+            indexes.put(spec.getName(i), i);
+            Node node = root;
+            List<String> path = spec.getPath(i);
+            for (String name : path) {
+                node = node.members.computeIfAbsent(name, n -> new Node());
+            }
+            node.column = i;
+            values[i] = resize(i, null, INITIAL_CAPACITY);
+            nulls[i] = new BitSet();
+            present[i] = new BitSet();
+        }
+    }
+
+    // Reads the elements of the current array as rows
+    JsonColumns read(JsonParserImpl parser) {
+        int capacity = INITIAL_CAPACITY;
+        while (parser.hasNext()) {
+            Event e = parser.next();
+            if (e == Event.END_ARRAY) {
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = resize(i, values[i], size);
+                }
+                return this;
+            }
+            if (size == capacity) {
+                capacity = capacity * 2;
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = resize(i, values[i], capacity);
+                }
+            }
+            if (e == Event.START_OBJECT) {
+                readObject(parser, root);
+            } else if (e == Event.START_ARRAY) {
+                parser.skipArray();
+            }
+            size++;
+        }
+        throw parser.parsingException(JsonToken.EOF, "[CURLYOPEN, SQUAREOPEN, STRING, NUMBER, TRUE, FALSE, NULL, SQUARECLOSE]");
+    }
+
+    private void readObject(JsonParserImpl parser, Node node) {
+        while (parser.hasNext()) {
+            if (parser.next() == Event.END_OBJECT) {
+                return;
+            }
+            Node member = node.members.get(parser.getString());
+            Event e = parser.next();
+            if (member != null && member.column >= 0) {
+                set(parser, member.column, e);
+            } else if (member != null && e == Event.START_OBJECT) {
+                readObject(parser, member);
+            } else if (e == Event.START_OBJECT) {
+                parser.skipObject();
+            } else if (e == Event.START_ARRAY) {
+                parser.skipArray();
+            }
+        }
+        throw parser.parsingException(JsonToken.EOF, "[STRING, CURLYCLOSE]");
+    }
+
+    private void set(JsonParserImpl parser, int column, Event e) {
+        present[column].set(size);
+        if (e == Event.VALUE_NULL) {
+            nulls[column].set(size);
+            return;
+        }
+        nulls[column].clear(size);
+        JsonTokenizer tokenizer = parser.tokenizer;
+        switch (spec.getType(column)) {
+            case INT:
+                if (e == Event.VALUE_NUMBER) {
+                    if (tokenizer.isDefinitelyInt()) {
+                        ((int[]) values[column])[size] = tokenizer.getInt();
+                        return;
+                    }
+                    // fractions and values out of range are not truncated
+                    try {
+                        ((int[]) values[column])[size] = tokenizer.getBigDecimal().intValueExact();
+                        return;
+                    } catch (ArithmeticException ae) {
+                        break;
+                    }
+                }
+                break;
+            case LONG:
+                if (e == Event.VALUE_NUMBER) {
+                    if (tokenizer.isDefinitelyLong()) {
+                        ((long[]) values[column])[size] = tokenizer.getLong();
+                        return;
+                    }
+                    try {
+                        ((long[]) values[column])[size] = tokenizer.getBigDecimal().longValueExact();
+                        return;
+                    } catch (ArithmeticException ae) {
+                        break;
+                    }
+                }
+                break;
+            case DOUBLE:
+                if (e == Event.VALUE_NUMBER) {
+                    ((double[]) values[column])[size] = tokenizer.getDouble();
+                    return;
+                }
+                break;
+            case STRING:
+                if (e == Event.VALUE_STRING) {
+                    ((String[]) values[column])[size] = tokenizer.getValue();
+                    return;
+                }
+                break;
+            case BOOLEAN:
+                if (e == Event.VALUE_TRUE || e == Event.VALUE_FALSE) {
+                    ((boolean[]) values[column])[size] = e == Event.VALUE_TRUE;
+                    return;
+                }
+                break;
+        }
+        throw new JsonParsingException(
+                JsonMessages.PARSER_COLUMN_TYPE_ERR(spec.getName(column), spec.getType(column), e),
+                parser.getLastCharLocation());
+    }
+
+    // Copies the values of a column into an array of the given length
+    private Object resize(int column, Object array, int length) {
+        switch (spec.getType(column)) {
+            case INT:
+                return array == null ? new int[length] : Arrays.copyOf((int[]) array, length);
+            case LONG:
+                return array == null ? new long[length] : Arrays.copyOf((long[]) array, length);
+            case DOUBLE:
+                return array == null ? new double[length] : Arrays.copyOf((double[]) array, length);
+            case STRING:
+                return array == null ? new String[length] : Arrays.copyOf((String[]) array, length);
+            default:
+                return array == null ? new boolean[length] : Arrays.copyOf((boolean[]) array, length);
+        }
+    }
+
+    private int column(String name) {
+        Integer column = indexes.get(name);
+        if (column == null) {
+            throw new IllegalArgumentException(JsonMessages.PARSER_COLUMN_UNKNOWN(name));
+        }
+        return column;
+    }
+
+    private Object values(String name, JsonColumnSpec.Type type) {
+        int column = column(name);
+        if (spec.getType(column) != type) {
+            throw new IllegalArgumentException(JsonMessages.PARSER_COLUMN_TYPE_MISMATCH(name, spec.getType(column)));
+        }
+        return values[column];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int[] getInts(String name) {
+        return (int[]) values(name, JsonColumnSpec.Type.INT);
+    }
+
+    @Override
+    public long[] getLongs(String name) {
+        return (long[]) values(name, JsonColumnSpec.Type.LONG);
+    }
+
+    @Override
+    public double[] getDoubles(String name) {
+        return (double[]) values(name, JsonColumnSpec.Type.DOUBLE);
+    }
+
+    @Override
+    public String[] getStrings(String name) {
+        return (String[]) values(name, JsonColumnSpec.Type.STRING);
+    }
+
+    @Override
+    public boolean[] getBooleans(String name) {
+        return (boolean[]) values(name, JsonColumnSpec.Type.BOOLEAN);
+    }
+
+    @Override
+    public BitSet getNulls(String name) {
+        return nulls[column(name)];
+    }
+
+    @Override
+    public BitSet getMissing(String name) {
+        BitSet missing = new BitSet(size);
+        missing.set(0, size);
+        missing.andNot(present[column(name)]);
+        return missing;
+    }
+}
@@ -46,6 +46,15 @@ final class JsonContext {
     /** Default maximum number of characters to parse from one document. */
     private static final int DEFAULT_MAX_PARSING_LIMIT = 15_000_000;
 
+    /** Default number of nesting levels built eagerly by readers, 0 for all levels. */
+    private static final int DEFAULT_MAX_MATERIALIZED_DEPTH = 0;
+
+    /** Default minimum number of characters of a document read in parallel, 0 disables parallel reading. */
+    private static final int DEFAULT_PARALLEL_READ_THRESHOLD = 0;
+
+    /** Default minimum number of members of a structure written in parallel, 0 disables parallel writing. */
+    private static final int DEFAULT_PARALLEL_WRITE_THRESHOLD = 0;
+
     /**
      * Custom char[] pool instance property. Can be set in properties {@code Map} only.
      */
@@ -65,12 +74,24 @@ final class JsonContext {
     // Maximum number of characters to parse from one document
     private final int maxParsingLimit;
 
+    // Number of nesting levels built eagerly by readers, 0 for all levels
+    private final int maxMaterializedDepth;
+
+    // Minimum number of characters of a document read in parallel, 0 when disabled
+    private final int parallelReadThreshold;
+
+    // Minimum number of members of a structure written in parallel, 0 when disabled
+    private final int parallelWriteThreshold;
+
     // Whether JSON pretty printing is enabled
     private final boolean prettyPrinting;
 
     // Whether duplicate keys in JsonObject shall be rejected.
     private final boolean rejectDuplicateKeys;
 
+    // Whether parsers track line and column numbers
+    private final boolean locationTracking;
+
     private final BufferPool bufferPool;
 
     /**
@@ -84,8 +105,12 @@ final class JsonContext {
         this.bigDecimalLengthLimit = getIntConfig(JsonConfig.MAX_BIGDECIMAL_LEN, config, DEFAULT_MAX_BIGDECIMAL_LEN);
         this.depthLimit = getIntConfig(JsonConfig.MAX_DEPTH, config, DEFAULT_MAX_DEPTH);
         this.maxParsingLimit = getIntConfig(JsonConfig.MAX_PARSING_LIMIT, config, DEFAULT_MAX_PARSING_LIMIT);
+        this.maxMaterializedDepth = getIntConfig(JsonConfig.MAX_MATERIALIZED_DEPTH, config, DEFAULT_MAX_MATERIALIZED_DEPTH);
+        this.parallelReadThreshold = getIntConfig(JsonConfig.PARALLEL_READ_THRESHOLD, config, DEFAULT_PARALLEL_READ_THRESHOLD);
+        this.parallelWriteThreshold = getIntConfig(JsonConfig.PARALLEL_WRITE_THRESHOLD, config, DEFAULT_PARALLEL_WRITE_THRESHOLD);
         this.prettyPrinting = getBooleanConfig(JsonGenerator.PRETTY_PRINTING, config);
         this.rejectDuplicateKeys = getBooleanConfig(JsonConfig.REJECT_DUPLICATE_KEYS, config);
+        this.locationTracking = !getBooleanConfig(JsonConfig.DISABLE_LOCATION_TRACKING, config);
         this.bufferPool = getBufferPool(config, defaultPool);
         this.config = config != null ? Collections.unmodifiableMap(config) : null;
     }
@@ -102,8 +127,12 @@ final class JsonContext {
         this.bigDecimalLengthLimit = getIntConfig(JsonConfig.MAX_BIGDECIMAL_LEN, config, DEFAULT_MAX_BIGDECIMAL_LEN);
         this.depthLimit = getIntConfig(JsonConfig.MAX_DEPTH, config, DEFAULT_MAX_DEPTH);
         this.maxParsingLimit = getIntConfig(JsonConfig.MAX_PARSING_LIMIT, config, DEFAULT_MAX_PARSING_LIMIT);
+        this.maxMaterializedDepth = getIntConfig(JsonConfig.MAX_MATERIALIZED_DEPTH, config, DEFAULT_MAX_MATERIALIZED_DEPTH);
+        this.parallelReadThreshold = getIntConfig(JsonConfig.PARALLEL_READ_THRESHOLD, config, DEFAULT_PARALLEL_READ_THRESHOLD);
+        this.parallelWriteThreshold = getIntConfig(JsonConfig.PARALLEL_WRITE_THRESHOLD, config, DEFAULT_PARALLEL_WRITE_THRESHOLD);
         this.prettyPrinting = getBooleanConfig(JsonGenerator.PRETTY_PRINTING, config);
         this.rejectDuplicateKeys = getBooleanConfig(JsonConfig.REJECT_DUPLICATE_KEYS, config);
+        this.locationTracking = !getBooleanConfig(JsonConfig.DISABLE_LOCATION_TRACKING, config);
         this.bufferPool = getBufferPool(config, defaultPool);
         this.config = config != null
                 ? Collections.unmodifiableMap(copyPropertiesMap(this, config, properties)) : null;
@@ -133,6 +162,18 @@ final class JsonContext {
         return maxParsingLimit;
     }
 
+    int maxMaterializedDepth() {
+        return maxMaterializedDepth;
+    }
+
+    int parallelReadThreshold() {
+        return parallelReadThreshold;
+    }
+
+    int parallelWriteThreshold() {
+        return parallelWriteThreshold;
+    }
+
     boolean prettyPrinting() {
         return prettyPrinting;
     }
@@ -141,6 +182,10 @@ final class JsonContext {
         return rejectDuplicateKeys;
     }
 
+    boolean locationTracking() {
+        return locationTracking;
+    }
+
     BufferPool bufferPool() {
         return bufferPool;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,16 +17,20 @@
 package org.eclipse.parsson;
 
 import jakarta.json.stream.JsonGenerator;
-import jakarta.json.stream.JsonGeneratorFactory;
+import jakarta.json.stream.JsonParser;
 import java.io.OutputStream;
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.util.Map;
 
+import org.eclipse.parsson.api.JsonMemberFilter;
+import org.eclipse.parsson.api.JsonValueEncoder;
+import org.eclipse.parsson.api.ParssonGeneratorFactory;
+
 /**
  * @author Jitendra Kotamraju
  */
-class JsonGeneratorFactoryImpl implements JsonGeneratorFactory {
+class JsonGeneratorFactoryImpl implements ParssonGeneratorFactory {
 
     private final JsonContext jsonContext;
 
@@ -55,6 +59,16 @@ class JsonGeneratorFactoryImpl implements JsonGeneratorFactory {
                 : new JsonGeneratorImpl(out, charset, jsonContext);
     }
 
+    @Override
+    public JsonValueEncoder createValueEncoder(boolean arrayElements, int chunkSize) {
+        return new JsonValueEncoderImpl(arrayElements, chunkSize, jsonContext);
+    }
+
+    @Override
+    public boolean transcode(JsonParser parser, JsonGenerator generator, JsonMemberFilter filter) {
+        return JsonTranscoder.transcode(parser, generator, filter);
+    }
+
     @Override
     public Map<String, ?> getConfigInUse() {
         return jsonContext.config();
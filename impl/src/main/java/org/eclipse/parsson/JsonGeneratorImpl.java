@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,6 +17,7 @@
 package org.eclipse.parsson;
 
 import org.eclipse.parsson.api.BufferPool;
+import org.eclipse.parsson.api.ParssonGenerator;
 
 import jakarta.json.*;
 import jakarta.json.stream.JsonGenerationException;
@@ -24,16 +25,16 @@ import jakarta.json.stream.JsonGenerator;
 import java.io.*;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.Arrays;
 import java.util.Map;
 
 /**
  * @author Jitendra Kotamraju
  */
-class JsonGeneratorImpl implements JsonGenerator {
+class JsonGeneratorImpl implements ParssonGenerator {
 
     private static final char[] INT_MIN_VALUE_CHARS = "-2147483648".toCharArray();
     private static final int[] INT_CHARS_SIZE_TABLE = { 9, 99, 999, 9999, 99999,
@@ -80,10 +81,21 @@ class JsonGeneratorImpl implements JsonGenerator {
         IN_ARRAY
     }
 
+    private static final Scope[] SCOPES = Scope.values();
+
     private final BufferPool bufferPool;
     private final Writer writer;
-    private Context currentContext = new Context(Scope.IN_NONE);
-    private final Deque<Context> stack = new ArrayDeque<>();
+
+    // Current context is kept in two fields and enclosing contexts in a byte
+    // stack (scope ordinal << 1 | first) so that no object is allocated for
+    // every started object/array or written key
+    private Scope currentScope = Scope.IN_NONE;
+    private boolean currentFirst = true;
+    private byte[] stack = new byte[16];
+    private int depth = 0;
+    // Nesting depth of the structure continued by continueStructure() minus
+    // one, so that nestingDepth() counts the structures of the whole output
+    private int baseDepth = 0;
 
     // Using own buffering mechanism as JDK's BufferedWriter uses synchronized
     // methods. Also, flushBuffer() is useful when you don't want to actually
@@ -118,29 +130,27 @@ class JsonGeneratorImpl implements JsonGenerator {
 
     @Override
     public JsonGenerator writeStartObject() {
-        if (currentContext.scope == Scope.IN_OBJECT) {
-            throw new JsonGenerationException(JsonMessages.GENERATOR_ILLEGAL_METHOD(currentContext.scope));
+        if (currentScope == Scope.IN_OBJECT) {
+            throw new JsonGenerationException(JsonMessages.GENERATOR_ILLEGAL_METHOD(currentScope));
         }
-        if (currentContext.scope == Scope.IN_NONE && !currentContext.first) {
+        if (currentScope == Scope.IN_NONE && !currentFirst) {
             throw new JsonGenerationException(JsonMessages.GENERATOR_ILLEGAL_MULTIPLE_TEXT());
         }
         writeComma();
         writeChar('{');
-        stack.push(currentContext);
-        currentContext = new Context(Scope.IN_OBJECT);
+        pushContext(Scope.IN_OBJECT, true);
         return this;
     }
 
     @Override
     public JsonGenerator writeStartObject(String name) {
-        if (currentContext.scope != Scope.IN_OBJECT) {
+        if (currentScope != Scope.IN_OBJECT) {
             throw new JsonGenerationException(
-                    JsonMessages.GENERATOR_ILLEGAL_METHOD(currentContext.scope));
+                    JsonMessages.GENERATOR_ILLEGAL_METHOD(currentScope));
         }
         writeName(name);
         writeChar('{');
-        stack.push(currentContext);
-        currentContext = new Context(Scope.IN_OBJECT);
+        pushContext(Scope.IN_OBJECT, true);
         return this;
     }
 
@@ -159,9 +169,9 @@ class JsonGeneratorImpl implements JsonGenerator {
 
     @Override
     public JsonGenerator write(String name, int value) {
-        if (currentContext.scope != Scope.IN_OBJECT) {
+        if (currentScope != Scope.IN_OBJECT) {
             throw new JsonGenerationException(
-                    JsonMessages.GENERATOR_ILLEGAL_METHOD(currentContext.scope));
+                    JsonMessages.GENERATOR_ILLEGAL_METHOD(currentScope));
         }
         writeName(name);
         writeInt(value);
@@ -170,9 +180,9 @@ class JsonGeneratorImpl implements JsonGenerator {
 
     @Override
     public JsonGenerator write(String name, long value) {
-        if (currentContext.scope != Scope.IN_OBJECT) {
+        if (currentScope != Scope.IN_OBJECT) {
             throw new JsonGenerationException(
-                    JsonMessages.GENERATOR_ILLEGAL_METHOD(currentContext.scope));
+                    JsonMessages.GENERATOR_ILLEGAL_METHOD(currentScope));
         }
         writeName(name);
         writeString(String.valueOf(value));
@@ -181,9 +191,9 @@ class JsonGeneratorImpl implements JsonGenerator {
 
     @Override
     public JsonGenerator write(String name, double value) {
-        if (currentContext.scope != Scope.IN_OBJECT) {
+        if (currentScope != Scope.IN_OBJECT) {
             throw new JsonGenerationException(
-                    JsonMessages.GENERATOR_ILLEGAL_METHOD(currentContext.scope));
+                    JsonMessages.GENERATOR_ILLEGAL_METHOD(currentScope));
         }
         if (Double.isInfinite(value) || Double.isNaN(value)) {
             throw new NumberFormatException(JsonMessages.GENERATOR_DOUBLE_INFINITE_NAN());
@@ -195,9 +205,9 @@ class JsonGeneratorImpl implements JsonGenerator {
 
     @Override
     public JsonGenerator write(String name, BigInteger value) {
-        if (currentContext.scope != Scope.IN_OBJECT) {
+        if (currentScope != Scope.IN_OBJECT) {
             throw new JsonGenerationException(
-                    JsonMessages.GENERATOR_ILLEGAL_METHOD(currentContext.scope));
+                    JsonMessages.GENERATOR_ILLEGAL_METHOD(currentScope));
         }
         writeName(name);
         writeString(String.valueOf(value));
@@ -206,9 +216,9 @@ class JsonGeneratorImpl implements JsonGenerator {
 
     @Override
     public JsonGenerator write(String name, BigDecimal value) {
-        if (currentContext.scope != Scope.IN_OBJECT) {
+        if (currentScope != Scope.IN_OBJECT) {
             throw new JsonGenerationException(
-                    JsonMessages.GENERATOR_ILLEGAL_METHOD(currentContext.scope));
+                    JsonMessages.GENERATOR_ILLEGAL_METHOD(currentScope));
         }
         writeName(name);
         writeString(String.valueOf(value));
@@ -217,9 +227,9 @@ class JsonGeneratorImpl implements JsonGenerator {
 
     @Override
     public JsonGenerator write(String name, boolean value) {
-        if (currentContext.scope != Scope.IN_OBJECT) {
+        if (currentScope != Scope.IN_OBJECT) {
             throw new JsonGenerationException(
-                    JsonMessages.GENERATOR_ILLEGAL_METHOD(currentContext.scope));
+                    JsonMessages.GENERATOR_ILLEGAL_METHOD(currentScope));
         }
         writeName(name);
         writeString(value? "true" : "false");
@@ -228,9 +238,9 @@ class JsonGeneratorImpl implements JsonGenerator {
 
     @Override
     public JsonGenerator writeNull(String name) {
-        if (currentContext.scope != Scope.IN_OBJECT) {
+        if (currentScope != Scope.IN_OBJECT) {
             throw new JsonGenerationException(
-                    JsonMessages.GENERATOR_ILLEGAL_METHOD(currentContext.scope));
+                    JsonMessages.GENERATOR_ILLEGAL_METHOD(currentScope));
         }
         writeName(name);
         writeString("null");
@@ -245,9 +255,7 @@ class JsonGeneratorImpl implements JsonGenerator {
             case ARRAY:
                 JsonArray array = (JsonArray)value;
                 writeStartArray();
-                for(JsonValue child: array) {
-                    write(child);
-                }
+                writeElements(array);
                 writeEnd();
                 break;
             case OBJECT:
@@ -281,47 +289,55 @@ class JsonGeneratorImpl implements JsonGenerator {
         return this;
     }
 
+    // Writes the elements of an array, numbers of primitive-backed arrays
+    // without boxing them
+    private void writeElements(JsonArray array) {
+        if (array instanceof JsonNumberArrayImpl) {
+            ((JsonNumberArrayImpl) array).writeElements(this);
+            return;
+        }
+        for (JsonValue child : array) {
+            write(child);
+        }
+    }
+
     @Override
     public JsonGenerator writeStartArray() {
-        if (currentContext.scope == Scope.IN_OBJECT) {
-            throw new JsonGenerationException(JsonMessages.GENERATOR_ILLEGAL_METHOD(currentContext.scope));
+        if (currentScope == Scope.IN_OBJECT) {
+            throw new JsonGenerationException(JsonMessages.GENERATOR_ILLEGAL_METHOD(currentScope));
         }
-        if (currentContext.scope == Scope.IN_NONE && !currentContext.first) {
+        if (currentScope == Scope.IN_NONE && !currentFirst) {
             throw new JsonGenerationException(JsonMessages.GENERATOR_ILLEGAL_MULTIPLE_TEXT());
         }
         writeComma();
         writeChar('[');
-        stack.push(currentContext);
-        currentContext = new Context(Scope.IN_ARRAY);
+        pushContext(Scope.IN_ARRAY, true);
         return this;
     }
 
     @Override
     public JsonGenerator writeStartArray(String name) {
-        if (currentContext.scope != Scope.IN_OBJECT) {
+        if (currentScope != Scope.IN_OBJECT) {
             throw new JsonGenerationException(
-                    JsonMessages.GENERATOR_ILLEGAL_METHOD(currentContext.scope));
+                    JsonMessages.GENERATOR_ILLEGAL_METHOD(currentScope));
         }
         writeName(name);
         writeChar('[');
-        stack.push(currentContext);
-        currentContext = new Context(Scope.IN_ARRAY);
+        pushContext(Scope.IN_ARRAY, true);
         return this;
     }
 
     @Override
     public JsonGenerator write(String name, JsonValue value) {
-        if (currentContext.scope != Scope.IN_OBJECT) {
+        if (currentScope != Scope.IN_OBJECT) {
             throw new JsonGenerationException(
-                    JsonMessages.GENERATOR_ILLEGAL_METHOD(currentContext.scope));
+                    JsonMessages.GENERATOR_ILLEGAL_METHOD(currentScope));
         }
         switch (value.getValueType()) {
             case ARRAY:
                 JsonArray array = (JsonArray)value;
                 writeStartArray(name);
-                for(JsonValue child: array) {
-                    write(child);
-                }
+                writeElements(array);
                 writeEnd();
                 break;
             case OBJECT:
@@ -400,10 +416,10 @@ class JsonGeneratorImpl implements JsonGenerator {
     }
 
     private void checkContextForValue() {
-        if ((!currentContext.first && currentContext.scope != Scope.IN_ARRAY && currentContext.scope != Scope.IN_FIELD)
-                || (currentContext.first && currentContext.scope == Scope.IN_OBJECT)) {
+        if ((!currentFirst && currentScope != Scope.IN_ARRAY && currentScope != Scope.IN_FIELD)
+                || (currentFirst && currentScope == Scope.IN_OBJECT)) {
             throw new JsonGenerationException(
-                    JsonMessages.GENERATOR_ILLEGAL_METHOD(currentContext.scope));
+                    JsonMessages.GENERATOR_ILLEGAL_METHOD(currentScope));
         }
     }
 
@@ -417,11 +433,26 @@ class JsonGeneratorImpl implements JsonGenerator {
     }
 
     private void popFieldContext() {
-        if (currentContext.scope == Scope.IN_FIELD) {
-            currentContext = stack.pop();
+        if (currentScope == Scope.IN_FIELD) {
+            popContext();
         }
     }
 
+    private void pushContext(Scope scope, boolean first) {
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth << 1);
+        }
+        stack[depth++] = (byte) ((currentScope.ordinal() << 1) | (currentFirst ? 1 : 0));
+        currentScope = scope;
+        currentFirst = first;
+    }
+
+    private void popContext() {
+        byte context = stack[--depth];
+        currentScope = SCOPES[context >> 1];
+        currentFirst = (context & 1) != 0;
+    }
+
     @Override
     public JsonGenerator write(boolean value) {
         checkContextForValue();
@@ -454,32 +485,30 @@ class JsonGeneratorImpl implements JsonGenerator {
 
     @Override
     public JsonGenerator writeKey(String name) {
-        if (currentContext.scope != Scope.IN_OBJECT) {
+        if (currentScope != Scope.IN_OBJECT) {
             throw new JsonGenerationException(
-                    JsonMessages.GENERATOR_ILLEGAL_METHOD(currentContext.scope));
+                    JsonMessages.GENERATOR_ILLEGAL_METHOD(currentScope));
         }
         writeName(name);
-        stack.push(currentContext);
-        currentContext = new Context(Scope.IN_FIELD);
-        currentContext.first = false;
+        pushContext(Scope.IN_FIELD, false);
         return this;
     }
 
     @Override
     public JsonGenerator writeEnd() {
-        if (currentContext.scope == Scope.IN_NONE) {
+        if (currentScope == Scope.IN_NONE) {
             throw new JsonGenerationException("writeEnd() cannot be called in no context");
         }
-        writeChar(currentContext.scope == Scope.IN_ARRAY ? ']' : '}');
-        currentContext = stack.pop();
+        writeChar(currentScope == Scope.IN_ARRAY ? ']' : '}');
+        popContext();
         popFieldContext();
         return this;
     }
 
     void write(String name, CharSequence fieldValue) {
-      if (currentContext.scope != Scope.IN_OBJECT) {
+      if (currentScope != Scope.IN_OBJECT) {
           throw new JsonGenerationException(
-                  JsonMessages.GENERATOR_ILLEGAL_METHOD(currentContext.scope));
+                  JsonMessages.GENERATOR_ILLEGAL_METHOD(currentScope));
       }
       writeName(name);
       writeEscapedString(fieldValue);
@@ -489,35 +518,172 @@ class JsonGeneratorImpl implements JsonGenerator {
         if (isCommaAllowed()) {
             writeChar(',');
         }
-        currentContext.first = false;
+        currentFirst = false;
     }
 
-    protected boolean inNone() {
-        return currentContext.scope == Scope.IN_NONE;
+    @Override
+    public JsonGenerator writeRaw(CharSequence json, boolean check) {
+        if (check) {
+            checkRawValue(json);
+        }
+        checkContextForValue();
+        writeComma();
+        writeString(json);
+        popFieldContext();
+        return this;
     }
 
-    boolean isCommaAllowed() {
-        return !currentContext.first && currentContext.scope != Scope.IN_FIELD;
+    @Override
+    public JsonGenerator writeRaw(String name, CharSequence json, boolean check) {
+        if (check) {
+            checkRawValue(json);
+        }
+        writeKey(name);
+        return writeRaw(json, false);
+    }
+
+    // Checks that the text is one value with balanced brackets and
+    // terminated strings, the tokens themselves are not validated
+    private static void checkRawValue(CharSequence json) {
+        byte[] brackets = new byte[16];
+        int depth = 0;
+        // Values started at depth 0, more than one is invalid
+        int values = 0;
+        // Whether c continues a number or literal
+        boolean inToken = false;
+        int len = json.length();
+        for (int i = 0; i < len; i++) {
+            char c = json.charAt(i);
+            switch (c) {
+                case ' ':
+                case '\t':
+                case '\n':
+                case '\r':
+                    inToken = false;
+                    continue;
+                case '"':
+                    if (depth == 0) {
+                        values++;
+                    }
+                    while (++i < len && (c = json.charAt(i)) != '"') {
+                        if (c == '\\') {
+                            i++;
+                        }
+                    }
+                    if (i >= len) {
+                        throw new JsonGenerationException(JsonMessages.GENERATOR_INVALID_RAW_JSON(len));
+                    }
+                    inToken = false;
+                    break;
+                case '{':
+                case '[':
+                    if (depth == 0) {
+                        values++;
+                    }
+                    if (depth == brackets.length) {
+                        brackets = Arrays.copyOf(brackets, 2 * depth);
+                    }
+                    brackets[depth++] = (byte) c;
+                    inToken = false;
+                    break;
+                case '}':
+                case ']':
+                    if (depth == 0 || brackets[--depth] != (c == '}' ? '{' : '[')) {
+                        throw new JsonGenerationException(JsonMessages.GENERATOR_INVALID_RAW_JSON(i));
+                    }
+                    inToken = false;
+                    break;
+                case ',':
+                case ':':
+                    if (depth == 0) {
+                        throw new JsonGenerationException(JsonMessages.GENERATOR_INVALID_RAW_JSON(i));
+                    }
+                    inToken = false;
+                    break;
+                default:
+                    if (!inToken && depth == 0) {
+                        values++;
+                    }
+                    inToken = true;
+            }
+            if (values > 1) {
+                throw new JsonGenerationException(JsonMessages.GENERATOR_INVALID_RAW_JSON(i));
+            }
+        }
+        if (depth != 0 || values == 0) {
+            throw new JsonGenerationException(JsonMessages.GENERATOR_INVALID_RAW_JSON(len));
+        }
     }
 
-    protected void writeColon() {
-        writeChar(':');
+    // Writes a string value or the value of a written key, e.g. a view of
+    // the parser buffer, without creating a String
+    void writeStringValue(CharSequence value) {
+        checkContextForValue();
+        writeComma();
+        writeEscapedString(value);
+        popFieldContext();
+    }
+
+    // Writes a number value or the value of a written key from its text
+    void writeNumberValue(CharSequence value) {
+        checkContextForValue();
+        writeComma();
+        writeString(value);
+        popFieldContext();
     }
 
-    private static class Context {
-        boolean first = true;
-        final Scope scope;
+    // Number of arrays and objects the next value is nested in
+    int nestingDepth() {
+        return baseDepth + depth;
+    }
+
+    // Continues the members of an array or object started by another
+    // generator at the given nesting depth, nothing is written. Used to
+    // write members in parallel chunks, which are joined by writeFragment()
+    void continueStructure(boolean object, boolean first, int nestingDepth) {
+        baseDepth = nestingDepth - 1;
+        pushContext(object ? Scope.IN_OBJECT : Scope.IN_ARRAY, first);
+    }
+
+    // Writes members written by another generator after continueStructure()
+    void writeFragment(char[] chars, int offset, int length) {
+        if (length > 0) {
+            flushBuffer();
+            try {
+                writer.write(chars, offset, length);
+            } catch (IOException ioe) {
+                throw new JsonException(JsonMessages.GENERATOR_WRITE_IO_ERR(), ioe);
+            }
+            currentFirst = false;
+        }
+    }
 
-        Context(Scope scope) {
-            this.scope = scope;
+    // Ends a complete JSON text with the separator, so that another text can
+    // be written. Used for streams of top-level values
+    void writeTextSeparator(char separator) {
+        if (currentScope != Scope.IN_NONE || currentFirst) {
+            throw new JsonGenerationException(JsonMessages.GENERATOR_INCOMPLETE_JSON());
         }
+        writeChar(separator);
+        currentFirst = true;
+    }
+
+    protected boolean inNone() {
+        return currentScope == Scope.IN_NONE;
+    }
+
+    boolean isCommaAllowed() {
+        return !currentFirst && currentScope != Scope.IN_FIELD;
+    }
 
+    protected void writeColon() {
+        writeChar(':');
     }
 
     @Override
     public void close() {
         if (!closed) {
-            if (currentContext.scope != Scope.IN_NONE || currentContext.first) {
+            if (currentScope != Scope.IN_NONE || currentFirst) {
                 throw new JsonGenerationException(JsonMessages.GENERATOR_INCOMPLETE_JSON());
             }
             flushBuffer();
@@ -531,6 +697,15 @@ class JsonGeneratorImpl implements JsonGenerator {
         }
     }
 
+    // Releases the buffer of an abandoned generator, the writer is not
+    // flushed or closed
+    void release() {
+        if (!closed) {
+            bufferPool.recycle(buf);
+            closed = true;
+        }
+    }
+
     // begin, end-1 indexes represent characters that need not
     // be escaped
     //
@@ -595,6 +770,12 @@ class JsonGeneratorImpl implements JsonGenerator {
             int no = Math.min(buf.length - len, end - begin);
             if (str instanceof String) {
               ((String)str).getChars(begin, begin + no, buf, len);
+            } else if (str instanceof StringBuilder) {
+              ((StringBuilder) str).getChars(begin, begin + no, buf, len);
+            } else if (str instanceof CharBuffer && ((CharBuffer) str).hasArray()) {
+              // view of a parser buffer, see writeStringValue()
+              CharBuffer cb = (CharBuffer) str;
+              System.arraycopy(cb.array(), cb.arrayOffset() + cb.position() + begin, buf, len, no);
             } else {
               // if passed a non-string, assume this is deliberate
               getChars(str, begin, begin + no, buf, len);
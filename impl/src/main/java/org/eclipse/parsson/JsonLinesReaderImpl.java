@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+import jakarta.json.JsonException;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonLocation;
+import jakarta.json.stream.JsonParsingException;
+
+import org.eclipse.parsson.api.BufferPool;
+import org.eclipse.parsson.api.JsonLinesReader;
+
+/**
+ * {@link JsonLinesReader} implementation. Lines are found by a plain scan
+ * for '\n' in a pooled buffer, and each line is parsed in place by a
+ * reusable in-memory parser. Limits are thus counted per line, and a bad
+ * line never affects the next one.
+ */
+final class JsonLinesReaderImpl implements JsonLinesReader {
+
+    private final Reader reader;
+    private final BufferPool bufferPool;
+    private final int maxParsingLimit;
+    private final ReusableJsonParserImpl parser;
+
+    // Chars read ahead, buf[pos, end) are not consumed yet
+    private char[] buf;
+    private int pos;
+    private int end;
+    // Stream offset of buf[0]
+    private long bufOffset;
+    private boolean eof;
+    // Number of the last line consumed
+    private long lineNo;
+    private boolean closed;
+
+    JsonLinesReaderImpl(Reader reader, JsonContext jsonContext) {
+        this.reader = reader;
+        this.bufferPool = jsonContext.bufferPool();
+        this.maxParsingLimit = jsonContext.maxParsingLimit();
+        this.parser = new ReusableJsonParserImpl(jsonContext);
+        this.buf = bufferPool.take();
+    }
+
+    @Override
+    public JsonValue readValue() {
+        while (true) {
+            int lineEnd = nextLine();
+            if (lineEnd < 0) {
+                return null;
+            }
+            int start = pos;
+            pos = lineEnd < end ? lineEnd + 1 : lineEnd;
+            lineNo++;
+            if (isBlank(start, lineEnd)) {
+                continue;
+            }
+            if (lineEnd - start > maxParsingLimit) {
+                // a long line that still fitted in the buffer
+                throw new JsonParsingException(
+                        JsonMessages.PARSER_INVALID_RECORD(lineNo, JsonMessages.PARSER_COUNT_EXCEEDED(maxParsingLimit)),
+                        new JsonLocationImpl(lineNo, -1, bufOffset + start));
+            }
+            parser.reset(buf, start, lineEnd - start);
+            try {
+                parser.next();
+                JsonValue value = parser.getValue();
+                // rejects anything but whitespace after the value
+                parser.hasNext();
+                return value;
+            } catch (JsonParsingException e) {
+                JsonLocation location = e.getLocation();
+                throw new JsonParsingException(JsonMessages.PARSER_INVALID_RECORD(lineNo, e.getMessage()), e,
+                        new JsonLocationImpl(lineNo, location.getColumnNumber(),
+                                bufOffset + start + location.getStreamOffset()));
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            parser.close();
+            bufferPool.recycle(buf);
+            try {
+                reader.close();
+            } catch (IOException ioe) {
+                throw new JsonException(JsonMessages.PARSER_TOKENIZER_CLOSE_IO(), ioe);
+            }
+        }
+    }
+
+    // Returns the index of the '\n' that ends the line at pos, or end for
+    // a last line without '\n', or -1 at the end of input
+    private int nextLine() {
+        int i = pos;
+        while (true) {
+            while (i < end) {
+                if (buf[i] == '\n') {
+                    return i;
+                }
+                i++;
+            }
+            if (eof) {
+                return pos < end ? end : -1;
+            }
+            if (end - pos > maxParsingLimit) {
+                skipLongLine();
+            }
+            if (pos > 0) {
+                // Left shift the current line to make space
+                System.arraycopy(buf, pos, buf, 0, end - pos);
+                i -= pos;
+                end -= pos;
+                bufOffset += pos;
+                pos = 0;
+            } else if (end == buf.length) {
+                char[] doubleBuf = Arrays.copyOf(buf, 2 * buf.length);
+                bufferPool.recycle(buf);
+                buf = doubleBuf;
+            }
+            fill();
+        }
+    }
+
+    // Drops the rest of a line that is longer than the parsing limit
+    private void skipLongLine() {
+        long lineOffset = bufOffset + pos;
+        while (true) {
+            bufOffset += end;
+            pos = end = 0;
+            fill();
+            int i = 0;
+            while (i < end && buf[i] != '\n') {
+                i++;
+            }
+            if (i < end || eof) {
+                pos = i < end ? i + 1 : i;
+                lineNo++;
+                throw new JsonParsingException(
+                        JsonMessages.PARSER_INVALID_RECORD(lineNo, JsonMessages.PARSER_COUNT_EXCEEDED(maxParsingLimit)),
+                        new JsonLocationImpl(lineNo, -1, lineOffset));
+            }
+        }
+    }
+
+    private void fill() {
+        try {
+            int len = reader.read(buf, end, buf.length - end);
+            if (len < 0) {
+                eof = true;
+            } else {
+                end += len;
+            }
+        } catch (IOException ioe) {
+            throw new JsonException(JsonMessages.TOKENIZER_IO_ERR(), ioe);
+        }
+    }
+
+    private boolean isBlank(int from, int to) {
+        for (int i = from; i < to; i++) {
+            char ch = buf[i];
+            if (ch != 0x20 && ch != 0x09 && ch != 0x0d) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
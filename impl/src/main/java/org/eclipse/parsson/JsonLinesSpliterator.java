@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import jakarta.json.JsonException;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParsingException;
+
+/**
+ * Spliterator over the records of a UTF-8 JSON Lines file region. A split
+ * cuts the region in half at the first '\n' after the middle; the byte 0x0A
+ * never occurs inside a multi-byte UTF-8 sequence, so no decoding is needed
+ * to find it. Each region is memory mapped and parsed by its own
+ * {@link JsonLinesReaderImpl}, with buffers from the shared pool. Invalid
+ * records are passed to the error handler and skipped, the same way a
+ * {@link JsonLinesReaderImpl} continues after a bad line, or end the stream
+ * without a handler.
+ */
+final class JsonLinesSpliterator implements Spliterator<JsonValue> {
+
+    // Regions smaller than this are not split any further
+    static final long MIN_SPLIT_SIZE = 1 << 20;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final JsonContext jsonContext;
+    private final long minSplitSize;
+    private final int characteristics;
+    private final Consumer<? super JsonParsingException> errorHandler;
+    // Remaining region [start, end), start is fixed once traversal begins
+    private long start;
+    private final long end;
+    private JsonLinesReaderImpl reader;
+    private boolean done;
+
+    JsonLinesSpliterator(Path path, FileChannel channel, long start, long end, long minSplitSize,
+                         boolean ordered, Consumer<? super JsonParsingException> errorHandler,
+                         JsonContext jsonContext) {
+        this.path = path;
+        this.channel = channel;
+        this.start = start;
+        this.end = end;
+        this.minSplitSize = minSplitSize;
+        this.characteristics = (ordered ? ORDERED : 0) | NONNULL | IMMUTABLE;
+        this.errorHandler = errorHandler;
+        this.jsonContext = jsonContext;
+    }
+
+    // Parallel stream of the file records, the file is closed with the stream
+    static Stream<JsonValue> stream(Path path, long minSplitSize, boolean ordered,
+                                    Consumer<? super JsonParsingException> errorHandler, JsonContext jsonContext) {
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            JsonLinesSpliterator spliterator = new JsonLinesSpliterator(
+                    path, channel, 0, channel.size(), minSplitSize, ordered, errorHandler, jsonContext);
+            FileChannel toClose = channel;
+            return StreamSupport.stream(spliterator, true).onClose(() -> {
+                try {
+                    toClose.close();
+                } catch (IOException ioe) {
+                    throw new JsonException(JsonMessages.PARSER_INPUT_FILE_IOERR(path), ioe);
+                }
+            });
+        } catch (IOException ioe) {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                    // the open failure is reported instead
+                }
+            }
+            throw new JsonException(JsonMessages.PARSER_INPUT_FILE_IOERR(path), ioe);
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super JsonValue> action) {
+        if (done) {
+            return false;
+        }
+        JsonValue value = null;
+        try {
+            value = readValue(reader());
+        } finally {
+            if (value == null) {
+                finish();
+            }
+        }
+        if (value == null) {
+            return false;
+        }
+        action.accept(value);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super JsonValue> action) {
+        if (done) {
+            return;
+        }
+        JsonLinesReaderImpl r = reader();
+        try {
+            for (JsonValue value = readValue(r); value != null; value = readValue(r)) {
+                action.accept(value);
+            }
+        } finally {
+            finish();
+        }
+    }
+
+    @Override
+    public Spliterator<JsonValue> trySplit() {
+        if (reader != null || done || end - start < 2 * minSplitSize) {
+            return null;
+        }
+        long split = nextLineStart(start + (end - start) / 2);
+        if (split >= end) {
+            return null;
+        }
+        JsonLinesSpliterator prefix = new JsonLinesSpliterator(
+                path, channel, start, split, minSplitSize, (characteristics & ORDERED) != 0, errorHandler, jsonContext);
+        start = split;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        // bytes rather than records, only relative sizes matter for splitting
+        return done ? 0 : end - start;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+
+    private JsonLinesReaderImpl reader() {
+        if (reader == null) {
+            try {
+                reader = new JsonLinesReaderImpl(
+                        new ByteBufferDecoder(channel, start, end, ByteBufferDecoder.WINDOW_SIZE), jsonContext);
+            } catch (IOException ioe) {
+                throw new JsonException(JsonMessages.PARSER_INPUT_FILE_IOERR(path), ioe);
+            }
+        }
+        return reader;
+    }
+
+    // Next valid record, invalid ones are reported to the error handler
+    private JsonValue readValue(JsonLinesReaderImpl r) {
+        while (true) {
+            try {
+                return r.readValue();
+            } catch (JsonParsingException e) {
+                if (errorHandler == null) {
+                    throw e;
+                }
+                errorHandler.accept(e);
+            }
+        }
+    }
+
+    private void finish() {
+        done = true;
+        if (reader != null) {
+            reader.close();
+            reader = null;
+        }
+    }
+
+    // Returns the position after the first '\n' at or after the given position
+    private long nextLineStart(long position) {
+        ByteBuffer bytes = ByteBuffer.allocate(8192);
+        try {
+            while (position < end) {
+                bytes.clear();
+                int len = channel.read(bytes, position);
+                if (len < 0) {
+                    return end;
+                }
+                for (int i = 0; i < len; i++) {
+                    if (bytes.get(i) == '\n') {
+                        return position + i + 1;
+                    }
+                }
+                position += len;
+            }
+            return end;
+        } catch (IOException ioe) {
+            throw new JsonException(JsonMessages.PARSER_INPUT_FILE_IOERR(path), ioe);
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import jakarta.json.JsonException;
+import jakarta.json.JsonValue;
+
+import org.eclipse.parsson.api.JsonLinesWriter;
+
+/**
+ * {@link JsonLinesWriter} implementation. All records are written by one
+ * generator, which ends every record with a '\n' text separator.
+ */
+final class JsonLinesWriterImpl implements JsonLinesWriter {
+
+    private final Writer writer;
+    private final JsonGeneratorImpl generator;
+    private boolean closed;
+
+    JsonLinesWriterImpl(Writer writer, JsonContext jsonContext) {
+        this.writer = writer;
+        this.generator = new JsonGeneratorImpl(writer, jsonContext);
+    }
+
+    @Override
+    public void write(JsonValue value) {
+        if (closed) {
+            throw new IllegalStateException(JsonMessages.WRITER_CLOSED());
+        }
+        generator.write(value);
+        generator.writeTextSeparator('\n');
+    }
+
+    @Override
+    public void flush() {
+        if (closed) {
+            throw new IllegalStateException(JsonMessages.WRITER_CLOSED());
+        }
+        generator.flush();
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            // generator.close() expects one complete text, only its buffer is flushed
+            generator.flushBuffer();
+            generator.release();
+            try {
+                writer.close();
+            } catch (IOException ioe) {
+                throw new JsonException(JsonMessages.GENERATOR_CLOSE_IO_ERR(), ioe);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson;
+
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParsingException;
+
+import org.eclipse.parsson.JsonTokenizer.JsonToken;
+
+/**
+ * Positions of the members of an array or object of in-memory input, as
+ * found by {@link JsonTokenizer#memberRanges(boolean, int, int)}. Each member
+ * is parsed in place on demand, so that members can be parsed by different
+ * threads, each with its own parser. Stream offsets of the member parsers
+ * count from the start of the document, and the lines of a parsing error
+ * are counted by parsing the failed member again.
+ */
+final class JsonMemberRanges {
+
+    private final char[] chars;
+    // Index of the start of the document in chars
+    private final int origin;
+    // bounds[i] is the position of the separator before member i,
+    // bounds[count] the position of the closing bracket
+    private final int[] bounds;
+    // colons[i] is the position of the colon of object member i, or 0 if missing
+    private final int[] colons;
+    private final int count;
+    // nesting depth of the array or object
+    private final int depth;
+    // line number and stream offset of the line start at the closing bracket
+    private final long endLineNo;
+    private final long endLineOffset;
+
+    JsonMemberRanges(char[] chars, int origin, int[] bounds, int[] colons, int count, int depth,
+            long endLineNo, long endLineOffset) {
+        this.chars = chars;
+        this.origin = origin;
+        this.bounds = bounds;
+        this.colons = colons;
+        this.count = count;
+        this.depth = depth;
+        this.endLineNo = endLineNo;
+        this.endLineOffset = endLineOffset;
+    }
+
+    int count() {
+        return count;
+    }
+
+    // Position of the closing bracket
+    int end() {
+        return bounds[count];
+    }
+
+    long endLineNo() {
+        return endLineNo;
+    }
+
+    long endLineOffset() {
+        return endLineOffset;
+    }
+
+    // Creates a parser for the members, which counts their nesting from the
+    // depth of the array or object
+    ReusableJsonParserImpl newParser(JsonContext jsonContext) {
+        ReusableJsonParserImpl parser = new ReusableJsonParserImpl(jsonContext);
+        parser.setBaseDepth(depth);
+        return parser;
+    }
+
+    // Parses the array element or the object member value i
+    JsonValue value(int i, ReusableJsonParserImpl parser) {
+        int end = bounds[i + 1];
+        int start = colons == null ? bounds[i] + 1 : colons[i] == 0 ? end : colons[i] + 1;
+        return parse(start, end, parser);
+    }
+
+    // Positions the parser before the array element i
+    void element(int i, ReusableJsonParserImpl parser) {
+        parser.reset(chars, bounds[i] + 1, bounds[i + 1] - bounds[i] - 1);
+    }
+
+    // Parses the name of the object member i
+    String key(int i, ReusableJsonParserImpl parser) {
+        int start = bounds[i] + 1;
+        int end = colons[i] == 0 ? bounds[i + 1] : colons[i];
+        reset(parser, start, end, false);
+        try {
+            return parseKey(parser);
+        } catch (JsonParsingException e) {
+            // again with the line and column in the document
+            reset(parser, start, end, true);
+            return parseKey(parser);
+        }
+    }
+
+    private static String parseKey(ReusableJsonParserImpl parser) {
+        JsonParser.Event event = parser.next();
+        if (event != JsonParser.Event.VALUE_STRING) {
+            throw new JsonParsingException(
+                    JsonMessages.PARSER_INVALID_TOKEN(token(event), parser.getLastCharLocation(), "[STRING]"),
+                    parser.getLastCharLocation());
+        }
+        String key = parser.getString();
+        // rejects anything but whitespace after the name
+        parser.hasNext();
+        return key;
+    }
+
+    private static JsonToken token(JsonParser.Event event) {
+        for (JsonToken token : JsonToken.values()) {
+            if (token.getEvent() == event) {
+                return token;
+            }
+        }
+        return JsonToken.EOF;
+    }
+
+    private JsonValue parse(int start, int end, ReusableJsonParserImpl parser) {
+        reset(parser, start, end, false);
+        try {
+            return parseValue(parser);
+        } catch (JsonParsingException e) {
+            // again with the line and column in the document
+            reset(parser, start, end, true);
+            return parseValue(parser);
+        }
+    }
+
+    private void reset(ReusableJsonParserImpl parser, int start, int end, boolean lines) {
+        parser.reset(chars, start, end - start);
+        parser.tokenizer.relocate(origin, lines);
+    }
+
+    private static JsonValue parseValue(ReusableJsonParserImpl parser) {
+        parser.next();
+        JsonValue value = parser.getValue();
+        // rejects anything but whitespace after the value
+        parser.hasNext();
+        return value;
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,6 +16,7 @@
 
 package org.eclipse.parsson;
 
+import java.util.Map;
 import java.util.Objects;
 
 import jakarta.json.JsonMergePatch;
@@ -67,20 +68,25 @@ public final class JsonMergePatchImpl implements JsonMergePatch {
             target = JsonValue.EMPTY_JSON_OBJECT;
         }
         JsonObject targetJsonObject = target.asJsonObject();
-        JsonObjectBuilder builder =
-            new JsonObjectBuilderImpl(targetJsonObject, jsonContext);
-        patch.asJsonObject().forEach((key, value) -> {
+        // each member is updated in place of copying the target, large
+        // objects share their unchanged members with the result
+        JsonObject result = targetJsonObject;
+        for (Map.Entry<String, JsonValue> member : patch.asJsonObject().entrySet()) {
+            String key = member.getKey();
+            JsonValue value = member.getValue();
             if (value == JsonValue.NULL) {
                 if (targetJsonObject.containsKey(key)) {
-                    builder.remove(key);
+                    result = JsonObjectBuilderImpl.remove(result, key, jsonContext);
                 }
             } else if (targetJsonObject.containsKey(key)) {
-                builder.add(key, mergePatch(targetJsonObject.get(key), value));
+                result = JsonObjectBuilderImpl.put(result, key,
+                        mergePatch(targetJsonObject.get(key), value), jsonContext);
             } else {
-                builder.add(key, mergePatch(JsonValue.EMPTY_JSON_OBJECT, value));
+                result = JsonObjectBuilderImpl.put(result, key,
+                        mergePatch(JsonValue.EMPTY_JSON_OBJECT, value), jsonContext);
             }
-        });
-        return builder.build();
+        }
+        return result;
     }
 
     /**
@@ -101,7 +107,7 @@ public final class JsonMergePatchImpl implements JsonMergePatch {
         s.forEach((key, value) -> {
             if (t.containsKey(key)) {
                 // key present in both.
-                if (! value.equals(t.get(key))) {
+                if (! JsonPatchImpl.DiffGenerator.equalValues(value, t.get(key))) {
                     // If the values are equal, nop, else get diff for the values
                     builder.add(key, diff(value, t.get(key), jsonContext));
                 }
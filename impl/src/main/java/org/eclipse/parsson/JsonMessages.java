@@ -19,6 +19,7 @@ package org.eclipse.parsson;
 
 import jakarta.json.stream.JsonLocation;
 import jakarta.json.stream.JsonParser;
+import java.nio.file.Path;
 import java.text.MessageFormat;
 import java.util.ResourceBundle;
 import jakarta.json.JsonObject;
@@ -89,6 +90,46 @@ final class JsonMessages {
         return localize("parser.getValueStream.err");
     }
 
+    static String PARSER_NONBLOCKING_INCOMPLETE() {
+        return localize("parser.nonblocking.incomplete");
+    }
+
+    static String PARSER_NONBLOCKING_ENDED() {
+        return localize("parser.nonblocking.ended");
+    }
+
+    static String PARSER_NONBLOCKING_NEEDS_INPUT() {
+        return localize("parser.nonblocking.needs.input");
+    }
+
+    static String PARSER_EXPECTED_ARRAY(JsonParser.Event event) {
+        return localize("parser.expected.array", event);
+    }
+
+    static String PARSER_EXPECTED_NUMBER(JsonParser.Event event) {
+        return localize("parser.expected.number", event);
+    }
+
+    static String PARSER_GETCOLUMNS_ERR(JsonParser.Event event) {
+        return localize("parser.getColumns.err", event);
+    }
+
+    static String PARSER_COLUMN_TYPE_ERR(String column, Object type, JsonParser.Event event) {
+        return localize("parser.column.type.err", column, type, event);
+    }
+
+    static String PARSER_COLUMN_UNKNOWN(String column) {
+        return localize("parser.column.unknown", column);
+    }
+
+    static String PARSER_COLUMN_TYPE_MISMATCH(String column, Object type) {
+        return localize("parser.column.type.mismatch", column, type);
+    }
+
+    static String PARSER_INVALID_RECORD(long lineNo, String message) {
+        return localize("parser.invalid.record", lineNo, message);
+    }
+
     static String PARSER_EXPECTED_EOF(JsonTokenizer.JsonToken token) {
         return localize("parser.expected.eof", token);
     }
@@ -117,6 +158,10 @@ final class JsonMessages {
         return localize("parser.input.enc.detect.ioerr");
     }
 
+    static String PARSER_INPUT_FILE_IOERR(Path path) {
+        return localize("parser.input.file.ioerr", path);
+    }
+
     static String PARSER_INPUT_NESTED_TOO_DEEP(int limit) {
         return localize("parser.input.nested.too.deep", limit);
     }
@@ -154,6 +199,14 @@ final class JsonMessages {
         return localize("generator.incomplete.json");
     }
 
+    static String GENERATOR_VALUE_ENCODER_COMPLETED() {
+        return localize("generator.value.encoder.completed");
+    }
+
+    static String GENERATOR_INVALID_RAW_JSON(int index) {
+        return localize("generator.invalid.raw.json", index);
+    }
+
     static String GENERATOR_ILLEGAL_MULTIPLE_TEXT() {
         return localize("generator.illegal.multiple.text");
     }
@@ -165,6 +218,10 @@ final class JsonMessages {
         return localize("writer.write.already.called");
     }
 
+    static String WRITER_CLOSED() {
+        return localize("writer.closed");
+    }
+
     // reader messages
     static String READER_READ_ALREADY_CALLED() {
         return localize("reader.read.already.called");
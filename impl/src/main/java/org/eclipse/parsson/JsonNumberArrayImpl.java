@@ -0,0 +1,470 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import jakarta.json.JsonWriter;
+import jakarta.json.stream.JsonGenerator;
+
+import org.eclipse.parsson.api.JsonNumberArray;
+
+/**
+ * Immutable arrays of numbers backed by primitive arrays. Integers are held
+ * as {@code int} or {@code long}, and decimals as {@code double} only if
+ * their text is what {@link Double#toString(double)} prints, so that boxed
+ * elements equal and print as the numbers that were read.
+ */
+abstract class JsonNumberArrayImpl extends AbstractList<JsonValue> implements JsonNumberArray, RandomAccess {
+
+    final JsonContext jsonContext;
+    private int hashCode;
+
+    JsonNumberArrayImpl(JsonContext jsonContext) {
+        this.jsonContext = jsonContext;
+    }
+
+    // Returns whether text is how Double.toString() prints value in plain
+    // notation, then BigDecimal prints it the same way
+    static boolean isPlainDouble(CharSequence text, double value) {
+        if (value == 0 && text.length() > 0 && text.charAt(0) == '-') {
+            // BigDecimal has no negative zero
+            return false;
+        }
+        String printed = Double.toString(value);
+        return printed.indexOf('E') < 0 && printed.contentEquals(text);
+    }
+
+    // Returns the numbers as a primitive-backed array, or null unless
+    // every element fits
+    static JsonArray of(List<JsonValue> values, JsonContext jsonContext) {
+        if (values.isEmpty()) {
+            return null;
+        }
+        Collector numbers = new Collector(jsonContext);
+        for (JsonValue value : values) {
+            if (!(value instanceof JsonNumberImpl) || !((JsonNumberImpl) value).addTo(numbers)) {
+                return null;
+            }
+        }
+        return numbers.build();
+    }
+
+    // Writes the elements without boxing them
+    abstract void writeElements(JsonGenerator generator);
+
+    abstract JsonNumber box(int index);
+
+    final void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+    }
+
+    @Override
+    public JsonValue get(int index) {
+        return box(index);
+    }
+
+    @Override
+    public JsonObject getJsonObject(int index) {
+        return (JsonObject) get(index);
+    }
+
+    @Override
+    public JsonArray getJsonArray(int index) {
+        return (JsonArray) get(index);
+    }
+
+    @Override
+    public JsonNumber getJsonNumber(int index) {
+        return box(index);
+    }
+
+    @Override
+    public JsonString getJsonString(int index) {
+        return (JsonString) get(index);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends JsonValue> List<T> getValuesAs(Class<T> clazz) {
+        return (List<T>) this;
+    }
+
+    @Override
+    public String getString(int index) {
+        return getJsonString(index).getString();
+    }
+
+    @Override
+    public String getString(int index, String defaultValue) {
+        return defaultValue;
+    }
+
+    @Override
+    public int getInt(int index, int defaultValue) {
+        return index >= 0 && index < size() ? getInt(index) : defaultValue;
+    }
+
+    @Override
+    public boolean getBoolean(int index) {
+        checkIndex(index);
+        throw new ClassCastException();
+    }
+
+    @Override
+    public boolean getBoolean(int index, boolean defaultValue) {
+        return defaultValue;
+    }
+
+    @Override
+    public boolean isNull(int index) {
+        checkIndex(index);
+        return false;
+    }
+
+    @Override
+    public ValueType getValueType() {
+        return ValueType.ARRAY;
+    }
+
+    @Override
+    public int[] toIntArray() {
+        int[] values = new int[size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = getInt(i);
+        }
+        return values;
+    }
+
+    @Override
+    public long[] toLongArray() {
+        long[] values = new long[size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = getLong(i);
+        }
+        return values;
+    }
+
+    @Override
+    public double[] toDoubleArray() {
+        double[] values = new double[size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = getDouble(i);
+        }
+        return values;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof JsonNumberArrayImpl) {
+            JsonNumberArrayImpl other = (JsonNumberArrayImpl) obj;
+            if (hashCode != 0 && other.hashCode != 0 && hashCode != other.hashCode) {
+                return false;
+            }
+            if (isIntegral() != other.isIntegral() || size() != other.size()) {
+                // integers never equal decimals, which have a fraction
+                return false;
+            }
+            for (int i = 0; i < size(); i++) {
+                if (isIntegral() ? getLong(i) != other.getLong(i) : getDouble(i) != other.getDouble(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return super.equals(obj);
+    }
+
+    @Override
+    public int hashCode() {
+        if (hashCode == 0) {
+            hashCode = super.hashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringWriter sw = new StringWriter();
+        try (JsonWriter jw = new JsonWriterImpl(sw, jsonContext)) {
+            jw.write(this);
+        }
+        return sw.toString();
+    }
+
+    @Override
+    public JsonArray asJsonArray() {
+        return this;
+    }
+
+    /**
+     * Collects numbers into primitive storage as long as they all fit.
+     */
+    static final class Collector {
+
+        private final JsonContext jsonContext;
+        private long[] longs;
+        private double[] doubles;
+        private int size;
+        private boolean ints = true;
+
+        Collector(JsonContext jsonContext) {
+            this.jsonContext = jsonContext;
+        }
+
+        // Adds the current number of the tokenizer, returns false if it does not fit
+        boolean add(JsonTokenizer tokenizer) {
+            if (tokenizer.isDefinitelyLong()) {
+                return addLong(tokenizer.getLong());
+            }
+            if (longs != null) {
+                return false;
+            }
+            double value = tokenizer.getDouble();
+            return isPlainDouble(tokenizer.getCharSequence(), value) && addDouble(value);
+        }
+
+        // Adds an integer, returns false if decimals were added
+        boolean addLong(long value) {
+            if (doubles != null) {
+                return false;
+            }
+            if (longs == null) {
+                longs = new long[16];
+            } else if (size == longs.length) {
+                longs = Arrays.copyOf(longs, 2 * size);
+            }
+            longs[size++] = value;
+            ints &= value == (int) value;
+            return true;
+        }
+
+        // Adds a decimal printed by Double.toString(), returns false if
+        // integers were added
+        boolean addDouble(double value) {
+            if (longs != null) {
+                return false;
+            }
+            if (doubles == null) {
+                doubles = new double[16];
+            } else if (size == doubles.length) {
+                doubles = Arrays.copyOf(doubles, 2 * size);
+            }
+            doubles[size++] = value;
+            return true;
+        }
+
+        int size() {
+            return size;
+        }
+
+        // Adds the collected numbers to a builder, boxing them
+        void addTo(JsonArrayBuilder builder) {
+            for (int i = 0; i < size; i++) {
+                if (longs != null) {
+                    builder.add(longs[i]);
+                } else {
+                    builder.add(doubles[i]);
+                }
+            }
+        }
+
+        JsonArray build() {
+            if (doubles != null) {
+                return new Doubles(Arrays.copyOf(doubles, size), jsonContext);
+            }
+            if (ints) {
+                int[] values = new int[size];
+                for (int i = 0; i < size; i++) {
+                    values[i] = (int) longs[i];
+                }
+                return new Ints(values, jsonContext);
+            }
+            return new Longs(Arrays.copyOf(longs, size), jsonContext);
+        }
+    }
+
+    private static final class Ints extends JsonNumberArrayImpl {
+        private final int[] values;
+
+        Ints(int[] values, JsonContext jsonContext) {
+            super(jsonContext);
+            this.values = values;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        JsonNumber box(int index) {
+            return JsonNumberImpl.getJsonNumber(values[index], jsonContext.bigIntegerScaleLimit());
+        }
+
+        @Override
+        void writeElements(JsonGenerator generator) {
+            for (int value : values) {
+                generator.write(value);
+            }
+        }
+
+        @Override
+        public boolean isIntegral() {
+            return true;
+        }
+
+        @Override
+        public int getInt(int index) {
+            return values[index];
+        }
+
+        @Override
+        public long getLong(int index) {
+            return values[index];
+        }
+
+        @Override
+        public double getDouble(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int[] toIntArray() {
+            return values.clone();
+        }
+    }
+
+    private static final class Longs extends JsonNumberArrayImpl {
+        private final long[] values;
+
+        Longs(long[] values, JsonContext jsonContext) {
+            super(jsonContext);
+            this.values = values;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        JsonNumber box(int index) {
+            return JsonNumberImpl.getJsonNumber(values[index], jsonContext.bigIntegerScaleLimit());
+        }
+
+        @Override
+        void writeElements(JsonGenerator generator) {
+            for (long value : values) {
+                generator.write(value);
+            }
+        }
+
+        @Override
+        public boolean isIntegral() {
+            return true;
+        }
+
+        @Override
+        public int getInt(int index) {
+            return (int) values[index];
+        }
+
+        @Override
+        public long getLong(int index) {
+            return values[index];
+        }
+
+        @Override
+        public double getDouble(int index) {
+            return values[index];
+        }
+
+        @Override
+        public long[] toLongArray() {
+            return values.clone();
+        }
+    }
+
+    private static final class Doubles extends JsonNumberArrayImpl {
+        private final double[] values;
+
+        Doubles(double[] values, JsonContext jsonContext) {
+            super(jsonContext);
+            this.values = values;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        JsonNumber box(int index) {
+            return JsonNumberImpl.getJsonNumber(values[index], jsonContext.bigIntegerScaleLimit());
+        }
+
+        @Override
+        void writeElements(JsonGenerator generator) {
+            for (double value : values) {
+                generator.write(value);
+            }
+        }
+
+        @Override
+        public boolean isIntegral() {
+            return false;
+        }
+
+        @Override
+        public int getInt(int index) {
+            double value = values[index];
+            // narrowing saturates, BigDecimal keeps the low-order bits
+            return value > Integer.MIN_VALUE - 1.0 && value < Integer.MAX_VALUE + 1.0
+                    ? (int) value : BigDecimal.valueOf(value).intValue();
+        }
+
+        @Override
+        public long getLong(int index) {
+            double value = values[index];
+            return value >= -0x1p63 && value < 0x1p63 ? (long) value : BigDecimal.valueOf(value).longValue();
+        }
+
+        @Override
+        public double getDouble(int index) {
+            return values[index];
+        }
+
+        @Override
+        public double[] toDoubleArray() {
+            return values.clone();
+        }
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+import jakarta.json.stream.JsonParser.Event;
+import jakarta.json.stream.JsonParsingException;
+
+/**
+ * Spliterators over the elements of a numeric array, which read each number
+ * from the tokenizer without building a {@link jakarta.json.JsonNumber}.
+ * The elements are read by the parser of the array until the first split.
+ * For in-memory input, the first split finds the element ranges with
+ * {@link JsonTokenizer#memberRanges(boolean, int, int)} and moves the parser past
+ * the array, and splits then halve the ranges the same way as
+ * {@link JsonArraySpliterator}.
+ */
+abstract class JsonNumberArraySpliterator {
+
+    // Parser of the array, null for a part of split ranges
+    private final JsonParserImpl arrayParser;
+    private final JsonContext jsonContext;
+    // Remaining elements [index, fence) once split
+    private JsonMemberRanges ranges;
+    int index;
+    private int fence;
+    private ReusableJsonParserImpl rangeParser;
+    private boolean started;
+
+    JsonNumberArraySpliterator(JsonParserImpl arrayParser, JsonContext jsonContext) {
+        this.arrayParser = arrayParser;
+        this.jsonContext = jsonContext;
+    }
+
+    JsonNumberArraySpliterator(JsonMemberRanges ranges, int index, int fence, JsonContext jsonContext) {
+        this.arrayParser = null;
+        this.jsonContext = jsonContext;
+        this.ranges = ranges;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    // Moves to the next element and returns the tokenizer holding its number,
+    // or null at the end of the array
+    final JsonTokenizer nextNumber() {
+        if (ranges == null) {
+            started = true;
+            if (!arrayParser.hasNext() || arrayParser.next() == Event.END_ARRAY) {
+                return null;
+            }
+            return requireNumber(arrayParser);
+        }
+        if (index >= fence) {
+            return null;
+        }
+        if (rangeParser == null) {
+            rangeParser = ranges.newParser(jsonContext);
+        }
+        ranges.element(index++, rangeParser);
+        rangeParser.next();
+        return requireNumber(rangeParser);
+    }
+
+    // Rejects anything but whitespace after a number read from the ranges
+    final void endNumber() {
+        if (ranges != null) {
+            rangeParser.hasNext();
+        }
+    }
+
+    private static JsonTokenizer requireNumber(JsonParserImpl parser) {
+        Event event = parser.currentEvent();
+        if (event != Event.VALUE_NUMBER) {
+            throw new JsonParsingException(JsonMessages.PARSER_EXPECTED_NUMBER(event), parser.getLastCharLocation());
+        }
+        return parser.tokenizer;
+    }
+
+    // Returns the index halving the remaining elements, or -1 if they
+    // cannot be split
+    final int splitIndex() {
+        if (ranges == null) {
+            if (arrayParser == null || started
+                    || (ranges = arrayParser.tokenizer.memberRanges(false, 0, arrayParser.depth())) == null) {
+                return -1;
+            }
+            index = 0;
+            fence = ranges.count();
+            // elements are read from the ranges, move past the array
+            arrayParser.skipStructure(ranges);
+        }
+        int mid = (index + fence) >>> 1;
+        return mid <= index ? -1 : mid;
+    }
+
+    final JsonMemberRanges ranges() {
+        return ranges;
+    }
+
+    final JsonContext jsonContext() {
+        return jsonContext;
+    }
+
+    public final long estimateSize() {
+        return ranges != null ? fence - index : Long.MAX_VALUE;
+    }
+
+    public final int characteristics() {
+        return ranges != null
+                ? Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED
+                        | Spliterator.NONNULL | Spliterator.IMMUTABLE
+                : Spliterator.ORDERED | Spliterator.NONNULL;
+    }
+
+    static final class Ints extends JsonNumberArraySpliterator implements Spliterator.OfInt {
+
+        Ints(JsonParserImpl arrayParser, JsonContext jsonContext) {
+            super(arrayParser, jsonContext);
+        }
+
+        private Ints(JsonMemberRanges ranges, int index, int fence, JsonContext jsonContext) {
+            super(ranges, index, fence, jsonContext);
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            JsonTokenizer tokenizer = nextNumber();
+            if (tokenizer == null) {
+                return false;
+            }
+            int value = tokenizer.getInt();
+            endNumber();
+            action.accept(value);
+            return true;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            int mid = splitIndex();
+            if (mid < 0) {
+                return null;
+            }
+            Ints prefix = new Ints(ranges(), index, mid, jsonContext());
+            index = mid;
+            return prefix;
+        }
+    }
+
+    static final class Longs extends JsonNumberArraySpliterator implements Spliterator.OfLong {
+
+        Longs(JsonParserImpl arrayParser, JsonContext jsonContext) {
+            super(arrayParser, jsonContext);
+        }
+
+        private Longs(JsonMemberRanges ranges, int index, int fence, JsonContext jsonContext) {
+            super(ranges, index, fence, jsonContext);
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            JsonTokenizer tokenizer = nextNumber();
+            if (tokenizer == null) {
+                return false;
+            }
+            long value = tokenizer.getLong();
+            endNumber();
+            action.accept(value);
+            return true;
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            int mid = splitIndex();
+            if (mid < 0) {
+                return null;
+            }
+            Longs prefix = new Longs(ranges(), index, mid, jsonContext());
+            index = mid;
+            return prefix;
+        }
+    }
+
+    static final class Doubles extends JsonNumberArraySpliterator implements Spliterator.OfDouble {
+
+        Doubles(JsonParserImpl arrayParser, JsonContext jsonContext) {
+            super(arrayParser, jsonContext);
+        }
+
+        private Doubles(JsonMemberRanges ranges, int index, int fence, JsonContext jsonContext) {
+            super(ranges, index, fence, jsonContext);
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            JsonTokenizer tokenizer = nextNumber();
+            if (tokenizer == null) {
+                return false;
+            }
+            double value = tokenizer.getDouble();
+            endNumber();
+            action.accept(value);
+            return true;
+        }
+
+        @Override
+        public Spliterator.OfDouble trySplit() {
+            int mid = splitIndex();
+            if (mid < 0) {
+                return null;
+            }
+            Doubles prefix = new Doubles(ranges(), index, mid, jsonContext());
+            index = mid;
+            return prefix;
+        }
+    }
+
+}
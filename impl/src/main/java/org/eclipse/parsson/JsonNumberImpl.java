@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -35,6 +35,12 @@ abstract class JsonNumberImpl implements JsonNumber {
         this.bigIntegerScaleLimit = bigIntegerScaleLimit;
     }
 
+    // Adds this number to primitive storage, returns false unless it is held
+    // exactly, see JsonNumberArrayImpl
+    boolean addTo(JsonNumberArrayImpl.Collector numbers) {
+        return false;
+    }
+
     static JsonNumber getJsonNumber(int num, int bigIntegerScaleLimit) {
         return new JsonIntNumber(num, bigIntegerScaleLimit);
     }
@@ -118,6 +124,11 @@ abstract class JsonNumberImpl implements JsonNumber {
             this.num = num;
         }
 
+        @Override
+        boolean addTo(JsonNumberArrayImpl.Collector numbers) {
+            return numbers.addLong(num);
+        }
+
         @Override
         public boolean isIntegral() {
             return true;
@@ -180,6 +191,11 @@ abstract class JsonNumberImpl implements JsonNumber {
             this.num = num;
         }
 
+        @Override
+        boolean addTo(JsonNumberArrayImpl.Collector numbers) {
+            return numbers.addLong(num);
+        }
+
         @Override
         public boolean isIntegral() {
             return true;
@@ -242,6 +258,12 @@ abstract class JsonNumberImpl implements JsonNumber {
             this.bigDecimal = value;
         }
 
+        @Override
+        boolean addTo(JsonNumberArrayImpl.Collector numbers) {
+            double value = bigDecimal.doubleValue();
+            return JsonNumberArrayImpl.isPlainDouble(bigDecimal.toString(), value) && numbers.addDouble(value);
+        }
+
         @Override
         public BigDecimal bigDecimalValue() {
             return bigDecimal;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -181,6 +181,45 @@ class JsonObjectBuilderImpl implements JsonObjectBuilder {
         return new JsonObjectImpl(snapshot, jsonContext);
     }
 
+    /**
+     * Returns a copy of the object with the name mapped to the value, as if
+     * added to a builder created from the object. Objects with at least
+     * {@link PersistentList#WIDTH} members are copied to a {@link PersistentMap},
+     * so the copy and any objects derived from it share most of their members
+     * instead of copying all of them for each update.
+     */
+    static JsonObject put(JsonObject object, String name, JsonValue value, JsonContext jsonContext) {
+        PersistentMap<String, JsonValue> map = persistentMap(object);
+        if (map == null) {
+            return new JsonObjectBuilderImpl(object, jsonContext).add(name, value).build();
+        }
+        DuplicateStrategy duplicateStrategy = DuplicateStrategy.strategyFromProperty(
+                jsonContext.config(jakarta.json.JsonConfig.KEY_STRATEGY), jsonContext.rejectDuplicateKeys());
+        value = duplicateStrategy.getValue(name, value, map.get(name));
+        return new JsonObjectImpl(map.plus(name, value), jsonContext);
+    }
+
+    /**
+     * Returns a copy of the object without the name, see
+     * {@link #put(JsonObject, String, JsonValue, JsonContext)}.
+     */
+    static JsonObject remove(JsonObject object, String name, JsonContext jsonContext) {
+        PersistentMap<String, JsonValue> map = persistentMap(object);
+        if (map == null) {
+            return new JsonObjectBuilderImpl(object, jsonContext).remove(name).build();
+        }
+        return new JsonObjectImpl(map.minus(name), jsonContext);
+    }
+
+    // Returns null for small objects, which are cheaper to copy
+    private static PersistentMap<String, JsonValue> persistentMap(JsonObject object) {
+        if (object instanceof JsonObjectImpl
+                && ((JsonObjectImpl) object).valueMap instanceof PersistentMap) {
+            return (PersistentMap<String, JsonValue>) ((JsonObjectImpl) object).valueMap;
+        }
+        return object.size() < PersistentList.WIDTH ? null : PersistentMap.of(object);
+    }
+
     private void populate(Map<String, ?> map) {
         final Set<String> fields = map.keySet();
         for (String field : fields) {
@@ -323,6 +362,18 @@ class JsonObjectBuilderImpl implements JsonObjectBuilder {
             return hashCode;
         }
 
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof JsonObjectImpl) {
+                // differing cached hash codes rule out a deep comparison
+                int otherHashCode = ((JsonObjectImpl) obj).hashCode;
+                if (hashCode != 0 && otherHashCode != 0 && hashCode != otherHashCode) {
+                    return false;
+                }
+            }
+            return super.equals(obj);
+        }
+
         @Override
         public String toString() {
             StringWriter sw = new StringWriter();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -22,13 +22,22 @@ import jakarta.json.stream.JsonParserFactory;
 import jakarta.json.stream.JsonParser;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.parsson.api.JsonValueDecoder;
+import org.eclipse.parsson.api.NonBlockingJsonParser;
+import org.eclipse.parsson.api.ParssonParserFactory;
+import org.eclipse.parsson.api.ReusableJsonParser;
 
 /**
  * @author Jitendra Kotamraju
  */
-class JsonParserFactoryImpl implements JsonParserFactory {
+class JsonParserFactoryImpl implements ParssonParserFactory {
 
     private final JsonContext jsonContext;
 
@@ -56,6 +65,53 @@ class JsonParserFactoryImpl implements JsonParserFactory {
         return new JsonStructureParser(array);
     }
 
+    @Override
+    public ReusableJsonParser createReusableParser() {
+        return new ReusableJsonParserImpl(jsonContext);
+    }
+
+    @Override
+    public NonBlockingJsonParser createNonBlockingParser() {
+        return new NonBlockingJsonParserImpl(null, jsonContext);
+    }
+
+    @Override
+    public NonBlockingJsonParser createNonBlockingParser(Charset charset) {
+        return new NonBlockingJsonParserImpl(Objects.requireNonNull(charset), jsonContext);
+    }
+
+    @Override
+    public JsonValueDecoder createValueDecoder(boolean arrayElements) {
+        return new JsonValueDecoderImpl(arrayElements, jsonContext);
+    }
+
+    @Override
+    public JsonParser createParser(String json) {
+        char[] chars = json.toCharArray();
+        return new JsonParserImpl(chars, 0, chars.length, jsonContext);
+    }
+
+    @Override
+    public JsonParser createParser(char[] chars, int offset, int length) {
+        return new JsonParserImpl(chars, offset, length, jsonContext);
+    }
+
+    @Override
+    public JsonParser createParser(byte[] bytes, int offset, int length) {
+        CharBuffer chars = InputStreamDecoder.decode(bytes, offset, length, null);
+        return new JsonParserImpl(chars.array(), 0, chars.limit(), jsonContext);
+    }
+
+    @Override
+    public JsonParser createParser(ByteBuffer buffer) {
+        return new JsonParserImpl(new ByteBufferDecoder(buffer), jsonContext);
+    }
+
+    @Override
+    public JsonParser createParser(Path path) {
+        return JsonParserImpl.ofFile(path, ByteBufferDecoder.WINDOW_SIZE, jsonContext);
+    }
+
     @Override
     public Map<String, ?> getConfigInUse() {
         return jsonContext.config();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -22,6 +22,7 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.math.BigDecimal;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.util.AbstractMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -30,6 +31,9 @@ import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -38,12 +42,17 @@ import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonException;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonStructure;
 import jakarta.json.JsonValue;
 import jakarta.json.stream.JsonLocation;
 import jakarta.json.stream.JsonParser;
 import jakarta.json.stream.JsonParsingException;
 
 import org.eclipse.parsson.JsonTokenizer.JsonToken;
+import org.eclipse.parsson.api.JsonColumnSpec;
+import org.eclipse.parsson.api.JsonColumns;
+import org.eclipse.parsson.api.JsonProjection;
+import org.eclipse.parsson.api.ParssonParser;
 
 /**
  * JSON parser implementation. NoneContext, ArrayContext, ObjectContext is used
@@ -52,14 +61,18 @@ import org.eclipse.parsson.JsonTokenizer.JsonToken;
  * @author Jitendra Kotamraju
  * @author Kin-man Chung
  */
-public class JsonParserImpl implements JsonParser {
+public class JsonParserImpl implements ParssonParser {
 
-    private Context currentContext = new NoneContext();
+    private final Context noneContext = new NoneContext();
+    private Context currentContext = noneContext;
     private Event currentEvent;
 
     private final Stack stack;
-    private final JsonTokenizer tokenizer;
+    // package-private for the non-blocking parser, which feeds the tokenizer
+    final JsonTokenizer tokenizer;
     private boolean closed = false;
+    // When true, the input is a sequence of whitespace separated JSON texts
+    private boolean valueSequence;
 
     private final JsonContext jsonContext;
 
@@ -82,6 +95,58 @@ public class JsonParserImpl implements JsonParser {
         this.tokenizer = new JsonTokenizer(new InputStreamReader(in, encoding), jsonContext);
     }
 
+    public JsonParserImpl(char[] chars, int offset, int length, JsonContext jsonContext) {
+        this.jsonContext = jsonContext;
+        stack = new Stack(jsonContext.depthLimit());
+        this.tokenizer = new JsonTokenizer(chars, offset, length, jsonContext);
+    }
+
+    // Memory mapped file, the parsing limit applies to each token since the
+    // file size is known and may exceed the limit
+    static JsonParserImpl ofFile(Path path, int windowSize, JsonContext jsonContext) {
+        JsonParserImpl parser = new JsonParserImpl(ByteBufferDecoder.open(path, windowSize), jsonContext);
+        parser.tokenizer.limitPerToken();
+        return parser;
+    }
+
+    // Non-blocking input, pushed by NonBlockingJsonParserImpl
+    JsonParserImpl(JsonContext jsonContext) {
+        this.jsonContext = jsonContext;
+        stack = new Stack(jsonContext.depthLimit());
+        this.tokenizer = new JsonTokenizer(jsonContext);
+    }
+
+    // Starts parsing a new input. The tokenizer buffer and the stack are reused
+    void resetInput(Reader reader) {
+        currentContext = noneContext;
+        currentEvent = null;
+        stack.clear();
+        valueSequence = false;
+        tokenizer.reset(reader);
+        closed = false;
+    }
+
+    // Starts parsing in-memory input. The tokenizer scans chars in place
+    void resetInput(char[] chars, int offset, int length) {
+        currentContext = noneContext;
+        currentEvent = null;
+        stack.clear();
+        valueSequence = false;
+        tokenizer.reset(chars, offset, length);
+        closed = false;
+    }
+
+    // Closes the input and returns the tokenizer buffer to the pool,
+    // resetInput(Reader) takes a buffer again
+    void releaseInput() {
+        try {
+            tokenizer.release();
+            closed = true;
+        } catch (IOException e) {
+            throw new JsonException(JsonMessages.PARSER_TOKENIZER_CLOSE_IO(), e);
+        }
+    }
+
     @Override
     public String getString() {
         if (currentEvent == Event.KEY_NAME || currentEvent == Event.VALUE_STRING
@@ -184,9 +249,27 @@ public class JsonParserImpl implements JsonParser {
         }
         Spliterator<JsonValue> spliterator =
                 new Spliterators.AbstractSpliterator<JsonValue>(Long.MAX_VALUE, Spliterator.ORDERED) {
+                    // Set once the elements of in-memory input are split
+                    private JsonArraySpliterator elements;
+                    private boolean started;
+
                     @Override
                     public Spliterator<JsonValue> trySplit() {
-                        return null;
+                        if (elements == null) {
+                            JsonMemberRanges ranges;
+                            if (started || (ranges = tokenizer.memberRanges(false, 0, depth())) == null) {
+                                return null;
+                            }
+                            elements = new JsonArraySpliterator(ranges, 0, ranges.count(), jsonContext);
+                            // elements are parsed from the ranges, move past the array
+                            skipStructure(ranges);
+                        }
+                        return elements.trySplit();
+                    }
+
+                    @Override
+                    public long estimateSize() {
+                        return elements != null ? elements.estimateSize() : Long.MAX_VALUE;
                     }
 
                     @Override
@@ -194,6 +277,10 @@ public class JsonParserImpl implements JsonParser {
                         if (action == null) {
                             throw new NullPointerException();
                         }
+                        if (elements != null) {
+                            return elements.tryAdvance(action);
+                        }
+                        started = true;
                         if (!hasNext()) {
                             return false;
                         }
@@ -207,6 +294,33 @@ public class JsonParserImpl implements JsonParser {
         return StreamSupport.stream(spliterator, false);
     }
 
+    @Override
+    public IntStream getIntArrayStream() {
+        if (currentEvent != Event.START_ARRAY) {
+            throw new IllegalStateException(
+                JsonMessages.PARSER_GETARRAY_ERR(currentEvent));
+        }
+        return StreamSupport.intStream(new JsonNumberArraySpliterator.Ints(this, jsonContext), false);
+    }
+
+    @Override
+    public LongStream getLongArrayStream() {
+        if (currentEvent != Event.START_ARRAY) {
+            throw new IllegalStateException(
+                JsonMessages.PARSER_GETARRAY_ERR(currentEvent));
+        }
+        return StreamSupport.longStream(new JsonNumberArraySpliterator.Longs(this, jsonContext), false);
+    }
+
+    @Override
+    public DoubleStream getDoubleArrayStream() {
+        if (currentEvent != Event.START_ARRAY) {
+            throw new IllegalStateException(
+                JsonMessages.PARSER_GETARRAY_ERR(currentEvent));
+        }
+        return StreamSupport.doubleStream(new JsonNumberArraySpliterator.Doubles(this, jsonContext), false);
+    }
+
     @Override
     public Stream<Map.Entry<String, JsonValue>> getObjectStream() {
         if (currentEvent != Event.START_OBJECT) {
@@ -254,6 +368,8 @@ public class JsonParserImpl implements JsonParser {
             throw new IllegalStateException(
                 JsonMessages.PARSER_GETVALUESTREAM_ERR());
         }
+        // the input may hold any number of whitespace separated values
+        valueSequence = true;
         Spliterator<JsonValue> spliterator =
                 new Spliterators.AbstractSpliterator<JsonValue>(Long.MAX_VALUE, Spliterator.ORDERED) {
                     @Override
@@ -277,6 +393,50 @@ public class JsonParserImpl implements JsonParser {
         return StreamSupport.stream(spliterator, false);
     }
 
+    @Override
+    public CharSequence getRawValue() {
+        if (currentEvent == null) {
+            throw new IllegalStateException(JsonMessages.PARSER_GETVALUE_ERR(currentEvent));
+        }
+        switch (currentEvent) {
+            case START_OBJECT:
+                return skipRaw('{');
+            case START_ARRAY:
+                return skipRaw('[');
+            case VALUE_STRING:
+                CharSequence view = tokenizer.inMemoryStringView();
+                return view != null ? view : new JsonStringImpl(getCharSequence()).toString();
+            case VALUE_NUMBER:
+                return getCharSequence();
+            case VALUE_TRUE:
+                return "true";
+            case VALUE_FALSE:
+                return "false";
+            case VALUE_NULL:
+                return "null";
+            default:
+                throw new IllegalStateException(JsonMessages.PARSER_GETVALUE_ERR(currentEvent));
+        }
+    }
+
+    // Skips the rest of the current structure, returns its text from the open bracket
+    private CharSequence skipRaw(char open) {
+        int begin = tokenizer.inMemoryStructureBegin();
+        StringBuilder capture = begin < 0 ? new StringBuilder().append(open) : null;
+        ((SkippingContext) currentContext).skip(capture);
+        currentContext = stack.pop();
+        currentEvent = open == '{' ? Event.END_OBJECT : Event.END_ARRAY;
+        return capture != null ? capture : tokenizer.inMemoryView(begin);
+    }
+
+    @Override
+    public JsonColumns getColumns(JsonColumnSpec spec) {
+        if (currentEvent != Event.START_ARRAY) {
+            throw new IllegalStateException(JsonMessages.PARSER_GETCOLUMNS_ERR(currentEvent));
+        }
+        return new JsonColumnsImpl(spec).read(this);
+    }
+
     @Override
     public void skipArray() {
         if (currentContext instanceof ArrayContext) {
@@ -295,11 +455,40 @@ public class JsonParserImpl implements JsonParser {
         }
     }
 
+    // Same as skipArray() or skipObject() for the current structure, whose
+    // members are ranges, without scanning it again
+    void skipStructure(JsonMemberRanges ranges) {
+        JsonToken token = tokenizer.skipMembers(ranges);
+        JsonToken closeToken = currentContext instanceof ObjectContext ? JsonToken.CURLYCLOSE : JsonToken.SQUARECLOSE;
+        if (token != closeToken) {
+            throw parsingException(token, "[" + closeToken + "]");
+        }
+        currentEvent = token == JsonToken.CURLYCLOSE ? Event.END_OBJECT : Event.END_ARRAY;
+        currentContext = stack.pop();
+    }
+
     private JsonArray getArray(JsonArrayBuilder builder) {
+        // numbers are read into primitive storage while every element fits
+        JsonNumberArrayImpl.Collector numbers = null;
+        boolean collecting = true;
         while(hasNext()) {
             JsonParser.Event e = next();
             if (e == JsonParser.Event.END_ARRAY) {
-                return builder.build();
+                return numbers != null && collecting ? numbers.build() : builder.build();
+            }
+            if (collecting) {
+                if (e == JsonParser.Event.VALUE_NUMBER) {
+                    if (numbers == null) {
+                        numbers = new JsonNumberArrayImpl.Collector(jsonContext);
+                    }
+                    if (numbers.add(tokenizer)) {
+                        continue;
+                    }
+                }
+                collecting = false;
+                if (numbers != null) {
+                    numbers.addTo(builder);
+                }
             }
             builder.add(getValue());
         }
@@ -332,12 +521,154 @@ public class JsonParserImpl implements JsonParser {
         return tokenizer.getLocation();
     }
 
+    // Builds the current array or object with multiple threads if the input
+    // is in memory and large enough, returns null otherwise
+    JsonStructure getStructureInParallel() {
+        int threshold = jsonContext.parallelReadThreshold();
+        if (threshold <= 0) {
+            return null;
+        }
+        boolean object = currentEvent == Event.START_OBJECT;
+        JsonMemberRanges ranges = tokenizer.memberRanges(object, threshold, depth());
+        if (ranges == null) {
+            return null;
+        }
+        // also enforces the parsing limit on the whole structure
+        skipStructure(ranges);
+        return ParallelStructureBuilder.build(ranges, object, jsonContext);
+    }
+
+    // Builds the current array or object leaving the structures nested deeper
+    // than the materialization depth unparsed, returns null if the depth is
+    // not limited
+    JsonStructure getBoundedStructure() {
+        int depth = jsonContext.maxMaterializedDepth();
+        return depth > 0 ? (JsonStructure) getBoundedValue(depth) : null;
+    }
+
+    private JsonValue getBoundedValue(int depth) {
+        if (currentEvent == Event.START_ARRAY) {
+            if (depth == 0) {
+                // the depth of the enclosing structure, before the value is skipped
+                int enclosingDepth = depth() - 1;
+                return LazyJsonValues.of(getRawValue(), false, enclosingDepth, jsonContext);
+            }
+            JsonArrayBuilder builder = new JsonArrayBuilderImpl(jsonContext);
+            while (hasNext()) {
+                if (next() == JsonParser.Event.END_ARRAY) {
+                    return builder.build();
+                }
+                builder.add(getBoundedValue(depth - 1));
+            }
+            throw parsingException(JsonToken.EOF, "[CURLYOPEN, SQUAREOPEN, STRING, NUMBER, TRUE, FALSE, NULL, SQUARECLOSE]");
+        } else if (currentEvent == Event.START_OBJECT) {
+            if (depth == 0) {
+                // the depth of the enclosing structure, before the value is skipped
+                int enclosingDepth = depth() - 1;
+                return LazyJsonValues.of(getRawValue(), true, enclosingDepth, jsonContext);
+            }
+            JsonObjectBuilder builder = new JsonObjectBuilderImpl(jsonContext);
+            while (hasNext()) {
+                if (next() == JsonParser.Event.END_OBJECT) {
+                    return builder.build();
+                }
+                String key = getString();
+                next();
+                builder.add(key, getBoundedValue(depth - 1));
+            }
+            throw parsingException(JsonToken.EOF, "[STRING, CURLYCLOSE]");
+        }
+        return getValue();
+    }
+
+    // Builds the current value keeping only the members selected by the
+    // projection, the other values are skipped without being materialized
+    JsonValue getProjectedValue(JsonProjection projection) {
+        switch (currentEvent) {
+            case START_ARRAY:
+                return getProjectedArray(projection);
+            case START_OBJECT:
+                return getProjectedObject(projection);
+            default:
+                return getValue();
+        }
+    }
+
+    private JsonArray getProjectedArray(JsonProjection projection) {
+        JsonArrayBuilder builder = new JsonArrayBuilderImpl(jsonContext);
+        while (hasNext()) {
+            JsonParser.Event e = next();
+            if (e == JsonParser.Event.END_ARRAY) {
+                return builder.build();
+            }
+            if (e == JsonParser.Event.START_ARRAY || e == JsonParser.Event.START_OBJECT) {
+                builder.add(getProjectedValue(projection));
+            } else if (projection.isExclude()) {
+                builder.add(getValue());
+            }
+        }
+        throw parsingException(JsonToken.EOF, "[CURLYOPEN, SQUAREOPEN, STRING, NUMBER, TRUE, FALSE, NULL, SQUARECLOSE]");
+    }
+
+    private JsonObject getProjectedObject(JsonProjection projection) {
+        JsonObjectBuilder builder = new JsonObjectBuilderImpl(jsonContext);
+        while (hasNext()) {
+            JsonParser.Event e = next();
+            if (e == JsonParser.Event.END_OBJECT) {
+                return builder.build();
+            }
+            String key = getString();
+            JsonProjection member = projection.getMember(key);
+            e = next();
+            if (member == null || member.isLeaf()) {
+                // unnamed members are kept by exclude projections only
+                if ((member == null) == projection.isExclude()) {
+                    builder.add(key, getValue());
+                } else if (e == JsonParser.Event.START_ARRAY) {
+                    skipArray();
+                } else if (e == JsonParser.Event.START_OBJECT) {
+                    skipObject();
+                }
+            } else if (e == JsonParser.Event.START_ARRAY || e == JsonParser.Event.START_OBJECT) {
+                builder.add(key, getProjectedValue(member));
+            } else if (projection.isExclude()) {
+                builder.add(key, getValue());
+            }
+        }
+        throw parsingException(JsonToken.EOF, "[STRING, CURLYCLOSE]");
+    }
+
+    // Parses a sequence of top-level values instead of a single JSON text
+    void setValueSequence(boolean valueSequence) {
+        this.valueSequence = valueSequence;
+    }
+
+    // Whether the parser is inside an array or object
+    boolean inStructure() {
+        return !stack.isEmpty();
+    }
+
+    // Number of arrays and objects the parser is in
+    int depth() {
+        return stack.size;
+    }
+
+    // Counts nesting from the given depth, so that a member of a structure
+    // parsed on its own is held to the same depth limit as when parsed with
+    // the whole input
+    void setBaseDepth(int depth) {
+        stack.base = depth;
+    }
+
     public JsonLocation getLastCharLocation() {
         return tokenizer.getLastCharLocation();
     }
 
     @Override
     public boolean hasNext() {
+        if (valueSequence && stack.isEmpty()) {
+            return tokenizer.hasNextToken();
+        }
         if (stack.isEmpty() && (currentEvent != null && currentEvent.compareTo(Event.KEY_NAME) > 0)) {
             JsonToken token = tokenizer.nextToken();
             if (token != JsonToken.EOF) {
@@ -382,6 +713,8 @@ public class JsonParserImpl implements JsonParser {
     private static final class Stack {
         int size = 0;
         final int limit;
+        // depth of the structure the input is nested in, kept across inputs
+        int base;
         private Context head;
 
         Stack(int limit) {
@@ -389,8 +722,8 @@ public class JsonParserImpl implements JsonParser {
         }
 
         private void push(Context context) {
-            if (++size >= limit) {
-                throw new RuntimeException(JsonMessages.PARSER_INPUT_NESTED_TOO_DEEP(size));
+            if (++size + base >= limit) {
+                throw new RuntimeException(JsonMessages.PARSER_INPUT_NESTED_TOO_DEEP(size + base));
             }
             context.next = head;
             head = context;
@@ -409,6 +742,11 @@ public class JsonParserImpl implements JsonParser {
         private boolean isEmpty() {
             return head == null;
         }
+
+        private void clear() {
+            size = 0;
+            head = null;
+        }
     }
 
     private abstract class Context {
@@ -436,6 +774,9 @@ public class JsonParserImpl implements JsonParser {
         @Override
         public Event getNextEvent() {
             // Handle 1. {   2. [   3. value
+            if (valueSequence) {
+                tokenizer.resetParseLimit();
+            }
             JsonToken token = tokenizer.nextToken();
             Event event = nextEventIfValueOrObjectOrArrayStart(token);
             if (event != null) {
@@ -450,36 +791,31 @@ public class JsonParserImpl implements JsonParser {
         }
     }
 
-    private JsonParsingException parsingException(JsonToken token, String expectedTokens) {
+    JsonParsingException parsingException(JsonToken token, String expectedTokens) {
         JsonLocation location = getLastCharLocation();
         return new JsonParsingException(
                 JsonMessages.PARSER_INVALID_TOKEN(token, location, expectedTokens), location);
     }
 
     private abstract class SkippingContext extends Context {
-        private final JsonToken openToken;
         private final JsonToken closeToken;
 
         private boolean firstValue = true;
 
-        private SkippingContext(JsonToken openToken, JsonToken closeToken) {
-            this.openToken = Objects.requireNonNull(openToken);
+        private SkippingContext(JsonToken closeToken) {
             this.closeToken = Objects.requireNonNull(closeToken);
         }
 
         @Override
         void skip() {
-            JsonToken token;
-            int depth = 1;
-            do {
-                token = tokenizer.nextToken();
-                if (token == closeToken) {
-                    depth--;
-                }
-                if (token == openToken) {
-                    depth++;
-                }
-            } while (!(token == closeToken && depth == 0));
+            skip(null);
+        }
+
+        void skip(StringBuilder capture) {
+            JsonToken token = tokenizer.skipStructure(capture);
+            if (token != closeToken) {
+                throw parsingException(token, "[" + closeToken + "]");
+            }
         }
 
         JsonToken firstValueOrJsonToken(JsonToken token) {
@@ -497,7 +833,7 @@ public class JsonParserImpl implements JsonParser {
 
     private final class ObjectContext extends SkippingContext {
         private ObjectContext() {
-            super(JsonToken.CURLYOPEN, JsonToken.CURLYCLOSE);
+            super(JsonToken.CURLYCLOSE);
         }
 
         /*
@@ -550,7 +886,7 @@ public class JsonParserImpl implements JsonParser {
     private final class ArrayContext extends SkippingContext {
 
         private ArrayContext() {
-            super(JsonToken.SQUAREOPEN, JsonToken.SQUARECLOSE);
+            super(JsonToken.SQUARECLOSE);
         }
 
         // Handle 1. ]   2. value   3. ,value
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -27,6 +27,7 @@ import jakarta.json.JsonString;
 import jakarta.json.JsonStructure;
 import jakarta.json.JsonValue;
 import jakarta.json.JsonValue.ValueType;
+import java.util.Arrays;
 
 /**
  * This class is an immutable representation of a JSON Patch as specified in
@@ -226,8 +227,15 @@ public class JsonPatchImpl implements JsonPatch {
             return builder.build().toJsonArray();
         }
 
+        // Compares hash codes first, which the values of this provider cache
+        // per subtree, so differing subtrees are told apart without a deep
+        // comparison
+        static boolean equalValues(JsonValue source, JsonValue target) {
+            return source == target || (source.hashCode() == target.hashCode() && source.equals(target));
+        }
+
         private void diff(String path, JsonValue source, JsonValue target) {
-            if (source.equals(target)) {
+            if (equalValues(source, target)) {
                 return;
             }
             ValueType s = source.getValueType();
@@ -257,71 +265,182 @@ public class JsonPatchImpl implements JsonPatch {
         }
 
         /*
-         * For array element diff, find the longest common subsequence, per
-         * http://en.wikipedia.org/wiki/Longest_common_subsequence_problem .
-         * We modify the algorithm to generate a replace if possible.
+         * For array element diff, find the longest common subsequence with
+         * the linear space variant of Myers' O((m+n)D) algorithm, per
+         * http://www.xmailserver.org/diff2.pdf . Elements left unmatched
+         * between two matches are diffed pairwise where possible, which
+         * generates a replace rather than a remove and an add.
          */
         private void diffArray(String path, JsonArray source, JsonArray target) {
-            /* The array c keeps track of length of the subsequence. To avoid
-             * computing the equality of array elements again, we
-             * left shift its value by 1, and use the low order bit to mark
-             * that two items are equal.
-             */
             int m = source.size();
             int n = target.size();
-            int [][] c = new int[m+1][n+1];
-            for (int i = 0; i < m+1; i++)
-                c[i][0] = 0;
-            for (int i = 0; i < n+1; i++)
-                c[0][i] = 0;
-            for (int i = 0; i < m; i++) {
-                for (int j = 0; j < n; j++) {
-                    if (source.get(i).equals(target.get(j))) {
-                        c[i+1][j+1] = ((c[i][j]) & ~1) + 3;
-                        // 3 = (1 << 1) | 1;
-                    } else {
-                        c[i+1][j+1] = Math.max(c[i+1][j], c[i][j+1]) & ~1;
+            int[] matches = new ElementMatcher(source, target).match();
+
+            // Removes and replaces are generated from the end backwards, so
+            // they address elements by their source index. The remaining
+            // adds then address elements by their target index in ascending
+            // order.
+            int[] adds = new int[n];
+            int addCount = 0;
+            int i = m;
+            int j = n;
+            for (int k = m - 1; k >= -1; k--) {
+                if (k >= 0 && matches[k] < 0) {
+                    continue;
+                }
+                int start = k < 0 ? 0 : matches[k] + 1;
+                while (i > k + 1 && j > start) {
+                    i--;
+                    j--;
+                    diff(path + '/' + i, source.get(i), target.get(j));
+                }
+                while (i > k + 1) {
+                    i--;
+                    builder.remove(path + '/' + i);
+                }
+                while (j > start) {
+                    adds[addCount++] = --j;
+                }
+                i = k;
+                j = start - 1;
+            }
+            while (addCount > 0) {
+                j = adds[--addCount];
+                builder.add(path + '/' + j, target.get(j));
+            }
+        }
+
+        /*
+         * Matches the elements of two arrays. Elements are compared by
+         * their hash codes first, computed once per element.
+         */
+        private static final class ElementMatcher {
+            private final JsonArray source;
+            private final JsonArray target;
+            private final int[] sourceHashes;
+            private final int[] targetHashes;
+            private final int[] matches;
+
+            ElementMatcher(JsonArray source, JsonArray target) {
+                this.source = source;
+                this.target = target;
+                this.sourceHashes = hashCodes(source);
+                this.targetHashes = hashCodes(target);
+                this.matches = new int[source.size()];
+            }
+
+            // Returns for each source element the index of its matching
+            // target element, or -1 if it is not part of the subsequence
+            int[] match() {
+                Arrays.fill(matches, -1);
+                match(0, source.size(), 0, target.size());
+                return matches;
+            }
+
+            private boolean equal(int i, int j) {
+                return sourceHashes[i] == targetHashes[j] && source.get(i).equals(target.get(j));
+            }
+
+            private void match(int sourceStart, int sourceEnd, int targetStart, int targetEnd) {
+                while (sourceStart < sourceEnd && targetStart < targetEnd
+                        && equal(sourceStart, targetStart)) {
+                    matches[sourceStart++] = targetStart++;
+                }
+                while (sourceStart < sourceEnd && targetStart < targetEnd
+                        && equal(sourceEnd - 1, targetEnd - 1)) {
+                    matches[--sourceEnd] = --targetEnd;
+                }
+                if (sourceStart < sourceEnd && targetStart < targetEnd) {
+                    bisect(sourceStart, sourceEnd, targetStart, targetEnd);
+                }
+            }
+
+            /*
+             * Finds the middle of a shortest edit script by searching from
+             * both ends at once, then matches the halves on either side of
+             * it. The recursion depth is logarithmic in the number of edits.
+             */
+            private void bisect(int sourceStart, int sourceEnd, int targetStart, int targetEnd) {
+                int m = sourceEnd - sourceStart;
+                int n = targetEnd - targetStart;
+                int maxD = (m + n + 1) / 2;
+                int offset = maxD;
+                int length = 2 * maxD + 2;
+                // furthest reaching source position on each diagonal, from
+                // the start and from the end respectively
+                int[] forward = new int[length];
+                int[] backward = new int[length];
+                Arrays.fill(forward, -1);
+                Arrays.fill(backward, -1);
+                forward[offset + 1] = 0;
+                backward[offset + 1] = 0;
+                int delta = m - n;
+                boolean odd = (delta & 1) != 0;
+                int forwardStart = 0, forwardEnd = 0, backwardStart = 0, backwardEnd = 0;
+                for (int d = 0; d < maxD; d++) {
+                    for (int k = -d + forwardStart; k <= d - forwardEnd; k += 2) {
+                        int x = k == -d || (k != d && forward[offset + k - 1] < forward[offset + k + 1])
+                                ? forward[offset + k + 1]
+                                : forward[offset + k - 1] + 1;
+                        int y = x - k;
+                        while (x < m && y < n && equal(sourceStart + x, targetStart + y)) {
+                            x++;
+                            y++;
+                        }
+                        forward[offset + k] = x;
+                        if (x > m) {
+                            forwardEnd += 2;
+                        } else if (y > n) {
+                            forwardStart += 2;
+                        } else if (odd) {
+                            int b = offset + delta - k;
+                            if (b >= 0 && b < length && backward[b] != -1 && x >= m - backward[b]) {
+                                split(sourceStart, sourceEnd, targetStart, targetEnd, x, y);
+                                return;
+                            }
+                        }
+                    }
+                    for (int k = -d + backwardStart; k <= d - backwardEnd; k += 2) {
+                        int x = k == -d || (k != d && backward[offset + k - 1] < backward[offset + k + 1])
+                                ? backward[offset + k + 1]
+                                : backward[offset + k - 1] + 1;
+                        int y = x - k;
+                        while (x < m && y < n && equal(sourceEnd - x - 1, targetEnd - y - 1)) {
+                            x++;
+                            y++;
+                        }
+                        backward[offset + k] = x;
+                        if (x > m) {
+                            backwardEnd += 2;
+                        } else if (y > n) {
+                            backwardStart += 2;
+                        } else if (!odd) {
+                            int f = offset + delta - k;
+                            if (f >= 0 && f < length && forward[f] != -1) {
+                                int fx = forward[f];
+                                if (fx >= m - x) {
+                                    split(sourceStart, sourceEnd, targetStart, targetEnd, fx, fx - (f - offset));
+                                    return;
+                                }
+                            }
+                        }
                     }
                 }
+                // nothing in common
             }
 
-            emit(path, source, target, c, m, n);
+            private void split(int sourceStart, int sourceEnd, int targetStart, int targetEnd, int x, int y) {
+                match(sourceStart, sourceStart + x, targetStart, targetStart + y);
+                match(sourceStart + x, sourceEnd, targetStart + y, targetEnd);
+            }
         }
 
-        private void emit(final String path,
-                          final JsonArray source,
-                          final JsonArray target,
-                          final int[][] c,
-                          final int i,
-                          final int j) {
-           if (i == 0) {
-               if (j > 0) {
-                   emit(path, source, target, c, i, j - 1);
-                   builder.add(path + '/' + (j - 1), target.get(j - 1));
-               }
-           } else if (j == 0) {
-               if (i > 0) {
-                   builder.remove(path + '/' + (i - 1));
-                   emit(path, source, target, c, i - 1, j);
-               }
-           } else if ((c[i][j] & 1) == 1) {
-               emit(path, source, target, c, i - 1, j - 1);
-           } else {
-               final int f = c[i][j-1] >> 1;
-               final int g = c[i-1][j] >> 1;
-               if (f > g) {
-                   emit(path, source, target, c, i, j - 1);
-                   builder.add(path + '/' + (j - 1), target.get(j - 1));
-               } else if (f < g) {
-                   builder.remove(path + '/' + (i - 1));
-                   emit(path, source, target, c, i - 1, j);
-               } else { // f == g) {
-                   diff(path + '/' + (i - 1), source.get(i - 1),
-                     target.get(j - 1));
-                   emit(path, source, target, c, i - 1, j - 1);
-               }
-           }
+        private static int[] hashCodes(JsonArray array) {
+            int[] hashCodes = new int[array.size()];
+            for (int i = 0; i < hashCodes.length; i++) {
+                hashCodes[i] = array.get(i).hashCode();
+            }
+            return hashCodes;
         }
     }
 }
-
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -69,6 +69,12 @@ public class JsonPrettyGeneratorImpl extends JsonGeneratorImpl {
         return this;
     }
 
+    @Override
+    void continueStructure(boolean object, boolean first, int nestingDepth) {
+        super.continueStructure(object, first, nestingDepth);
+        indentLevel = nestingDepth;
+    }
+
     @Override
     public JsonGenerator writeEnd() {
         writeNewLine();
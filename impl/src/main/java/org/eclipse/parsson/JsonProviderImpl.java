@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -68,7 +68,10 @@ public class JsonProviderImpl extends JsonProvider {
     public JsonParserFactory createParserFactory(Map<String, ?> config) {
         return config == null
                 ? new JsonParserFactoryImpl(emptyContext)
-                : new JsonParserFactoryImpl(new JsonContext(config, bufferPool, JsonContext.PROPERTY_BUFFER_POOL));
+                : new JsonParserFactoryImpl(
+                        new JsonContext(config, bufferPool,
+                                        JsonConfig.DISABLE_LOCATION_TRACKING,
+                                        JsonContext.PROPERTY_BUFFER_POOL));
     }
 
     @Override
@@ -108,6 +111,7 @@ public class JsonProviderImpl extends JsonProvider {
                 : new JsonWriterFactoryImpl(
                         new JsonContext(config, bufferPool,
                                         JsonGenerator.PRETTY_PRINTING,
+                                        JsonConfig.PARALLEL_WRITE_THRESHOLD,
                                         JsonContext.PROPERTY_BUFFER_POOL));
     }
 
@@ -119,6 +123,9 @@ public class JsonProviderImpl extends JsonProvider {
                         new JsonContext(config, bufferPool,
                                         JsonConfig.REJECT_DUPLICATE_KEYS,
                                         jakarta.json.JsonConfig.KEY_STRATEGY,
+                                        JsonConfig.DISABLE_LOCATION_TRACKING,
+                                        JsonConfig.PARALLEL_READ_THRESHOLD,
+                                        JsonConfig.MAX_MATERIALIZED_DEPTH,
                                         JsonContext.PROPERTY_BUFFER_POOL));
     }
 
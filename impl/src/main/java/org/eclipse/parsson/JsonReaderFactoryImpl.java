@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -18,15 +18,30 @@ package org.eclipse.parsson;
 
 import jakarta.json.JsonReader;
 import jakarta.json.JsonReaderFactory;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParsingException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.eclipse.parsson.api.JsonLinesReader;
+import org.eclipse.parsson.api.JsonProjection;
+import org.eclipse.parsson.api.ParssonReaderFactory;
+import org.eclipse.parsson.api.ReusableJsonReader;
 
 /**
  * @author Jitendra Kotamraju
  */
-class JsonReaderFactoryImpl implements JsonReaderFactory {
+class JsonReaderFactoryImpl implements ParssonReaderFactory {
 
     private final JsonContext jsonContext;
 
@@ -49,6 +64,70 @@ class JsonReaderFactoryImpl implements JsonReaderFactory {
         return new JsonReaderImpl(in, charset, jsonContext);
     }
 
+    @Override
+    public JsonReader createReader(Reader reader, JsonProjection projection) {
+        return new JsonReaderImpl(new JsonParserImpl(reader, jsonContext), Objects.requireNonNull(projection));
+    }
+
+    @Override
+    public JsonReader createReader(InputStream in, JsonProjection projection) {
+        return new JsonReaderImpl(new JsonParserImpl(in, jsonContext), Objects.requireNonNull(projection));
+    }
+
+    @Override
+    public ReusableJsonReader createReusableReader() {
+        return new ReusableJsonReaderImpl(jsonContext);
+    }
+
+    @Override
+    public JsonLinesReader createJsonLinesReader(Reader reader) {
+        return new JsonLinesReaderImpl(reader, jsonContext);
+    }
+
+    @Override
+    public JsonLinesReader createJsonLinesReader(InputStream in) {
+        return new JsonLinesReaderImpl(new InputStreamReader(in, StandardCharsets.UTF_8), jsonContext);
+    }
+
+    @Override
+    public Stream<JsonValue> createJsonLinesStream(Path path, boolean ordered) {
+        return JsonLinesSpliterator.stream(path, JsonLinesSpliterator.MIN_SPLIT_SIZE, ordered, null, jsonContext);
+    }
+
+    @Override
+    public Stream<JsonValue> createJsonLinesStream(Path path, boolean ordered,
+                                                   Consumer<? super JsonParsingException> errorHandler) {
+        Objects.requireNonNull(errorHandler);
+        return JsonLinesSpliterator.stream(path, JsonLinesSpliterator.MIN_SPLIT_SIZE, ordered, errorHandler, jsonContext);
+    }
+
+    @Override
+    public JsonReader createReader(String json) {
+        char[] chars = json.toCharArray();
+        return new JsonReaderImpl(new JsonParserImpl(chars, 0, chars.length, jsonContext));
+    }
+
+    @Override
+    public JsonReader createReader(char[] chars, int offset, int length) {
+        return new JsonReaderImpl(new JsonParserImpl(chars, offset, length, jsonContext));
+    }
+
+    @Override
+    public JsonReader createReader(byte[] bytes, int offset, int length) {
+        CharBuffer chars = InputStreamDecoder.decode(bytes, offset, length, null);
+        return new JsonReaderImpl(new JsonParserImpl(chars.array(), 0, chars.limit(), jsonContext));
+    }
+
+    @Override
+    public JsonReader createReader(ByteBuffer buffer) {
+        return new JsonReaderImpl(new ByteBufferDecoder(buffer), jsonContext);
+    }
+
+    @Override
+    public JsonReader createReader(Path path) {
+        return new JsonReaderImpl(JsonParserImpl.ofFile(path, ByteBufferDecoder.WINDOW_SIZE, jsonContext));
+    }
+
     @Override
     public Map<String, ?> getConfigInUse() {
         return jsonContext.config();
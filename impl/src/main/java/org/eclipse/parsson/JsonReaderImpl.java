@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2022 Contributors to the Eclipse Foundation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -30,6 +30,8 @@ import jakarta.json.JsonValue;
 import jakarta.json.stream.JsonParser;
 import jakarta.json.stream.JsonParsingException;
 
+import org.eclipse.parsson.api.JsonProjection;
+
 /**
  * JsonReader impl using parser and builders.
  *
@@ -38,18 +40,33 @@ import jakarta.json.stream.JsonParsingException;
 class JsonReaderImpl implements JsonReader {
 
     private final JsonParserImpl parser;
+    private final JsonProjection projection;
     private boolean readDone;
-    
+
     JsonReaderImpl(Reader reader, JsonContext jsonContext) {
-        parser = new JsonParserImpl(reader, jsonContext);
+        this(new JsonParserImpl(reader, jsonContext));
     }
 
     JsonReaderImpl(InputStream in, JsonContext jsonContext) {
-        parser = new JsonParserImpl(in, jsonContext);
+        this(new JsonParserImpl(in, jsonContext));
     }
 
     JsonReaderImpl(InputStream in, Charset charset, JsonContext jsonContext) {
-        parser = new JsonParserImpl(in, charset, jsonContext);
+        this(new JsonParserImpl(in, charset, jsonContext));
+    }
+
+    JsonReaderImpl(JsonParserImpl parser) {
+        this(parser, null);
+    }
+
+    JsonReaderImpl(JsonParserImpl parser, JsonProjection projection) {
+        this.parser = parser;
+        this.projection = projection;
+    }
+
+    // Allows one more read after the parser was reset onto a new input
+    void resetReadDone() {
+        readDone = false;
     }
 
     @Override
@@ -62,9 +79,11 @@ class JsonReaderImpl implements JsonReader {
             try {
                 JsonParser.Event e = parser.next();
                 if (e == JsonParser.Event.START_ARRAY) {
-                    return parser.getArray();
+                    JsonStructure array = getStructure();
+                    return array != null ? array : parser.getArray();
                 } else if (e == JsonParser.Event.START_OBJECT) {
-                    return parser.getObject();
+                    JsonStructure object = getStructure();
+                    return object != null ? object : parser.getObject();
                 }
             } catch (IllegalStateException ise) {
                 throw new JsonParsingException(ise.getMessage(), ise, parser.getLastCharLocation());
@@ -81,7 +100,12 @@ class JsonReaderImpl implements JsonReader {
         readDone = true;
         if (parser.hasNext()) {
             try {
-                parser.next();
+                if (parser.next() == JsonParser.Event.START_OBJECT) {
+                    JsonStructure object = getStructure();
+                    if (object != null) {
+                        return (JsonObject) object;
+                    }
+                }
                 return parser.getObject();
             } catch (IllegalStateException ise) {
                 throw new JsonParsingException(ise.getMessage(), ise, parser.getLastCharLocation());
@@ -98,7 +122,12 @@ class JsonReaderImpl implements JsonReader {
         readDone = true;
         if (parser.hasNext()) {
             try {
-                parser.next();
+                if (parser.next() == JsonParser.Event.START_ARRAY) {
+                    JsonStructure array = getStructure();
+                    if (array != null) {
+                        return (JsonArray) array;
+                    }
+                }
                 return parser.getArray();
             } catch (IllegalStateException ise) {
                 throw new JsonParsingException(ise.getMessage(), ise, parser.getLastCharLocation());
@@ -115,7 +144,13 @@ class JsonReaderImpl implements JsonReader {
         readDone = true;
         if (parser.hasNext()) {
             try {
-                parser.next();
+                JsonParser.Event e = parser.next();
+                if (e == JsonParser.Event.START_ARRAY || e == JsonParser.Event.START_OBJECT) {
+                    JsonStructure structure = getStructure();
+                    if (structure != null) {
+                        return structure;
+                    }
+                }
                 return parser.getValue();
             } catch (IllegalStateException ise) {
                 throw new JsonParsingException(ise.getMessage(), ise, parser.getLastCharLocation());
@@ -124,6 +159,16 @@ class JsonReaderImpl implements JsonReader {
         throw new JsonException(JsonMessages.INTERNAL_ERROR());
     }
 
+    // Builds the current array or object with the projection, the depth
+    // limit or in parallel, returns null if it is to be built sequentially
+    private JsonStructure getStructure() {
+        if (projection != null) {
+            return (JsonStructure) parser.getProjectedValue(projection);
+        }
+        JsonStructure structure = parser.getBoundedStructure();
+        return structure != null ? structure : parser.getStructureInParallel();
+    }
+
     @Override
     public void close() {
         readDone = true;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -26,6 +26,7 @@ import jakarta.json.JsonString;
 final class JsonStringImpl implements JsonString {
 
     private final CharSequence value;
+    private int hashCode;
 
     JsonStringImpl(CharSequence value) {
         this.value = value;
@@ -48,7 +49,19 @@ final class JsonStringImpl implements JsonString {
 
     @Override
     public int hashCode() {
-        return getString().hashCode();
+        int h = hashCode;
+        if (h == 0) {
+            // same as getString().hashCode(), without creating the String
+            if (value instanceof String) {
+                h = value.hashCode();
+            } else {
+                for (int i = 0; i < value.length(); i++) {
+                    h = 31 * h + value.charAt(i);
+                }
+            }
+            hashCode = h;
+        }
+        return h;
     }
 
     @Override
@@ -59,8 +72,26 @@ final class JsonStringImpl implements JsonString {
         if (!(obj instanceof JsonString)) {
             return false;
         }
-        JsonString other = (JsonString)obj;
-        return getString().equals(other.getString());
+        if (obj instanceof JsonStringImpl) {
+            int otherHashCode = ((JsonStringImpl) obj).hashCode;
+            if (hashCode != 0 && otherHashCode != 0 && hashCode != otherHashCode) {
+                return false;
+            }
+        }
+        CharSequence other = ((JsonString) obj).getChars();
+        if (value instanceof String) {
+            return ((String) value).contentEquals(other);
+        }
+        int length = value.length();
+        if (length != other.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) != other.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
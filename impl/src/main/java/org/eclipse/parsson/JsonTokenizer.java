@@ -24,6 +24,7 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.io.Reader;
 import java.math.BigDecimal;
+import java.nio.CharBuffer;
 import java.util.Arrays;
 
 import jakarta.json.stream.JsonParser.Event;
@@ -52,12 +53,54 @@ final class JsonTokenizer implements Closeable {
 
     private final JsonContext jsonContext;
 
-    private final Reader reader;
+    // null when the whole input is in buf (in-memory input)
+    private Reader reader;
 
     // Internal buffer that is used for parsing. It is also used
-    // for storing current string and number value token
+    // for storing current string and number value token. For in-memory
+    // input, this is the caller's array which must not be modified
     private char[] buf;
 
+    // Array holding the current string and number value token. Same as buf,
+    // except for escaped strings of in-memory input, which are unescaped
+    // into the scratch array
+    private char[] store;
+    private char[] scratch;
+
+    // Pooled buffer kept aside while a reusable tokenizer is reset
+    // onto in-memory input
+    private char[] streamBuf;
+    private static final char[] NO_INPUT = new char[0];
+
+    // True for non-blocking input, the parser pushes chars into buf
+    // through feedBuffer() and fed() instead of a reader
+    private boolean feeding;
+
+    // Resumable state of hasBufferedEvent(), so that a long token arriving
+    // in many chunks is scanned only once
+    private static final int LOOK_WS = 0;
+    private static final int LOOK_STRING = 1;
+    private static final int LOOK_ESCAPE = 2;
+    private static final int LOOK_LITERAL = 3;
+    // The event at lookBase is buffered, kept until the parser moves on
+    private static final int LOOK_DONE = 4;
+    private long lookBase = -1;
+    private long lookPos;
+    private int lookState;
+    private boolean lookSeparator;
+
+    // Resumable state of isStructureBuffered(), so that buffered input is
+    // scanned only once however often and at whatever depth it is queried.
+    // scanCloses[d] is the last scanned position where the depth dropped to d
+    private long scanPos = -1;
+    private int scanDepth;
+    private boolean scanString;
+    private boolean scanEscaped;
+    private long[] scanCloses = new long[8];
+
+    // Bit d is set while skipStructure() is in an object at depth d
+    private long[] skipObjects = new long[1];
+
     // Indexes in buffer
     //
     // XXXssssssssssssXXXXXXXXXXXXXXXXXXXXXXrrrrrrrrrrrrrrXXXXXX
@@ -68,6 +111,9 @@ final class JsonTokenizer implements Closeable {
     private int readEnd;
     private int storeBegin;
     private int storeEnd;
+    // quotes of the last string token, including both quote chars
+    private int stringBegin;
+    private int stringEnd;
 
     // line number of the current pointer of parsing char
     private long lineNo = 1;
@@ -85,12 +131,21 @@ final class JsonTokenizer implements Closeable {
     private long bufferOffset = 0;
     private boolean closed = false;
 
-    // Tracks the total number of parse operations (character reads) during JSON parsing.
-    // Note: This count represents parse operations by the parser's control flow,
-    // which is higher than the literal JSON source length due to lookahead
-    // operations needed to determine parsing completion (e.g., detecting EOF after the
-    // last token). See JsonConfig.MAX_PARSING_LIMIT for details.
-    private int documentParseCount = 0;
+    // Maximum number of characters that may be consumed from the source.
+    // Consumed characters are not counted one by one, the stream offset
+    // (bufferOffset+readBegin) is checked against this limit once per token
+    // and once per buffer fill instead. See JsonConfig.MAX_PARSING_LIMIT.
+    private final int maxParsingLimit;
+    // Stream offset the limit is counted from, moved to the start of each
+    // value of a value sequence
+    private long limitBase = 0;
+    // When true, the limit is counted from the start of each token instead,
+    // for file input whose size is bounded by the file
+    private boolean limitPerToken;
+
+    // When false, lineNo and lastLineOffset are not maintained and locations
+    // carry only the stream offset
+    private final boolean trackLocation;
 
     private boolean minus;
     private boolean fracOrExp;
@@ -130,7 +185,41 @@ final class JsonTokenizer implements Closeable {
     JsonTokenizer(Reader reader, JsonContext jsonContext) {
         this.reader = reader;
         this.jsonContext = jsonContext;
-        buf = jsonContext.bufferPool().take();
+        this.maxParsingLimit = jsonContext.maxParsingLimit();
+        this.trackLocation = jsonContext.locationTracking();
+        buf = store = jsonContext.bufferPool().take();
+    }
+
+    // Tokenizes chars[offset, offset+length) in place, without copying the
+    // input into a pooled buffer and without any buffer fills
+    JsonTokenizer(char[] chars, int offset, int length, JsonContext jsonContext) {
+        this.reader = null;
+        this.jsonContext = jsonContext;
+        this.maxParsingLimit = jsonContext.maxParsingLimit();
+        this.trackLocation = jsonContext.locationTracking();
+        initInMemory(chars, offset, length);
+    }
+
+    // Tokenizes non-blocking input pushed by the parser
+    JsonTokenizer(JsonContext jsonContext) {
+        this.reader = null;
+        this.jsonContext = jsonContext;
+        this.maxParsingLimit = jsonContext.maxParsingLimit();
+        this.trackLocation = jsonContext.locationTracking();
+        buf = store = jsonContext.bufferPool().take();
+        feeding = true;
+    }
+
+    private void initInMemory(char[] chars, int offset, int length) {
+        if (offset < 0 || length < 0 || length > chars.length - offset) {
+            throw new IndexOutOfBoundsException();
+        }
+        buf = store = chars;
+        readBegin = offset;
+        readEnd = offset + length;
+        storeBegin = storeEnd = offset;
+        // stream offsets are relative to the start of the range
+        bufferOffset = -offset;
     }
 
     private void readString() {
@@ -143,7 +232,6 @@ final class JsonTokenizer implements Closeable {
             if (inPlace) {
                 int ch;
                 while(readBegin < readEnd && ((ch=buf[readBegin]) >= 0x20) && ch != '\\') {
-                    incrementParseCount();
                     if (ch == '"') {
                         storeEnd = readBegin++; // ++ to consume quote char
                         return;                 // Got the entire string
@@ -158,14 +246,25 @@ final class JsonTokenizer implements Closeable {
             int ch = read();
             if (ch >= 0x20 && ch != 0x22 && ch != 0x5c) {
                 if (!inPlace) {
-                    buf[storeEnd] = (char)ch;
+                    if (storeEnd == store.length) {
+                        growScratch();
+                    }
+                    store[storeEnd] = (char)ch;
                 }
                 storeEnd++;
                 continue;
             }
             switch (ch) {
                 case '\\':
-                    inPlace = false;        // Now onwards need to copy chars
+                    if (inPlace) {
+                        inPlace = false;    // Now onwards need to copy chars
+                        if (reader == null) {
+                            storeInScratch();
+                        }
+                    }
+                    if (storeEnd == store.length) {
+                        growScratch();
+                    }
                     unescape();
                     break;
                 case '"':
@@ -176,28 +275,45 @@ final class JsonTokenizer implements Closeable {
         } while (true);
     }
 
+    // In-memory input is never modified, escaped string is unescaped
+    // into the scratch array instead
+    private void storeInScratch() {
+        int storeLen = storeEnd - storeBegin;
+        if (scratch == null || scratch.length <= storeLen) {
+            scratch = new char[Math.max(128, 2 * storeLen)];
+        }
+        System.arraycopy(buf, storeBegin, scratch, 0, storeLen);
+        store = scratch;
+        storeBegin = 0;
+        storeEnd = storeLen;
+    }
+
+    private void growScratch() {
+        store = scratch = Arrays.copyOf(scratch, 2 * scratch.length);
+    }
+
     private void unescape() {
         int ch = read();
         switch (ch) {
             case 'b':
-                buf[storeEnd++] = '\b';
+                store[storeEnd++] = '\b';
                 break;
             case 't':
-                buf[storeEnd++] = '\t';
+                store[storeEnd++] = '\t';
                 break;
             case 'n':
-                buf[storeEnd++] = '\n';
+                store[storeEnd++] = '\n';
                 break;
             case 'f':
-                buf[storeEnd++] = '\f';
+                store[storeEnd++] = '\f';
                 break;
             case 'r':
-                buf[storeEnd++] = '\r';
+                store[storeEnd++] = '\r';
                 break;
             case '"':
             case '\\':
             case '/':
-                buf[storeEnd++] = (char)ch;
+                store[storeEnd++] = (char)ch;
                 break;
             case 'u': {
                 int unicode = 0;
@@ -209,7 +325,7 @@ final class JsonTokenizer implements Closeable {
                     }
                     unicode = (unicode << 4)|digit;
                 }
-                buf[storeEnd++] = (char)unicode;
+                store[storeEnd++] = (char)unicode;
                 break;
             }
             default:
@@ -222,7 +338,6 @@ final class JsonTokenizer implements Closeable {
     // of resizing, filling up the buf, adjusting the pointers
     private int readNumberChar() {
         if (readBegin < readEnd) {
-            incrementParseCount();
             return buf[readBegin++];
         } else {
             storeEnd = readBegin;
@@ -340,9 +455,17 @@ final class JsonTokenizer implements Closeable {
      */
     JsonToken nextToken() {
         reset();
+        if (limitPerToken) {
+            limitBase = bufferOffset+readBegin;
+        }
         int ch = read();
 
         // whitespace
+        if (!trackLocation) {
+            while (ch == 0x20 || ch == 0x09 || ch == 0x0a || ch == 0x0d) {
+                ch = read();
+            }
+        }
         while (ch == 0x20 || ch == 0x09 || ch == 0x0a || ch == 0x0d) {
             if (ch == '\r') {
                 ++lineNo;
@@ -360,31 +483,44 @@ final class JsonTokenizer implements Closeable {
             ch = read();
         }
 
+        JsonToken token;
         switch (ch) {
             case '"':
+                stringBegin = readBegin - 1;
                 readString();
-                return JsonToken.STRING;
+                stringEnd = readBegin;
+                token = JsonToken.STRING;
+                break;
             case '{':
-                return JsonToken.CURLYOPEN;
+                token = JsonToken.CURLYOPEN;
+                break;
             case '[':
-                return JsonToken.SQUAREOPEN;
+                token = JsonToken.SQUAREOPEN;
+                break;
             case ':':
-                return JsonToken.COLON;
+                token = JsonToken.COLON;
+                break;
             case ',':
-                return JsonToken.COMMA;
+                token = JsonToken.COMMA;
+                break;
             case 't':
                 readTrue();
-                return JsonToken.TRUE;
+                token = JsonToken.TRUE;
+                break;
             case 'f':
                 readFalse();
-                return JsonToken.FALSE;
+                token = JsonToken.FALSE;
+                break;
             case 'n':
                 readNull();
-                return JsonToken.NULL;
+                token = JsonToken.NULL;
+                break;
             case ']':
-                return JsonToken.SQUARECLOSE;
+                token = JsonToken.SQUARECLOSE;
+                break;
             case '}':
-                return JsonToken.CURLYCLOSE;
+                token = JsonToken.CURLYCLOSE;
+                break;
             case '0':
             case '1':
             case '2':
@@ -397,19 +533,32 @@ final class JsonTokenizer implements Closeable {
             case '9':
             case '-':
                 readNumber(ch);
-                return JsonToken.NUMBER;
+                token = JsonToken.NUMBER;
+                break;
             case -1:
-                return JsonToken.EOF;
+                token = JsonToken.EOF;
+                break;
             default:
                 throw unexpectedChar(ch);
         }
+        checkParseLimit();
+        return token;
     }
 
     boolean hasNextToken() {
         reset();
+        if (limitPerToken) {
+            limitBase = bufferOffset+readBegin;
+        }
         int ch = peek();
 
         // whitespace
+        if (!trackLocation) {
+            while (ch == 0x20 || ch == 0x09 || ch == 0x0a || ch == 0x0d) {
+                ++readBegin;
+                ch = peek();
+            }
+        }
         while (ch == 0x20 || ch == 0x09 || ch == 0x0a || ch == 0x0d) {
             if (ch == '\r') {
                 ++lineNo;
@@ -428,9 +577,402 @@ final class JsonTokenizer implements Closeable {
             ++readBegin;
             ch = peek();
         }
+        checkParseLimit();
         return ch != -1;
     }
 
+    /*
+     * Skips the rest of the current array or object without producing
+     * tokens. Only string and escape state and the open brackets are tracked,
+     * so string values are not copied or unescaped and numbers and literals
+     * are not validated. A nested structure closed by the wrong bracket is an
+     * error. Returns the token that closed the structure or EOF.
+     */
+    JsonToken skipStructure() {
+        return skipStructure(null);
+    }
+
+    // Same as skipStructure(), also appends the skipped chars to capture
+    JsonToken skipStructure(StringBuilder capture) {
+        reset();
+        int depth = 1;
+        boolean inString = false;
+        boolean escaped = false;
+        boolean cr = false;
+        while (readBegin < readEnd || peek() != -1) {
+            final char[] b = buf;
+            final int end = readEnd;
+            int i = readBegin;
+            while (i < end) {
+                if (inString) {
+                    if (escaped) {
+                        escaped = false;
+                        i++;
+                        continue;
+                    }
+                    // Same bulk scan as the in-place loop of readString()
+                    int ch;
+                    while (i < end && (ch = b[i]) != '"' && ch != '\\') {
+                        i++;
+                    }
+                    if (i < end) {
+                        escaped = b[i++] == '\\';
+                        inString = escaped;
+                    }
+                    continue;
+                }
+                char ch = b[i++];
+                switch (ch) {
+                    case '"':
+                        inString = true;
+                        break;
+                    case '{':
+                    case '[':
+                        if (++depth >> 6 == skipObjects.length) {
+                            skipObjects = Arrays.copyOf(skipObjects, 2*skipObjects.length);
+                        }
+                        if (ch == '{') {
+                            skipObjects[depth >> 6] |= 1L << depth;
+                        } else {
+                            skipObjects[depth >> 6] &= ~(1L << depth);
+                        }
+                        break;
+                    case '}':
+                    case ']':
+                        if (depth > 1 && (ch == '}') != ((skipObjects[depth >> 6] & 1L << depth) != 0)) {
+                            readBegin = i;
+                            throw expectedChar(ch, ch == '}' ? ']' : '}');
+                        }
+                        if (--depth == 0) {
+                            if (capture != null) {
+                                capture.append(b, readBegin, i - readBegin);
+                            }
+                            readBegin = i;
+                            checkParseLimit();
+                            return ch == '}' ? JsonToken.CURLYCLOSE : JsonToken.SQUARECLOSE;
+                        }
+                        break;
+                    case '\r':
+                        if (trackLocation) {
+                            ++lineNo;
+                            lastLineOffset = bufferOffset+i;
+                            cr = true;
+                        }
+                        continue;
+                    case '\n':
+                        if (trackLocation) {
+                            if (!cr) {
+                                ++lineNo;
+                            }
+                            lastLineOffset = bufferOffset+i;
+                        }
+                        break;
+                    default:
+                        break;
+                }
+                cr = false;
+            }
+            if (capture != null) {
+                capture.append(b, readBegin, i - readBegin);
+            }
+            readBegin = i;
+            if (limitPerToken && !inString) {
+                // skipped members are not tokenized, only a string may not
+                // span more than the limit
+                limitBase = bufferOffset+readBegin;
+            }
+        }
+        return JsonToken.EOF;
+    }
+
+    /*
+     * Returns the ranges of the members of the rest of the current array or
+     * object, or null unless the input is in memory and holds at least
+     * minLength more chars. The input is scanned up to the closing bracket
+     * the same way as skipStructure(), recording the position of each depth
+     * 1 comma and, for objects, of each depth 1 colon. Members are neither
+     * tokenized nor validated, and the position of the tokenizer is not
+     * changed, skipMembers() moves it past the structure without scanning
+     * it again. structureDepth is the nesting depth of the structure, which
+     * the members are parsed at.
+     */
+    JsonMemberRanges memberRanges(boolean object, int minLength, int structureDepth) {
+        if (reader != null || feeding || readEnd - readBegin < minLength) {
+            return null;
+        }
+        final char[] b = buf;
+        final int end = readEnd;
+        // bounds[i] is the separator before member i, bounds[count] closes the structure
+        int[] bounds = new int[16];
+        int[] colons = object ? new int[16] : null;
+        bounds[0] = readBegin - 1;
+        int count = 0;
+        int depth = 1;
+        boolean inString = false;
+        boolean escaped = false;
+        boolean empty = true;
+        long line = lineNo;
+        long lineOffset = lastLineOffset;
+        int i = readBegin;
+        while (i < end) {
+            char ch = b[i];
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (ch == '\\') {
+                    escaped = true;
+                } else if (ch == '"') {
+                    inString = false;
+                }
+                i++;
+                continue;
+            }
+            switch (ch) {
+                case '"':
+                    inString = true;
+                    break;
+                case '{':
+                case '[':
+                    depth++;
+                    break;
+                case '}':
+                case ']':
+                    if (--depth == 0) {
+                        if (empty && count == 0) {
+                            // members never hold only whitespace, so this is [] or {}
+                            bounds[0] = i;
+                        } else {
+                            bounds[++count] = i;
+                        }
+                        return new JsonMemberRanges(b, (int) -bufferOffset, bounds, colons, count,
+                                structureDepth, line, lineOffset);
+                    }
+                    break;
+                case '\r':
+                    if (trackLocation) {
+                        ++line;
+                        lineOffset = bufferOffset+i+1;
+                    }
+                    break;
+                case '\n':
+                    if (trackLocation) {
+                        if (b[i-1] != '\r') {
+                            ++line;
+                        }
+                        lineOffset = bufferOffset+i+1;
+                    }
+                    break;
+                case ',':
+                    if (depth == 1) {
+                        if (++count == bounds.length - 1) {
+                            bounds = Arrays.copyOf(bounds, 2 * bounds.length);
+                            if (object) {
+                                colons = Arrays.copyOf(colons, 2 * colons.length);
+                            }
+                        }
+                        bounds[count] = i;
+                    }
+                    break;
+                case ':':
+                    if (depth == 1 && object && colons[count] == 0) {
+                        colons[count] = i;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            if (ch != 0x20 && ch != 0x09 && ch != 0x0a && ch != 0x0d) {
+                empty = false;
+            }
+            i++;
+        }
+        // Unterminated, leave the error to the parser
+        return null;
+    }
+
+    // Moves past the structure whose members are ranges, which memberRanges()
+    // found at the current position. Returns the closing token
+    JsonToken skipMembers(JsonMemberRanges ranges) {
+        reset();
+        readBegin = ranges.end()+1;
+        if (trackLocation) {
+            lineNo = ranges.endLineNo();
+            lastLineOffset = ranges.endLineOffset();
+        }
+        checkParseLimit();
+        return buf[readBegin-1] == '}' ? JsonToken.CURLYCLOSE : JsonToken.SQUARECLOSE;
+    }
+
+    /*
+     * Returns the free tail of the buffer with room for at least length
+     * chars of non-blocking input. Consumed chars are dropped first, except
+     * the value of the current token. The parser decodes into the returned
+     * buffer and reports its new position with fed().
+     */
+    CharBuffer feedBuffer(int length) {
+        if (buf.length - readEnd < length) {
+            boolean storeInBuf = store == buf && storeEnd > storeBegin;
+            int keep = storeInBuf ? Math.min(storeBegin, readBegin) : readBegin;
+            int live = readEnd - keep;
+            char[] dest = buf.length - live < length
+                    ? new char[Math.max(2 * buf.length, live + length)]
+                    : buf;
+            System.arraycopy(buf, keep, dest, 0, live);
+            if (dest != buf) {
+                jsonContext.bufferPool().recycle(buf);
+                if (store == buf) {
+                    store = dest;
+                }
+                buf = dest;
+            }
+            if (storeInBuf) {
+                storeBegin -= keep;
+                storeEnd -= keep;
+            } else if (store == buf) {
+                storeBegin = storeEnd = 0;
+            }
+            readBegin -= keep;
+            readEnd -= keep;
+            bufferOffset += keep;
+        }
+        return CharBuffer.wrap(buf, readEnd, buf.length - readEnd);
+    }
+
+    // Buffered input is charged against the parsing limit as it arrives,
+    // an incomplete token must not grow the buffer without bounds
+    void fed(CharBuffer chars) {
+        readEnd = chars.position();
+        if (bufferOffset+readEnd-limitBase > maxParsingLimit) {
+            throw new JsonException(JsonMessages.PARSER_COUNT_EXCEEDED(maxParsingLimit));
+        }
+    }
+
+    /*
+     * Whether the buffered non-blocking input holds all tokens of the next
+     * parser event, i.e. an optional comma or colon and one complete token.
+     * Numbers and literals are complete once a delimiter follows them. Other
+     * malformed input is left to nextToken() to report.
+     */
+    boolean hasBufferedEvent() {
+        long base = bufferOffset+readBegin;
+        if (base != lookBase) {
+            lookBase = base;
+            lookPos = base;
+            lookState = LOOK_WS;
+            lookSeparator = false;
+        } else if (lookState == LOOK_DONE) {
+            return true;
+        }
+        final char[] b = buf;
+        int i = (int) (lookPos-bufferOffset);
+        for (; i < readEnd; i++) {
+            char ch = b[i];
+            switch (lookState) {
+                case LOOK_WS:
+                    if (ch == 0x20 || ch == 0x09 || ch == 0x0a || ch == 0x0d) {
+                        break;
+                    } else if ((ch == ',' || ch == ':') && !lookSeparator) {
+                        lookSeparator = true;
+                    } else if (ch == '"') {
+                        lookState = LOOK_STRING;
+                    } else if (isDelimiter(ch)) {
+                        lookState = LOOK_DONE;
+                        return true;
+                    } else {
+                        lookState = LOOK_LITERAL;
+                    }
+                    break;
+                case LOOK_STRING:
+                    if (ch == '"') {
+                        lookState = LOOK_DONE;
+                        return true;
+                    } else if (ch == '\\') {
+                        lookState = LOOK_ESCAPE;
+                    }
+                    break;
+                case LOOK_ESCAPE:
+                    lookState = LOOK_STRING;
+                    break;
+                default:
+                    if (isDelimiter(ch) || ch == 0x20 || ch == 0x09 || ch == 0x0a || ch == 0x0d) {
+                        lookState = LOOK_DONE;
+                        return true;
+                    }
+                    break;
+            }
+        }
+        lookPos = bufferOffset+i;
+        return false;
+    }
+
+    private static boolean isDelimiter(char ch) {
+        switch (ch) {
+            case '{':
+            case '}':
+            case '[':
+            case ']':
+            case ',':
+            case ':':
+            case '"':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    // Whether the rest of the array or object at the given nesting depth,
+    // i.e. the one the parser is in, is buffered
+    boolean isStructureBuffered(int depth) {
+        long begin = bufferOffset+readBegin;
+        if (scanPos < begin) {
+            // the parser went past the scanned input, scan on from here
+            scanPos = begin;
+            scanDepth = depth;
+            scanString = false;
+            scanEscaped = false;
+            if (scanCloses.length < depth) {
+                scanCloses = new long[2*depth];
+            }
+            Arrays.fill(scanCloses, -1);
+        }
+        if (depth > 0 && depth <= scanCloses.length && scanCloses[depth-1] >= begin) {
+            return true;
+        }
+        final char[] b = buf;
+        int i = (int) (scanPos-bufferOffset);
+        try {
+            for (; i < readEnd; i++) {
+                char ch = b[i];
+                if (scanString) {
+                    if (scanEscaped) {
+                        scanEscaped = false;
+                    } else if (ch == '\\') {
+                        scanEscaped = true;
+                    } else if (ch == '"') {
+                        scanString = false;
+                    }
+                } else if (ch == '"') {
+                    scanString = true;
+                } else if (ch == '{' || ch == '[') {
+                    if (++scanDepth > scanCloses.length) {
+                        int length = scanCloses.length;
+                        scanCloses = Arrays.copyOf(scanCloses, 2*scanDepth);
+                        Arrays.fill(scanCloses, length, scanCloses.length, -1);
+                    }
+                } else if ((ch == '}' || ch == ']') && scanDepth > 0) {
+                    scanCloses[--scanDepth] = bufferOffset+i;
+                    if (scanDepth == depth-1) {
+                        i++;
+                        return true;
+                    }
+                }
+            }
+            return false;
+        } finally {
+            scanPos = bufferOffset+i;
+        }
+    }
+
     private int peek() {
         try {
             if (readBegin == readEnd) {     // need to fill the buffer
@@ -451,12 +993,18 @@ final class JsonTokenizer implements Closeable {
     // Gives the location of the last char. Used for
     // JsonParsingException.getLocation
     JsonLocation getLastCharLocation() {
+        if (!trackLocation) {
+            return new JsonLocationImpl(-1, -1, bufferOffset +readBegin-1);
+        }
         // Already read the char, so subtracting -1
         return new JsonLocationImpl(lineNo, bufferOffset +readBegin-lastLineOffset, bufferOffset +readBegin-1);
     }
 
     // Gives the parser location. Used for JsonParser.getLocation
     JsonLocation getLocation() {
+        if (!trackLocation) {
+            return new JsonLocationImpl(-1, -1, bufferOffset +readBegin);
+        }
         return new JsonLocationImpl(lineNo, bufferOffset +readBegin-lastLineOffset+1, bufferOffset +readBegin);
     }
 
@@ -471,20 +1019,39 @@ final class JsonTokenizer implements Closeable {
                 readBegin = storeEnd;
                 readEnd = readBegin+len;
             }
-            incrementParseCount();
             return buf[readBegin++];
         } catch (IOException ioe) {
             throw new JsonException(JsonMessages.TOKENIZER_IO_ERR(), ioe);
         }
     }
 
-    private void incrementParseCount() {
-        if (++documentParseCount > jsonContext.maxParsingLimit()) {
-            throw new JsonException(JsonMessages.PARSER_COUNT_EXCEEDED(jsonContext.maxParsingLimit()));
+    // Charges all the characters consumed so far against the parsing limit.
+    // Called per token and per buffer fill rather than per character, so that
+    // the scanning loops stay free of the counter
+    private void checkParseLimit() {
+        if (bufferOffset+readBegin-limitBase > maxParsingLimit) {
+            throw new JsonException(JsonMessages.PARSER_COUNT_EXCEEDED(maxParsingLimit));
         }
     }
 
+    // Starts counting the parsing limit from the current position, so that
+    // each value of a value sequence gets the whole limit
+    void resetParseLimit() {
+        limitBase = bufferOffset+readBegin;
+    }
+
+    // Counts the parsing limit per token, so that the size of the input is
+    // not limited
+    void limitPerToken() {
+        limitPerToken = true;
+    }
+
     private int fillBuf() throws IOException {
+        checkParseLimit();
+        if (reader == null) {
+            // in-memory input is never refilled
+            return -1;
+        }
         if (storeEnd != 0) {
             int storeLen = storeEnd-storeBegin;
             if (storeLen > 0) {
@@ -493,7 +1060,7 @@ final class JsonTokenizer implements Closeable {
                     // buffer is full, double the capacity
                     char[] doubleBuf = Arrays.copyOf(buf, 2 * buf.length);
                     jsonContext.bufferPool().recycle(buf);
-                    buf = doubleBuf;
+                    buf = store = doubleBuf;
                 } else {
                     // Left shift all the stored data to make space
                     System.arraycopy(buf, storeBegin, buf, 0, storeLen);
@@ -509,11 +1076,17 @@ final class JsonTokenizer implements Closeable {
             bufferOffset += readBegin;
         }
         // Fill the rest of the buf
-        return reader.read(buf, storeEnd, buf.length-storeEnd);
+        int len = reader.read(buf, storeEnd, buf.length-storeEnd);
+        if (len == -1) {
+            // bufferOffset already moved past the consumed chars
+            readBegin = readEnd = storeEnd;
+        }
+        return len;
     }
 
     // state associated with the current token is no more valid
     private void reset() {
+        store = buf;
         if (storeEnd != 0) {
             storeBegin = 0;
             storeEnd = 0;
@@ -524,12 +1097,49 @@ final class JsonTokenizer implements Closeable {
     }
 
     String getValue() {
-        return new String(buf, storeBegin, storeEnd-storeBegin);
+        return new String(store, storeBegin, storeEnd-storeBegin);
     }
 
     CharSequence getCharSequence() {
       int len = storeEnd - storeBegin;
-      return new StringBuilder(len).append(buf, storeBegin, len);
+      return new StringBuilder(len).append(store, storeBegin, len);
+    }
+
+    // Index of the opening bracket of the current structure of in-memory
+    // input, -1 for other input. Only whitespace was consumed after the bracket
+    int inMemoryStructureBegin() {
+        if (reader != null || feeding) {
+            return -1;
+        }
+        int i = readBegin - 1;
+        while (buf[i] == 0x20 || buf[i] == 0x09 || buf[i] == 0x0a || buf[i] == 0x0d) {
+            i--;
+        }
+        return i;
+    }
+
+    // Chars of in-memory input from begin to the last consumed char, without copying
+    CharSequence inMemoryView(int begin) {
+        return CharBuffer.wrap(buf, begin, readBegin - begin);
+    }
+
+    // Chars of the last string token of in-memory input including the quotes,
+    // as escaped in the input, without copying. null for other input
+    CharSequence inMemoryStringView() {
+        if (reader != null || feeding) {
+            return null;
+        }
+        return CharBuffer.wrap(buf, stringBegin, stringEnd - stringBegin);
+    }
+
+    // Wraps the chars of the current string or number token without copying,
+    // valid until the next token. The given view is reused if it wraps the
+    // array holding the token
+    CharBuffer getCharView(CharBuffer view) {
+        CharBuffer cb = view != null && view.array() == store ? view : CharBuffer.wrap(store);
+        cb.clear();
+        cb.limit(storeEnd).position(storeBegin);
+        return cb;
     }
 
     BigDecimal getBigDecimal() {
@@ -541,7 +1151,7 @@ final class JsonTokenizer implements Closeable {
                                 "Number of BigDecimal source characters %d exceeded maximal allowed value of %d",
                                 sourceLen, jsonContext.bigDecimalLengthLimit()));
             }
-            bd = new BigDecimal(buf, storeBegin, sourceLen);
+            bd = new BigDecimal(store, storeBegin, sourceLen);
         }
         return bd;
     }
@@ -553,7 +1163,7 @@ final class JsonTokenizer implements Closeable {
             int num = 0;
             int i = minus ? 1 : 0;
             for(; i < storeLen; i++) {
-                num = num * 10 + (buf[storeBegin+i] - '0');
+                num = num * 10 + (store[storeBegin+i] - '0');
             }
             return minus ? -num : num;
         } else {
@@ -568,7 +1178,7 @@ final class JsonTokenizer implements Closeable {
             long num = 0;
             int i = minus ? 1 : 0;
             for(; i < storeLen; i++) {
-                num = num * 10 + (buf[storeBegin+i] - '0');
+                num = num * 10 + (store[storeBegin+i] - '0');
             }
             return minus ? -num : num;
         } else {
@@ -576,6 +1186,14 @@ final class JsonTokenizer implements Closeable {
         }
     }
 
+    double getDouble() {
+        // integers of up to 18 digits convert exactly rounded from long
+        if (isDefinitelyLong()) {
+            return getLong();
+        }
+        return bd != null ? bd.doubleValue() : Double.parseDouble(new String(store, storeBegin, storeEnd - storeBegin));
+    }
+
     // returns true for common integer values (1-9 digits).
     // So there are cases it will return false even though the number is int
     boolean isDefinitelyInt() {
@@ -597,12 +1215,99 @@ final class JsonTokenizer implements Closeable {
     @Override
     public void close() throws IOException {
         if (!closed) {
-            reader.close();
-            jsonContext.bufferPool().recycle(buf);
+            if (reader != null) {
+                reader.close();
+                jsonContext.bufferPool().recycle(buf);
+            } else if (feeding) {
+                jsonContext.bufferPool().recycle(buf);
+            } else if (streamBuf != null) {
+                jsonContext.bufferPool().recycle(streamBuf);
+                streamBuf = null;
+            }
             closed = true;
         }
     }
 
+    // Closes the reader and returns the pooled buffer, the next
+    // reset(Reader) takes a buffer again
+    void release() throws IOException {
+        char[] pooled = reader != null ? buf : streamBuf;
+        try {
+            if (!closed && reader != null) {
+                reader.close();
+            }
+        } finally {
+            closed = true;
+            reader = null;
+            streamBuf = null;
+            initInMemory(NO_INPUT, 0, 0);
+            if (pooled != null) {
+                jsonContext.bufferPool().recycle(pooled);
+            }
+        }
+    }
+
+    // Starts tokenizing a new input, the buffer is reused
+    void reset(Reader reader) {
+        if (this.reader == null) {
+            buf = streamBuf != null ? streamBuf : jsonContext.bufferPool().take();
+            streamBuf = null;
+        }
+        this.reader = reader;
+        store = buf;
+        readBegin = readEnd = 0;
+        storeBegin = storeEnd = 0;
+        bufferOffset = 0;
+        resetState();
+    }
+
+    // Starts tokenizing in-memory input, the pooled buffer is kept aside
+    void reset(char[] chars, int offset, int length) {
+        if (reader != null) {
+            streamBuf = buf;
+            reader = null;
+        }
+        initInMemory(chars, offset, length);
+        resetState();
+    }
+
+    // Counts the stream offsets of in-memory input started by reset(char[],
+    // int, int) from origin, the start of the whole document, instead of
+    // from the start of the input. With lines, also the line and column are
+    // counted from origin, which scans the chars before the input
+    void relocate(int origin, boolean lines) {
+        bufferOffset = -origin;
+        limitBase = bufferOffset+readBegin;
+        if (lines && trackLocation) {
+            long line = 1;
+            long lineStart = 0;
+            for (int i = origin; i < readBegin; i++) {
+                char ch = buf[i];
+                if (ch == '\n') {
+                    if (i == origin || buf[i-1] != '\r') {
+                        line++;
+                    }
+                    lineStart = i+1-origin;
+                } else if (ch == '\r') {
+                    line++;
+                    lineStart = i+1-origin;
+                }
+            }
+            lineNo = line;
+            lastLineOffset = lineStart;
+        }
+    }
+
+    private void resetState() {
+        limitBase = 0;
+        lineNo = 1;
+        lastLineOffset = 0;
+        closed = false;
+        bd = null;
+        minus = false;
+        fracOrExp = false;
+    }
+
     private JsonParsingException unexpectedChar(int ch) {
         JsonLocation location = getLastCharLocation();
         return new JsonParsingException(
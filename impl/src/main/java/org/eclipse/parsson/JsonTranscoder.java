@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson;
+
+import java.nio.CharBuffer;
+
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
+
+import org.eclipse.parsson.api.JsonMemberFilter;
+
+/**
+ * Copies a JSON value from a parser into a generator event by event.
+ * With Parsson parser and generator, strings and numbers go from the
+ * tokenizer buffer straight into the generator buffer.
+ */
+final class JsonTranscoder {
+
+    private final JsonParser parser;
+    private final JsonGenerator generator;
+    private final JsonMemberFilter filter;
+    // Set when the tokens can be copied without String or BigDecimal
+    private final JsonTokenizer tokenizer;
+    private final JsonGeneratorImpl generatorImpl;
+    private CharBuffer view;
+
+    private JsonTranscoder(JsonParser parser, JsonGenerator generator, JsonMemberFilter filter) {
+        this.parser = parser;
+        this.generator = generator;
+        this.filter = filter;
+        boolean direct = parser instanceof JsonParserImpl && generator instanceof JsonGeneratorImpl;
+        this.tokenizer = direct ? ((JsonParserImpl) parser).tokenizer : null;
+        this.generatorImpl = direct ? (JsonGeneratorImpl) generator : null;
+    }
+
+    static boolean transcode(JsonParser parser, JsonGenerator generator, JsonMemberFilter filter) {
+        return new JsonTranscoder(parser, generator, filter).copy();
+    }
+
+    private boolean copy() {
+        int depth = 0;
+        do {
+            JsonParser.Event event = parser.next();
+            switch (event) {
+                case START_OBJECT:
+                    generator.writeStartObject();
+                    depth++;
+                    break;
+                case START_ARRAY:
+                    generator.writeStartArray();
+                    depth++;
+                    break;
+                case END_OBJECT:
+                case END_ARRAY:
+                    if (depth == 0) {
+                        // end of the enclosing structure, there is no value
+                        return false;
+                    }
+                    generator.writeEnd();
+                    depth--;
+                    break;
+                case KEY_NAME:
+                    copyMember(depth);
+                    break;
+                default:
+                    copyScalar(event);
+            }
+        } while (depth > 0);
+        return true;
+    }
+
+    private void copyMember(int depth) {
+        String name = parser.getString();
+        JsonMemberFilter.Action action = filter != null ? filter.filter(depth, name) : JsonMemberFilter.Action.keep();
+        if (action.isDrop() || action.getValue() != null) {
+            skipValue();
+            if (!action.isDrop()) {
+                generator.write(action.getName() != null ? action.getName() : name, action.getValue());
+            }
+            return;
+        }
+        generator.writeKey(action.getName() != null ? action.getName() : name);
+    }
+
+    private void skipValue() {
+        JsonParser.Event event = parser.next();
+        if (event == JsonParser.Event.START_OBJECT) {
+            parser.skipObject();
+        } else if (event == JsonParser.Event.START_ARRAY) {
+            parser.skipArray();
+        }
+    }
+
+    private void copyScalar(JsonParser.Event event) {
+        switch (event) {
+            case VALUE_STRING:
+                if (tokenizer != null) {
+                    generatorImpl.writeStringValue(view = tokenizer.getCharView(view));
+                } else {
+                    generator.write(parser.getString());
+                }
+                break;
+            case VALUE_NUMBER:
+                if (tokenizer != null) {
+                    generatorImpl.writeNumberValue(view = tokenizer.getCharView(view));
+                } else {
+                    generator.write(parser.getBigDecimal());
+                }
+                break;
+            case VALUE_TRUE:
+                generator.write(JsonValue.TRUE);
+                break;
+            case VALUE_FALSE:
+                generator.write(JsonValue.FALSE);
+                break;
+            default:
+                generator.writeNull();
+        }
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser.Event;
+import jakarta.json.stream.JsonParsingException;
+
+import org.eclipse.parsson.api.JsonValueDecoder;
+
+/**
+ * {@link JsonValueDecoder} on top of the non-blocking parser. Values are
+ * built from parser events as the events become available, so an array or
+ * object split across chunks is not scanned twice.
+ */
+final class JsonValueDecoderImpl implements JsonValueDecoder {
+
+    private final NonBlockingJsonParserImpl parser;
+    private final JsonContext jsonContext;
+    private final boolean arrayElements;
+
+    // Builders of the arrays and objects enclosing the current event, and
+    // the keys the builders are added with to their parents
+    private final List<Object> builders = new ArrayList<>();
+    private final List<String> keys = new ArrayList<>();
+    private String key;
+    private boolean arrayStarted;
+
+    JsonValueDecoderImpl(boolean arrayElements, JsonContext jsonContext) {
+        this.parser = new NonBlockingJsonParserImpl(null, jsonContext);
+        this.jsonContext = jsonContext;
+        this.arrayElements = arrayElements;
+        parser.setValueSequence(!arrayElements);
+    }
+
+    @Override
+    public void feed(ByteBuffer chunk) {
+        parser.feed(chunk);
+    }
+
+    @Override
+    public void endOfInput() {
+        parser.endOfInput();
+    }
+
+    @Override
+    public JsonValue poll() {
+        while (parser.hasNext()) {
+            Event event = parser.next();
+            JsonValue value;
+            switch (event) {
+                case START_ARRAY:
+                    if (arrayElements && !arrayStarted) {
+                        arrayStarted = true;
+                    } else {
+                        push(new JsonArrayBuilderImpl(jsonContext));
+                    }
+                    continue;
+                case START_OBJECT:
+                    if (arrayElements && !arrayStarted) {
+                        throw expectedArray(event);
+                    }
+                    push(new JsonObjectBuilderImpl(jsonContext));
+                    continue;
+                case KEY_NAME:
+                    key = parser.getString();
+                    continue;
+                case END_ARRAY:
+                    if (builders.isEmpty()) {
+                        // end of the top-level array
+                        continue;
+                    }
+                    value = ((JsonArrayBuilder) pop()).build();
+                    break;
+                case END_OBJECT:
+                    value = ((JsonObjectBuilder) pop()).build();
+                    break;
+                default:
+                    if (arrayElements && !arrayStarted) {
+                        throw expectedArray(event);
+                    }
+                    value = parser.getValue();
+                    break;
+            }
+            if (builders.isEmpty()) {
+                return value;
+            }
+            Object parent = builders.get(builders.size() - 1);
+            if (parent instanceof JsonArrayBuilder) {
+                ((JsonArrayBuilder) parent).add(value);
+            } else {
+                ((JsonObjectBuilder) parent).add(key, value);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean needsInput() {
+        return parser.needsInput();
+    }
+
+    @Override
+    public boolean isFinished() {
+        return !parser.needsInput() && !parser.hasNext();
+    }
+
+    @Override
+    public void close() {
+        parser.close();
+    }
+
+    private void push(Object builder) {
+        builders.add(builder);
+        keys.add(key);
+    }
+
+    private Object pop() {
+        int last = builders.size() - 1;
+        key = keys.remove(last);
+        return builders.remove(last);
+    }
+
+    private JsonParsingException expectedArray(Event event) {
+        return new JsonParsingException(JsonMessages.PARSER_EXPECTED_ARRAY(event), parser.getLastCharLocation());
+    }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import jakarta.json.JsonValue;
+
+import org.eclipse.parsson.api.JsonValueEncoder;
+
+/**
+ * {@link JsonValueEncoder} on top of {@link JsonGeneratorImpl}. The generator
+ * writes into an output stream that cuts the bytes into chunks.
+ */
+final class JsonValueEncoderImpl implements JsonValueEncoder {
+
+    private final JsonContext jsonContext;
+    private final boolean arrayElements;
+    private final ChunkOutputStream out;
+    // Created with the first value, no output is made for no values
+    private JsonGeneratorImpl generator;
+    private boolean completed;
+
+    JsonValueEncoderImpl(boolean arrayElements, int chunkSize, JsonContext jsonContext) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.jsonContext = jsonContext;
+        this.arrayElements = arrayElements;
+        this.out = new ChunkOutputStream(chunkSize);
+    }
+
+    @Override
+    public void write(JsonValue value) {
+        if (completed) {
+            throw new IllegalStateException(JsonMessages.GENERATOR_VALUE_ENCODER_COMPLETED());
+        }
+        if (generator == null) {
+            start();
+        } else if (!arrayElements) {
+            generator.writeTextSeparator('\n');
+        }
+        generator.write(value);
+    }
+
+    @Override
+    public void flush() {
+        if (generator != null) {
+            generator.flush();
+        }
+    }
+
+    @Override
+    public void complete() {
+        if (completed) {
+            return;
+        }
+        if (generator == null) {
+            if (!arrayElements) {
+                completed = true;
+                return;
+            }
+            start();
+        }
+        if (arrayElements) {
+            generator.writeEnd();
+        }
+        generator.close();
+        completed = true;
+    }
+
+    @Override
+    public ByteBuffer poll() {
+        return out.chunks.poll();
+    }
+
+    @Override
+    public void close() {
+        if (!completed && generator != null) {
+            // The output is incomplete, only the buffer is released
+            generator.release();
+        }
+        completed = true;
+        out.chunks.clear();
+    }
+
+    private void start() {
+        generator = jsonContext.prettyPrinting()
+                ? new JsonPrettyGeneratorImpl(out, jsonContext)
+                : new JsonGeneratorImpl(out, jsonContext);
+        if (arrayElements) {
+            generator.writeStartArray();
+        }
+    }
+
+    // Cuts the written bytes into chunks of the given size, flush
+    // makes a shorter chunk of the bytes written so far
+    private static final class ChunkOutputStream extends OutputStream {
+
+        private final int chunkSize;
+        private final Queue<ByteBuffer> chunks = new ArrayDeque<>();
+        private ByteBuffer chunk;
+
+        ChunkOutputStream(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public void write(int b) {
+            if (chunk == null) {
+                chunk = ByteBuffer.allocate(chunkSize);
+            }
+            chunk.put((byte) b);
+            if (!chunk.hasRemaining()) {
+                emit();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            while (len > 0) {
+                if (chunk == null) {
+                    chunk = ByteBuffer.allocate(chunkSize);
+                }
+                int n = Math.min(len, chunk.remaining());
+                chunk.put(b, off, n);
+                off += n;
+                len -= n;
+                if (!chunk.hasRemaining()) {
+                    emit();
+                }
+            }
+        }
+
+        @Override
+        public void flush() {
+            if (chunk != null && chunk.position() > 0) {
+                emit();
+            }
+        }
+
+        @Override
+        public void close() {
+            flush();
+        }
+
+        private void emit() {
+            chunk.flip();
+            chunks.add(chunk);
+            chunk = null;
+        }
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,16 +17,20 @@
 package org.eclipse.parsson;
 
 import jakarta.json.JsonWriter;
-import jakarta.json.JsonWriterFactory;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
+import org.eclipse.parsson.api.JsonLinesWriter;
+import org.eclipse.parsson.api.ParssonWriterFactory;
+
 /**
  * @author Jitendra Kotamraju
  */
-class JsonWriterFactoryImpl implements JsonWriterFactory {
+class JsonWriterFactoryImpl implements ParssonWriterFactory {
 
     private final JsonContext jsonContext;
 
@@ -49,6 +53,16 @@ class JsonWriterFactoryImpl implements JsonWriterFactory {
         return new JsonWriterImpl(out, charset, jsonContext);
     }
 
+    @Override
+    public JsonLinesWriter createJsonLinesWriter(Writer writer) {
+        return new JsonLinesWriterImpl(writer, jsonContext);
+    }
+
+    @Override
+    public JsonLinesWriter createJsonLinesWriter(OutputStream out) {
+        return new JsonLinesWriterImpl(new OutputStreamWriter(out, StandardCharsets.UTF_8), jsonContext);
+    }
+
     @Override
     public Map<String, ?> getConfigInUse() {
         return jsonContext.config();
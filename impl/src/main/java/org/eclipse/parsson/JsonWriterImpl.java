@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -33,6 +33,7 @@ import java.util.Map;
 class JsonWriterImpl implements JsonWriter {
 
     private final JsonGeneratorImpl generator;
+    private final JsonContext jsonContext;
     private boolean writeDone;
     private final NoFlushOutputStream os;
 
@@ -40,6 +41,7 @@ class JsonWriterImpl implements JsonWriter {
         this.generator = jsonContext.prettyPrinting()
                 ? new JsonPrettyGeneratorImpl(writer, jsonContext)
                 : new JsonGeneratorImpl(writer, jsonContext);
+        this.jsonContext = jsonContext;
         this.os = null;
     }
 
@@ -54,6 +56,7 @@ class JsonWriterImpl implements JsonWriter {
         this.generator = jsonContext.prettyPrinting()
                 ? new JsonPrettyGeneratorImpl(os, charset, jsonContext)
                 : new JsonGeneratorImpl(os, charset, jsonContext);
+        this.jsonContext = jsonContext;
     }
 
     @Override
@@ -62,11 +65,13 @@ class JsonWriterImpl implements JsonWriter {
             throw new IllegalStateException(JsonMessages.WRITER_WRITE_ALREADY_CALLED());
         }
         writeDone = true;
-        generator.writeStartArray();
-        for(JsonValue value : array) {
-            generator.write(value);
+        if (!ParallelStructureWriter.write(generator, array, jsonContext)) {
+            generator.writeStartArray();
+            for(JsonValue value : array) {
+                generator.write(value);
+            }
+            generator.writeEnd();
         }
-        generator.writeEnd();
         // Flush the generator's buffered contents. This won't work for byte
         // streams as intermediary OutputStreamWriter buffers.
         generator.flushBuffer();
@@ -84,11 +89,13 @@ class JsonWriterImpl implements JsonWriter {
             throw new IllegalStateException(JsonMessages.WRITER_WRITE_ALREADY_CALLED());
         }
         writeDone = true;
-        generator.writeStartObject();
-        for(Map.Entry<String, JsonValue> e : object.entrySet()) {
-            generator.write(e.getKey(), e.getValue());
+        if (!ParallelStructureWriter.write(generator, object, jsonContext)) {
+            generator.writeStartObject();
+            for(Map.Entry<String, JsonValue> e : object.entrySet()) {
+                generator.write(e.getKey(), e.getValue());
+            }
+            generator.writeEnd();
         }
-        generator.writeEnd();
         // Flush the generator's buffered contents. This won't work for byte
         // streams as intermediary OutputStreamWriter buffers.
         generator.flushBuffer();
@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson;
+
+import java.nio.CharBuffer;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
+
+/**
+ * Arrays and objects that keep their JSON text and parse it on first access,
+ * see {@link org.eclipse.parsson.api.JsonConfig#MAX_MATERIALIZED_DEPTH}.
+ */
+final class LazyJsonValues {
+
+    private LazyJsonValues() {
+    }
+
+    // depth is the nesting depth of the structure holding the text, which
+    // counts against the depth limit when the text is parsed
+    static JsonStructure of(CharSequence text, boolean object, int depth, JsonContext jsonContext) {
+        char[] chars = toChars(text);
+        return object ? new LazyJsonObject(chars, depth, jsonContext) : new LazyJsonArray(chars, depth, jsonContext);
+    }
+
+    private static char[] toChars(CharSequence text) {
+        if (text instanceof CharBuffer && ((CharBuffer) text).hasArray()) {
+            CharBuffer buffer = (CharBuffer) text;
+            int begin = buffer.arrayOffset() + buffer.position();
+            return Arrays.copyOfRange(buffer.array(), begin, begin + buffer.remaining());
+        }
+        char[] chars = new char[text.length()];
+        if (text instanceof StringBuilder) {
+            ((StringBuilder) text).getChars(0, chars.length, chars, 0);
+        } else {
+            text.toString().getChars(0, chars.length, chars, 0);
+        }
+        return chars;
+    }
+
+    private static JsonStructure parse(char[] chars, int depth, JsonContext jsonContext) {
+        JsonParserImpl parser = new JsonParserImpl(chars, 0, chars.length, jsonContext);
+        parser.setBaseDepth(depth);
+        parser.next();
+        return (JsonStructure) parser.getValue();
+    }
+
+    private static final class LazyJsonObject extends AbstractMap<String, JsonValue> implements JsonObject {
+        // text is read before object and cleared after it is set, so a null
+        // text means that object is visible
+        private volatile char[] text;
+        private volatile JsonObject object;
+        private final int depth;
+        private final JsonContext jsonContext;
+
+        LazyJsonObject(char[] text, int depth, JsonContext jsonContext) {
+            this.text = text;
+            this.depth = depth;
+            this.jsonContext = jsonContext;
+        }
+
+        private JsonObject object() {
+            char[] chars = text;
+            JsonObject result = object;
+            if (result == null) {
+                result = (JsonObject) parse(chars, depth, jsonContext);
+                object = result;
+                text = null;
+            }
+            return result;
+        }
+
+        @Override
+        public JsonArray getJsonArray(String name) {
+            return object().getJsonArray(name);
+        }
+
+        @Override
+        public JsonObject getJsonObject(String name) {
+            return object().getJsonObject(name);
+        }
+
+        @Override
+        public JsonNumber getJsonNumber(String name) {
+            return object().getJsonNumber(name);
+        }
+
+        @Override
+        public JsonString getJsonString(String name) {
+            return object().getJsonString(name);
+        }
+
+        @Override
+        public String getString(String name) {
+            return object().getString(name);
+        }
+
+        @Override
+        public String getString(String name, String defaultValue) {
+            return object().getString(name, defaultValue);
+        }
+
+        @Override
+        public int getInt(String name) {
+            return object().getInt(name);
+        }
+
+        @Override
+        public int getInt(String name, int defaultValue) {
+            return object().getInt(name, defaultValue);
+        }
+
+        @Override
+        public boolean getBoolean(String name) {
+            return object().getBoolean(name);
+        }
+
+        @Override
+        public boolean getBoolean(String name, boolean defaultValue) {
+            return object().getBoolean(name, defaultValue);
+        }
+
+        @Override
+        public boolean isNull(String name) {
+            return object().isNull(name);
+        }
+
+        @Override
+        public ValueType getValueType() {
+            return ValueType.OBJECT;
+        }
+
+        @Override
+        public JsonValue get(Object key) {
+            return object().get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return object().containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return object().size();
+        }
+
+        @Override
+        public Set<Entry<String, JsonValue>> entrySet() {
+            return object().entrySet();
+        }
+
+        @Override
+        public int hashCode() {
+            return object().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return object().toString();
+        }
+
+        @Override
+        public JsonObject asJsonObject() {
+            return this;
+        }
+    }
+
+    private static final class LazyJsonArray extends AbstractList<JsonValue> implements JsonArray, RandomAccess {
+        // text is read before array and cleared after it is set, so a null
+        // text means that array is visible
+        private volatile char[] text;
+        private volatile JsonArray array;
+        private final int depth;
+        private final JsonContext jsonContext;
+
+        LazyJsonArray(char[] text, int depth, JsonContext jsonContext) {
+            this.text = text;
+            this.depth = depth;
+            this.jsonContext = jsonContext;
+        }
+
+        private JsonArray array() {
+            char[] chars = text;
+            JsonArray result = array;
+            if (result == null) {
+                result = (JsonArray) parse(chars, depth, jsonContext);
+                array = result;
+                text = null;
+            }
+            return result;
+        }
+
+        @Override
+        public int size() {
+            return array().size();
+        }
+
+        @Override
+        public JsonValue get(int index) {
+            return array().get(index);
+        }
+
+        @Override
+        public JsonObject getJsonObject(int index) {
+            return array().getJsonObject(index);
+        }
+
+        @Override
+        public JsonArray getJsonArray(int index) {
+            return array().getJsonArray(index);
+        }
+
+        @Override
+        public JsonNumber getJsonNumber(int index) {
+            return array().getJsonNumber(index);
+        }
+
+        @Override
+        public JsonString getJsonString(int index) {
+            return array().getJsonString(index);
+        }
+
+        @Override
+        public <T extends JsonValue> List<T> getValuesAs(Class<T> clazz) {
+            return array().getValuesAs(clazz);
+        }
+
+        @Override
+        public String getString(int index) {
+            return array().getString(index);
+        }
+
+        @Override
+        public String getString(int index, String defaultValue) {
+            return array().getString(index, defaultValue);
+        }
+
+        @Override
+        public int getInt(int index) {
+            return array().getInt(index);
+        }
+
+        @Override
+        public int getInt(int index, int defaultValue) {
+            return array().getInt(index, defaultValue);
+        }
+
+        @Override
+        public boolean getBoolean(int index) {
+            return array().getBoolean(index);
+        }
+
+        @Override
+        public boolean getBoolean(int index, boolean defaultValue) {
+            return array().getBoolean(index, defaultValue);
+        }
+
+        @Override
+        public boolean isNull(int index) {
+            return array().isNull(index);
+        }
+
+        @Override
+        public ValueType getValueType() {
+            return ValueType.ARRAY;
+        }
+
+        @Override
+        public int hashCode() {
+            return array().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return array().toString();
+        }
+
+        @Override
+        public JsonArray asJsonArray() {
+            return this;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,7 +17,6 @@
 package org.eclipse.parsson;
 
 import jakarta.json.JsonArray;
-import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonException;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonStructure;
@@ -202,7 +201,7 @@ abstract class NodeReference {
 
         @Override
         public JsonObject add(JsonValue value) {
-            return new JsonObjectBuilderImpl(object, jsonContext).add(key, value).build();
+            return JsonObjectBuilderImpl.put(object, key, value, jsonContext);
         }
 
         @Override
@@ -210,7 +209,7 @@ abstract class NodeReference {
             if (!contains()) {
                 throw new JsonException(JsonMessages.NODEREF_OBJECT_MISSING(key));
             }
-            return new JsonObjectBuilderImpl(object, jsonContext).remove(key).build();
+            return JsonObjectBuilderImpl.remove(object, key, jsonContext);
         }
 
         @Override
@@ -251,17 +250,15 @@ abstract class NodeReference {
         public JsonArray add(JsonValue value) {
             //TODO should we check for arrayoutofbounds?
             // The spec seems to say index = array.size() is allowed. This is handled as append
-            JsonArrayBuilder builder = new JsonArrayBuilderImpl(this.array, jsonContext);
             if (index == -1 || index == array.size()) {
-                builder.add(value);
+                return JsonArrayBuilderImpl.insert(array, array.size(), value, jsonContext);
             } else {
                 if(index < array.size()) {
-                    builder.add(index, value);
+                    return JsonArrayBuilderImpl.insert(array, index, value, jsonContext);
                 } else {
                     throw new JsonException(JsonMessages.NODEREF_ARRAY_INDEX_ERR(index, array.size()));
                 }
             }
-            return builder.build();
         }
 
         @Override
@@ -269,8 +266,7 @@ abstract class NodeReference {
             if (!contains()) {
                 throw new JsonException(JsonMessages.NODEREF_ARRAY_INDEX_ERR(index, array.size()));
             }
-            JsonArrayBuilder builder = new JsonArrayBuilderImpl(this.array, jsonContext);
-            return builder.remove(index).build();
+            return JsonArrayBuilderImpl.remove(array, index, jsonContext);
         }
 
         @Override
@@ -278,8 +274,7 @@ abstract class NodeReference {
             if (!contains()) {
                 throw new JsonException(JsonMessages.NODEREF_ARRAY_INDEX_ERR(index, array.size()));
             }
-            JsonArrayBuilder builder = new JsonArrayBuilderImpl(this.array, jsonContext);
-            return builder.set(index, value).build();
+            return JsonArrayBuilderImpl.replace(array, index, value, jsonContext);
         }
     }
 }
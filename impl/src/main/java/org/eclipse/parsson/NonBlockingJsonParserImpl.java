@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.Map;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+
+import org.eclipse.parsson.api.JsonColumnSpec;
+import org.eclipse.parsson.api.JsonColumns;
+import org.eclipse.parsson.api.NonBlockingJsonParser;
+
+/**
+ * {@link NonBlockingJsonParser} implementation. Fed bytes are decoded into
+ * the tokenizer buffer right away. Before each event the buffered chars are
+ * checked to hold the complete tokens of the event, so the tokenizer never
+ * runs out of input in the middle of a token.
+ */
+final class NonBlockingJsonParserImpl extends JsonParserImpl implements NonBlockingJsonParser {
+
+    // Bytes not decoded yet, i.e. the first bytes until the encoding is
+    // detected and a char split by the end of a chunk. In write mode
+    private ByteBuffer pending = ByteBuffer.allocate(16);
+    private CharsetDecoder decoder;
+    private boolean ended;
+
+    NonBlockingJsonParserImpl(Charset charset, JsonContext jsonContext) {
+        super(jsonContext);
+        if (charset != null) {
+            decoder = newDecoder(charset);
+        }
+    }
+
+    @Override
+    public void feed(byte[] bytes, int offset, int length) {
+        feed(ByteBuffer.wrap(bytes, offset, length));
+    }
+
+    @Override
+    public void feed(ByteBuffer buffer) {
+        if (ended) {
+            throw new IllegalStateException(JsonMessages.PARSER_NONBLOCKING_ENDED());
+        }
+        if (decoder != null && pending.position() == 0) {
+            decode(buffer, false);
+            append(buffer);
+            return;
+        }
+        append(buffer);
+        if (decoder == null) {
+            if (pending.position() < 4) {
+                return;
+            }
+            detectEncoding();
+        }
+        pending.flip();
+        decode(pending, false);
+        pending.compact();
+    }
+
+    @Override
+    public void endOfInput() {
+        if (ended) {
+            return;
+        }
+        ended = true;
+        if (decoder == null) {
+            if (pending.position() == 0) {
+                // empty input, reported as unexpected EOF by next()
+                return;
+            }
+            detectEncoding();
+        }
+        pending.flip();
+        decode(pending, true);
+        pending.clear();
+    }
+
+    @Override
+    public boolean needsInput() {
+        return !ended && !tokenizer.hasBufferedEvent();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return (ended || tokenizer.hasBufferedEvent()) && super.hasNext();
+    }
+
+    @Override
+    public Event next() {
+        if (!ended && !tokenizer.hasBufferedEvent()) {
+            throw new IllegalStateException(JsonMessages.PARSER_NONBLOCKING_NEEDS_INPUT());
+        }
+        return super.next();
+    }
+
+    @Override
+    public JsonArray getArray() {
+        requireStructure(Event.START_ARRAY);
+        return super.getArray();
+    }
+
+    @Override
+    public JsonObject getObject() {
+        requireStructure(Event.START_OBJECT);
+        return super.getObject();
+    }
+
+    @Override
+    public JsonValue getValue() {
+        requireStructure(Event.START_ARRAY);
+        requireStructure(Event.START_OBJECT);
+        return super.getValue();
+    }
+
+    @Override
+    public Stream<JsonValue> getArrayStream() {
+        requireStructure(Event.START_ARRAY);
+        return super.getArrayStream();
+    }
+
+    @Override
+    public IntStream getIntArrayStream() {
+        requireStructure(Event.START_ARRAY);
+        return super.getIntArrayStream();
+    }
+
+    @Override
+    public LongStream getLongArrayStream() {
+        requireStructure(Event.START_ARRAY);
+        return super.getLongArrayStream();
+    }
+
+    @Override
+    public DoubleStream getDoubleArrayStream() {
+        requireStructure(Event.START_ARRAY);
+        return super.getDoubleArrayStream();
+    }
+
+    @Override
+    public Stream<Map.Entry<String, JsonValue>> getObjectStream() {
+        requireStructure(Event.START_OBJECT);
+        return super.getObjectStream();
+    }
+
+    @Override
+    public Stream<JsonValue> getValueStream() {
+        if (!ended) {
+            throw new IllegalStateException(JsonMessages.PARSER_NONBLOCKING_INCOMPLETE());
+        }
+        return super.getValueStream();
+    }
+
+    @Override
+    public CharSequence getRawValue() {
+        requireStructure(Event.START_ARRAY);
+        requireStructure(Event.START_OBJECT);
+        return super.getRawValue();
+    }
+
+    @Override
+    public JsonColumns getColumns(JsonColumnSpec spec) {
+        requireStructure(Event.START_ARRAY);
+        return super.getColumns(spec);
+    }
+
+    @Override
+    public void skipArray() {
+        if (inStructure()) {
+            requireBuffered();
+        }
+        super.skipArray();
+    }
+
+    @Override
+    public void skipObject() {
+        if (inStructure()) {
+            requireBuffered();
+        }
+        super.skipObject();
+    }
+
+    private void requireStructure(Event start) {
+        if (currentEvent() == start) {
+            requireBuffered();
+        }
+    }
+
+    private void requireBuffered() {
+        if (!ended && !tokenizer.isStructureBuffered(depth())) {
+            throw new IllegalStateException(JsonMessages.PARSER_NONBLOCKING_INCOMPLETE());
+        }
+    }
+
+    // Decodes into the tokenizer buffer, bytes of a split char stay in src
+    private void decode(ByteBuffer src, boolean endOfInput) {
+        // None of the JSON encodings produces more chars than bytes
+        CharBuffer out = tokenizer.feedBuffer(src.remaining() + 1);
+        while (decoder.decode(src, out, endOfInput).isOverflow()) {
+            tokenizer.fed(out);
+            out = tokenizer.feedBuffer(src.remaining() + 16);
+        }
+        if (endOfInput) {
+            while (decoder.flush(out).isOverflow()) {
+                tokenizer.fed(out);
+                out = tokenizer.feedBuffer(16);
+            }
+        }
+        tokenizer.fed(out);
+    }
+
+    private void append(ByteBuffer src) {
+        if (pending.remaining() < src.remaining()) {
+            ByteBuffer grown = ByteBuffer.allocate(
+                    Math.max(2 * pending.capacity(), pending.position() + src.remaining()));
+            pending.flip();
+            grown.put(pending);
+            pending = grown;
+        }
+        pending.put(src);
+    }
+
+    // Detects the encoding from the first bytes and drops the byte order mark
+    private void detectEncoding() {
+        byte[] head = pending.array();
+        int length = pending.position();
+        Charset charset = UnicodeDetectingInputStream.detectEncoding(head, 0, length);
+        int bom = UnicodeDetectingInputStream.bomLength(charset, head, 0, length);
+        decoder = newDecoder(charset);
+        pending.flip();
+        pending.position(bom);
+        pending.compact();
+    }
+
+    private static CharsetDecoder newDecoder(Charset charset) {
+        return charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
+
+/**
+ * Builds an array or object of in-memory input with multiple threads.
+ * Fork-join tasks parse ranges of members, each task with its own parser,
+ * and the members are then added to the structure in document order.
+ */
+final class ParallelStructureBuilder extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    // Minimum number of members parsed by one task
+    private static final int MIN_TASK_MEMBERS = 16;
+
+    private final transient JsonMemberRanges ranges;
+    private final transient JsonContext jsonContext;
+    // Parsed member names, null for arrays
+    private final transient String[] keys;
+    private final transient JsonValue[] values;
+    private final int batch;
+    private final int from;
+    private final int to;
+
+    private ParallelStructureBuilder(JsonMemberRanges ranges, JsonContext jsonContext,
+                                     String[] keys, JsonValue[] values, int batch, int from, int to) {
+        this.ranges = ranges;
+        this.jsonContext = jsonContext;
+        this.keys = keys;
+        this.values = values;
+        this.batch = batch;
+        this.from = from;
+        this.to = to;
+    }
+
+    static JsonStructure build(JsonMemberRanges ranges, boolean object, JsonContext jsonContext) {
+        int count = ranges.count();
+        String[] keys = object ? new String[count] : null;
+        JsonValue[] values = new JsonValue[count];
+        // a few tasks per worker, so that members of unequal size even out
+        int batch = Math.max(MIN_TASK_MEMBERS, count / (4 * ForkJoinPool.getCommonPoolParallelism()));
+        new ParallelStructureBuilder(ranges, jsonContext, keys, values, batch, 0, count).invoke();
+        if (object) {
+            JsonObjectBuilder builder = new JsonObjectBuilderImpl(jsonContext);
+            for (int i = 0; i < count; i++) {
+                builder.add(keys[i], values[i]);
+            }
+            return builder.build();
+        }
+        JsonArrayBuilder builder = new JsonArrayBuilderImpl(jsonContext);
+        for (int i = 0; i < count; i++) {
+            builder.add(values[i]);
+        }
+        return builder.build();
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from > batch) {
+            int mid = (from + to) >>> 1;
+            invokeAll(new ParallelStructureBuilder(ranges, jsonContext, keys, values, batch, from, mid),
+                      new ParallelStructureBuilder(ranges, jsonContext, keys, values, batch, mid, to));
+            return;
+        }
+        ReusableJsonParserImpl parser = ranges.newParser(jsonContext);
+        try {
+            for (int i = from; i < to; i++) {
+                if (keys != null) {
+                    keys[i] = ranges.key(i, parser);
+                }
+                values[i] = ranges.value(i, parser);
+            }
+        } finally {
+            parser.close();
+        }
+    }
+
+}
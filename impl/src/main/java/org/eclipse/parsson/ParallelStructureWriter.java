@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson;
+
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+
+/**
+ * Writes the members of large arrays and objects, at any depth, in parallel
+ * chunks. Each
+ * chunk is written by its own generator, with its own pooled buffer, into
+ * a char array, and the chunks are then written out in order by the
+ * generator of the structure. Chunk generators continue the structure
+ * with the same commas and indentation, so the output does not depend on
+ * the chunking.
+ */
+final class ParallelStructureWriter extends RecursiveTask<ParallelStructureWriter.CharChunk> {
+
+    private static final long serialVersionUID = 1L;
+
+    // Minimum number of members written by one task
+    private static final int MIN_CHUNK_MEMBERS = 256;
+
+    private final transient JsonContext jsonContext;
+    // Array elements, or null for objects
+    private final transient List<JsonValue> elements;
+    // Object members, or null for arrays
+    private final transient List<Map.Entry<String, JsonValue>> members;
+    private final int from;
+    private final int to;
+    // Nesting depth of the members, for the indentation of pretty printing
+    private final int nestingDepth;
+
+    private ParallelStructureWriter(JsonContext jsonContext, List<JsonValue> elements,
+                                    List<Map.Entry<String, JsonValue>> members, int from, int to,
+                                    int nestingDepth) {
+        this.jsonContext = jsonContext;
+        this.elements = elements;
+        this.members = members;
+        this.from = from;
+        this.to = to;
+        this.nestingDepth = nestingDepth;
+    }
+
+    // Writes a root array or object, returns false if parallel writing is disabled
+    static boolean write(JsonGeneratorImpl generator, JsonValue value, JsonContext jsonContext) {
+        int threshold = jsonContext.parallelWriteThreshold();
+        if (threshold <= 0) {
+            return false;
+        }
+        write(generator, null, value, threshold, jsonContext);
+        return true;
+    }
+
+    // Writes a value, the name is null for array elements. Arrays and objects
+    // with at least threshold members are written in parallel chunks, smaller
+    // ones are descended into, as they may hold large ones
+    private static void write(JsonGeneratorImpl generator, String name, JsonValue value,
+                              int threshold, JsonContext jsonContext) {
+        switch (value.getValueType()) {
+            case ARRAY:
+                // arrays of numbers hold no structures
+                if (!(value instanceof JsonNumberArrayImpl)) {
+                    JsonArray array = (JsonArray) value;
+                    if (name == null) {
+                        generator.writeStartArray();
+                    } else {
+                        generator.writeStartArray(name);
+                    }
+                    if (array.size() >= threshold) {
+                        write(generator, jsonContext, array, null, array.size());
+                    } else {
+                        for (JsonValue element : array) {
+                            write(generator, null, element, threshold, jsonContext);
+                        }
+                    }
+                    generator.writeEnd();
+                    return;
+                }
+                break;
+            case OBJECT:
+                JsonObject object = (JsonObject) value;
+                if (name == null) {
+                    generator.writeStartObject();
+                } else {
+                    generator.writeStartObject(name);
+                }
+                if (object.size() >= threshold) {
+                    List<Map.Entry<String, JsonValue>> members = new ArrayList<>(object.entrySet());
+                    write(generator, jsonContext, null, members, members.size());
+                } else {
+                    for (Map.Entry<String, JsonValue> member : object.entrySet()) {
+                        write(generator, member.getKey(), member.getValue(), threshold, jsonContext);
+                    }
+                }
+                generator.writeEnd();
+                return;
+            default:
+                break;
+        }
+        if (name == null) {
+            generator.write(value);
+        } else {
+            generator.write(name, value);
+        }
+    }
+
+    private static void write(JsonGeneratorImpl generator, JsonContext jsonContext,
+                              List<JsonValue> elements, List<Map.Entry<String, JsonValue>> members, int count) {
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        int batch = Math.max(MIN_CHUNK_MEMBERS, count / (4 * parallelism));
+        // Chunks are forked a bounded number ahead of the one being written,
+        // so that only a few chunks are held in memory
+        int window = 2 * parallelism;
+        Deque<ParallelStructureWriter> pending = new ArrayDeque<>();
+        int next = 0;
+        int nestingDepth = generator.nestingDepth();
+        try {
+            while (next < count || !pending.isEmpty()) {
+                while (next < count && pending.size() < window) {
+                    int end = (int) Math.min((long) next + batch, count);
+                    ParallelStructureWriter task = new ParallelStructureWriter(
+                            jsonContext, elements, members, next, end, nestingDepth);
+                    task.fork();
+                    pending.add(task);
+                    next = end;
+                }
+                CharChunk chunk = pending.remove().join();
+                generator.writeFragment(chunk.chars, 0, chunk.length);
+            }
+        } finally {
+            for (ParallelStructureWriter task : pending) {
+                task.cancel(false);
+            }
+        }
+    }
+
+    @Override
+    protected CharChunk compute() {
+        CharChunk chunk = new CharChunk();
+        JsonGeneratorImpl generator = jsonContext.prettyPrinting()
+                ? new JsonPrettyGeneratorImpl(chunk, jsonContext)
+                : new JsonGeneratorImpl(chunk, jsonContext);
+        try {
+            generator.continueStructure(members != null, from == 0, nestingDepth);
+            int threshold = jsonContext.parallelWriteThreshold();
+            for (int i = from; i < to; i++) {
+                if (members != null) {
+                    write(generator, members.get(i).getKey(), members.get(i).getValue(), threshold, jsonContext);
+                } else {
+                    write(generator, null, elements.get(i), threshold, jsonContext);
+                }
+            }
+            generator.flushBuffer();
+        } finally {
+            generator.release();
+        }
+        return chunk;
+    }
+
+    // Unsynchronized char array writer holding the output of one chunk
+    static final class CharChunk extends Writer {
+
+        private char[] chars = new char[1024];
+        private int length;
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            if (length + len > chars.length) {
+                chars = Arrays.copyOf(chars, Math.max(2 * chars.length, length + len));
+            }
+            System.arraycopy(cbuf, off, chars, length, len);
+            length += len;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+    }
+
+}
@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list that shares structure with the lists it was derived
+ * from. Elements are kept in leaves of up to {@link #WIDTH} elements under
+ * branches of up to {@code WIDTH} children annotated with their sizes, so
+ * setting, inserting or removing an element copies only the nodes on the
+ * path to its leaf.
+ *
+ * @param <E> the type of elements
+ */
+final class PersistentList<E> extends AbstractList<E> implements RandomAccess {
+
+    static final int WIDTH = 32;
+    // a node narrower than this is merged with a sibling if they fit in one
+    private static final int MIN_WIDTH = WIDTH / 4;
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(new Leaf(new Object[0]));
+
+    private final Node root;
+
+    private PersistentList(Node root) {
+        this.root = root;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    static <E> PersistentList<E> of(Collection<? extends E> elements) {
+        Object[] values = elements.toArray();
+        if (values.length == 0) {
+            return empty();
+        }
+        Node[] nodes = new Node[(values.length + WIDTH - 1) / WIDTH];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = new Leaf(Arrays.copyOfRange(values, i * WIDTH, Math.min(values.length, (i + 1) * WIDTH)));
+        }
+        while (nodes.length > 1) {
+            Node[] branches = new Node[(nodes.length + WIDTH - 1) / WIDTH];
+            for (int i = 0; i < branches.length; i++) {
+                branches[i] = new Branch(Arrays.copyOfRange(nodes, i * WIDTH, Math.min(nodes.length, (i + 1) * WIDTH)));
+            }
+            nodes = branches;
+        }
+        return new PersistentList<>(nodes[0]);
+    }
+
+    @Override
+    public int size() {
+        return root.size();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index, size());
+        Node node = root;
+        while (node instanceof Branch) {
+            Branch branch = (Branch) node;
+            int child = branch.child(index);
+            index -= branch.offset(child);
+            node = branch.children[child];
+        }
+        return (E) ((Leaf) node).values[index];
+    }
+
+    /**
+     * Returns a list with the element at the specified position replaced.
+     */
+    PersistentList<E> with(int index, E element) {
+        checkIndex(index, size());
+        return new PersistentList<>(root.set(index, element));
+    }
+
+    /**
+     * Returns a list with the element inserted at the specified position.
+     */
+    PersistentList<E> plus(int index, E element) {
+        checkIndex(index, size() + 1);
+        Node node = root.insert(index, element);
+        if (node.width() > WIDTH) {
+            node = new Branch(node.split());
+        }
+        return new PersistentList<>(node);
+    }
+
+    /**
+     * Returns a list without the element at the specified position.
+     */
+    PersistentList<E> minus(int index) {
+        checkIndex(index, size());
+        Node node = root.remove(index);
+        while (node instanceof Branch && node.width() == 1) {
+            node = ((Branch) node).children[0];
+        }
+        return node.width() == 0 ? empty() : new PersistentList<>(node);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int index;
+            private Object[] leaf;
+            private int leafStart;
+
+            @Override
+            public boolean hasNext() {
+                return index < size();
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (leaf == null || index - leafStart == leaf.length) {
+                    findLeaf();
+                }
+                return (E) leaf[index++ - leafStart];
+            }
+
+            private void findLeaf() {
+                int offset = index;
+                Node node = root;
+                while (node instanceof Branch) {
+                    Branch branch = (Branch) node;
+                    int child = branch.child(offset);
+                    offset -= branch.offset(child);
+                    node = branch.children[child];
+                }
+                leaf = ((Leaf) node).values;
+                leafStart = index - offset;
+            }
+        };
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /*
+     * All leaves are at the same depth. Updates return nodes that may be
+     * one wider than WIDTH, or empty, for the parent to split or drop.
+     */
+    private abstract static class Node {
+        abstract int size();
+        abstract int width();
+        abstract Node set(int index, Object value);
+        abstract Node insert(int index, Object value);
+        abstract Node remove(int index);
+        abstract Node[] split();
+        abstract Node merge(Node right);
+    }
+
+    private static final class Leaf extends Node {
+        private final Object[] values;
+
+        Leaf(Object[] values) {
+            this.values = values;
+        }
+
+        @Override
+        int size() {
+            return values.length;
+        }
+
+        @Override
+        int width() {
+            return values.length;
+        }
+
+        @Override
+        Node set(int index, Object value) {
+            Object[] copy = values.clone();
+            copy[index] = value;
+            return new Leaf(copy);
+        }
+
+        @Override
+        Node insert(int index, Object value) {
+            Object[] copy = new Object[values.length + 1];
+            System.arraycopy(values, 0, copy, 0, index);
+            copy[index] = value;
+            System.arraycopy(values, index, copy, index + 1, values.length - index);
+            return new Leaf(copy);
+        }
+
+        @Override
+        Node remove(int index) {
+            Object[] copy = new Object[values.length - 1];
+            System.arraycopy(values, 0, copy, 0, index);
+            System.arraycopy(values, index + 1, copy, index, copy.length - index);
+            return new Leaf(copy);
+        }
+
+        @Override
+        Node[] split() {
+            int half = values.length / 2;
+            return new Node[] {
+                new Leaf(Arrays.copyOfRange(values, 0, half)),
+                new Leaf(Arrays.copyOfRange(values, half, values.length))
+            };
+        }
+
+        @Override
+        Node merge(Node right) {
+            Object[] other = ((Leaf) right).values;
+            Object[] merged = Arrays.copyOf(values, values.length + other.length);
+            System.arraycopy(other, 0, merged, values.length, other.length);
+            return new Leaf(merged);
+        }
+    }
+
+    private static final class Branch extends Node {
+        private final Node[] children;
+        // ends[i] is the number of elements in children 0 to i
+        private final int[] ends;
+
+        Branch(Node[] children) {
+            this.children = children;
+            this.ends = new int[children.length];
+            int end = 0;
+            for (int i = 0; i < children.length; i++) {
+                end += children[i].size();
+                ends[i] = end;
+            }
+        }
+
+        @Override
+        int size() {
+            return ends.length == 0 ? 0 : ends[ends.length - 1];
+        }
+
+        @Override
+        int width() {
+            return children.length;
+        }
+
+        // Returns the child holding the element at index
+        int child(int index) {
+            int low = 0;
+            int high = ends.length - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (ends[mid] <= index) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        int offset(int child) {
+            return child == 0 ? 0 : ends[child - 1];
+        }
+
+        @Override
+        Node set(int index, Object value) {
+            int child = child(index);
+            Node[] copy = children.clone();
+            copy[child] = children[child].set(index - offset(child), value);
+            return new Branch(copy);
+        }
+
+        @Override
+        Node insert(int index, Object value) {
+            // appends go to the last child
+            int child = index == size() ? children.length - 1 : child(index);
+            Node node = children[child].insert(index - offset(child), value);
+            if (node.width() <= WIDTH) {
+                Node[] copy = children.clone();
+                copy[child] = node;
+                return new Branch(copy);
+            }
+            Node[] halves = node.split();
+            Node[] copy = new Node[children.length + 1];
+            System.arraycopy(children, 0, copy, 0, child);
+            copy[child] = halves[0];
+            copy[child + 1] = halves[1];
+            System.arraycopy(children, child + 1, copy, child + 2, children.length - child - 1);
+            return new Branch(copy);
+        }
+
+        @Override
+        Node remove(int index) {
+            int child = child(index);
+            Node node = children[child].remove(index - offset(child));
+            if (node.width() == 0) {
+                Node[] copy = new Node[children.length - 1];
+                System.arraycopy(children, 0, copy, 0, child);
+                System.arraycopy(children, child + 1, copy, child, copy.length - child);
+                return new Branch(copy);
+            }
+            if (node.width() < MIN_WIDTH && children.length > 1) {
+                int left = child == children.length - 1 ? child - 1 : child;
+                Node sibling = children[left == child ? child + 1 : left];
+                if (node.width() + sibling.width() <= WIDTH) {
+                    Node[] copy = new Node[children.length - 1];
+                    System.arraycopy(children, 0, copy, 0, left);
+                    copy[left] = left == child ? node.merge(sibling) : sibling.merge(node);
+                    System.arraycopy(children, left + 2, copy, left + 1, copy.length - left - 1);
+                    return new Branch(copy);
+                }
+            }
+            Node[] copy = children.clone();
+            copy[child] = node;
+            return new Branch(copy);
+        }
+
+        @Override
+        Node[] split() {
+            int half = children.length / 2;
+            return new Node[] {
+                new Branch(Arrays.copyOfRange(children, 0, half)),
+                new Branch(Arrays.copyOfRange(children, half, children.length))
+            };
+        }
+
+        @Override
+        Node merge(Node right) {
+            Node[] other = ((Branch) right).children;
+            Node[] merged = Arrays.copyOf(children, children.length + other.length);
+            System.arraycopy(other, 0, merged, children.length, other.length);
+            return new Branch(merged);
+        }
+    }
+}
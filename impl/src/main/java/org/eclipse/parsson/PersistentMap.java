@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable map that keeps its keys in insertion order and shares
+ * structure with the maps it was derived from. Entries are kept in a
+ * {@link PersistentList} in insertion order, and a hash array mapped trie
+ * maps each key to the position of its entry, so adding, replacing or
+ * removing a mapping copies only the nodes on the paths to it.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+final class PersistentMap<K, V> extends AbstractMap<K, V> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    private static final Trie EMPTY_TRIE = new Trie(0, new Object[0]);
+    private static final PersistentMap<?, ?> EMPTY =
+            new PersistentMap<>(EMPTY_TRIE, PersistentList.empty(), 0);
+
+    private final Trie trie;
+    // in insertion order, null where a mapping was removed
+    private final PersistentList<Entry<K, V>> entries;
+    private final int size;
+
+    private PersistentMap(Trie trie, PersistentList<Entry<K, V>> entries, int size) {
+        this.trie = trie;
+        this.entries = entries;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <K, V> PersistentMap<K, V> empty() {
+        return (PersistentMap<K, V>) EMPTY;
+    }
+
+    static <K, V> PersistentMap<K, V> of(Map<? extends K, ? extends V> map) {
+        Trie trie = EMPTY_TRIE;
+        Object[] entries = new Object[map.size()];
+        int index = 0;
+        for (Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            K key = entry.getKey();
+            trie = put(trie, new Position(key, hash(key), index), 0);
+            entries[index++] = new SimpleImmutableEntry<K, V>(key, entry.getValue());
+        }
+        @SuppressWarnings("unchecked")
+        PersistentList<Entry<K, V>> list = (PersistentList<Entry<K, V>>) (PersistentList<?>) PersistentList.of(Arrays.asList(entries));
+        return new PersistentMap<>(trie, list, index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return find(key) != null;
+    }
+
+    @Override
+    public V get(Object key) {
+        Position position = find(key);
+        return position == null ? null : entries.get(position.index).getValue();
+    }
+
+    /**
+     * Returns a map with the key mapped to the value. A key that is
+     * already present keeps its position in the iteration order.
+     */
+    PersistentMap<K, V> plus(K key, V value) {
+        Entry<K, V> entry = new SimpleImmutableEntry<>(key, value);
+        Position position = find(key);
+        if (position != null) {
+            return new PersistentMap<>(trie, entries.with(position.index, entry), size);
+        }
+        int index = entries.size();
+        return new PersistentMap<>(put(trie, new Position(key, hash(key), index), 0),
+                entries.plus(index, entry), size + 1);
+    }
+
+    /**
+     * Returns a map without a mapping for the key.
+     */
+    PersistentMap<K, V> minus(Object key) {
+        Position position = find(key);
+        if (position == null) {
+            return this;
+        }
+        if (size == 1) {
+            return empty();
+        }
+        PersistentMap<K, V> map = new PersistentMap<>(remove(trie, position, 0),
+                entries.with(position.index, null), size - 1);
+        // drop the removed entries once they take up most of the list
+        return entries.size() > 2 * map.size + PersistentList.WIDTH ? of(map) : map;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                Iterator<Entry<K, V>> iterator = entries.iterator();
+                return new Iterator<Entry<K, V>>() {
+                    private Entry<K, V> next = advance();
+
+                    private Entry<K, V> advance() {
+                        while (iterator.hasNext()) {
+                            Entry<K, V> entry = iterator.next();
+                            if (entry != null) {
+                                return entry;
+                            }
+                        }
+                        return null;
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return next != null;
+                    }
+
+                    @Override
+                    public Entry<K, V> next() {
+                        if (next == null) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<K, V> entry = next;
+                        next = advance();
+                        return entry;
+                    }
+                };
+            }
+        };
+    }
+
+    private static int hash(Object key) {
+        int hash = key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    private Position find(Object key) {
+        if (key == null) {
+            return null;
+        }
+        int hash = hash(key);
+        Trie node = trie;
+        for (int shift = 0; ; shift += BITS) {
+            if (shift >= Integer.SIZE) {
+                // all hash bits used up, the node lists colliding keys
+                for (Object slot : node.slots) {
+                    if (((Position) slot).key.equals(key)) {
+                        return (Position) slot;
+                    }
+                }
+                return null;
+            }
+            int bit = 1 << ((hash >>> shift) & MASK);
+            if ((node.bitmap & bit) == 0) {
+                return null;
+            }
+            Object slot = node.slots[node.slot(bit)];
+            if (slot instanceof Trie) {
+                node = (Trie) slot;
+            } else {
+                Position position = (Position) slot;
+                return position.hash == hash && position.key.equals(key) ? position : null;
+            }
+        }
+    }
+
+    // Adds the position of a key that is not in the trie
+    private static Trie put(Trie node, Position position, int shift) {
+        if (shift >= Integer.SIZE) {
+            Object[] slots = Arrays.copyOf(node.slots, node.slots.length + 1);
+            slots[node.slots.length] = position;
+            return new Trie(0, slots);
+        }
+        int bit = 1 << ((position.hash >>> shift) & MASK);
+        int i = node.slot(bit);
+        if ((node.bitmap & bit) == 0) {
+            Object[] slots = new Object[node.slots.length + 1];
+            System.arraycopy(node.slots, 0, slots, 0, i);
+            slots[i] = position;
+            System.arraycopy(node.slots, i, slots, i + 1, node.slots.length - i);
+            return new Trie(node.bitmap | bit, slots);
+        }
+        Object slot = node.slots[i];
+        Trie child = slot instanceof Trie
+                ? (Trie) slot
+                : put(EMPTY_TRIE, (Position) slot, shift + BITS);
+        Object[] slots = node.slots.clone();
+        slots[i] = put(child, position, shift + BITS);
+        return new Trie(node.bitmap, slots);
+    }
+
+    // Removes a position found in the trie
+    private static Trie remove(Trie node, Position position, int shift) {
+        if (shift >= Integer.SIZE) {
+            return new Trie(0, without(node.slots, Arrays.asList(node.slots).indexOf(position)));
+        }
+        int bit = 1 << ((position.hash >>> shift) & MASK);
+        int i = node.slot(bit);
+        Object slot = node.slots[i];
+        if (slot == position) {
+            return new Trie(node.bitmap & ~bit, without(node.slots, i));
+        }
+        Trie child = remove((Trie) slot, position, shift + BITS);
+        if (child.slots.length == 0) {
+            return new Trie(node.bitmap & ~bit, without(node.slots, i));
+        }
+        Object[] slots = node.slots.clone();
+        // a single remaining key moves up in place of its node
+        slots[i] = child.slots.length == 1 && child.slots[0] instanceof Position
+                ? child.slots[0]
+                : child;
+        return new Trie(node.bitmap, slots);
+    }
+
+    private static Object[] without(Object[] slots, int i) {
+        Object[] copy = new Object[slots.length - 1];
+        System.arraycopy(slots, 0, copy, 0, i);
+        System.arraycopy(slots, i + 1, copy, i, copy.length - i);
+        return copy;
+    }
+
+    private static final class Trie {
+        // a bit per 5 bit hash digit present at this level
+        private final int bitmap;
+        // positions and child nodes, in the order of their bits
+        private final Object[] slots;
+
+        Trie(int bitmap, Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        int slot(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+    }
+
+    private static final class Position {
+        private final Object key;
+        private final int hash;
+        private final int index;
+
+        Position(Object key, int hash, int index) {
+            this.key = key;
+            this.hash = hash;
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+
+import org.eclipse.parsson.api.ReusableJsonParser;
+
+/**
+ * {@link ReusableJsonParser} implementation. Keeps the tokenizer buffer,
+ * the encoding detection stream, the charset decoder and the array
+ * for decoded byte[] and copied String input between inputs. The pooled
+ * tokenizer buffer is only taken for stream input and is returned by close().
+ */
+final class ReusableJsonParserImpl extends JsonParserImpl implements ReusableJsonParser {
+
+    private UnicodeDetectingInputStream detectingStream;
+    private final InputStreamDecoder decoder = new InputStreamDecoder();
+    // Decoded byte[] or copied String input, the tokenizer never writes into it
+    private char[] decoded;
+
+    ReusableJsonParserImpl(JsonContext jsonContext) {
+        super(new char[0], 0, 0, jsonContext);
+    }
+
+    @Override
+    public ReusableJsonParser reset(Reader reader) {
+        resetInput(reader);
+        return this;
+    }
+
+    @Override
+    public ReusableJsonParser reset(InputStream in) {
+        if (detectingStream == null) {
+            detectingStream = new UnicodeDetectingInputStream(in);
+        } else {
+            detectingStream.reset(in);
+        }
+        decoder.reset(detectingStream, detectingStream.getCharset());
+        resetInput(decoder);
+        return this;
+    }
+
+    @Override
+    public ReusableJsonParser reset(InputStream in, Charset charset) {
+        decoder.reset(in, charset);
+        resetInput(decoder);
+        return this;
+    }
+
+    @Override
+    public ReusableJsonParser reset(byte[] bytes, int offset, int length) {
+        CharBuffer chars = InputStreamDecoder.decode(bytes, offset, length, decoded);
+        decoded = chars.array();
+        resetInput(decoded, 0, chars.limit());
+        return this;
+    }
+
+    @Override
+    public ReusableJsonParser reset(String json) {
+        int length = json.length();
+        if (decoded == null || decoded.length < length) {
+            decoded = new char[length];
+        }
+        json.getChars(0, length, decoded, 0);
+        resetInput(decoded, 0, length);
+        return this;
+    }
+
+    @Override
+    public ReusableJsonParser reset(char[] chars, int offset, int length) {
+        resetInput(chars, offset, length);
+        return this;
+    }
+
+    @Override
+    public void close() {
+        releaseInput();
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+
+import org.eclipse.parsson.api.ReusableJsonReader;
+
+/**
+ * {@link ReusableJsonReader} implementation on top of a reusable parser.
+ */
+final class ReusableJsonReaderImpl extends JsonReaderImpl implements ReusableJsonReader {
+
+    private final ReusableJsonParserImpl parser;
+
+    ReusableJsonReaderImpl(JsonContext jsonContext) {
+        this(new ReusableJsonParserImpl(jsonContext));
+    }
+
+    private ReusableJsonReaderImpl(ReusableJsonParserImpl parser) {
+        super(parser);
+        this.parser = parser;
+    }
+
+    @Override
+    public ReusableJsonReader reset(Reader reader) {
+        parser.reset(reader);
+        resetReadDone();
+        return this;
+    }
+
+    @Override
+    public ReusableJsonReader reset(InputStream in) {
+        parser.reset(in);
+        resetReadDone();
+        return this;
+    }
+
+    @Override
+    public ReusableJsonReader reset(InputStream in, Charset charset) {
+        parser.reset(in, charset);
+        resetReadDone();
+        return this;
+    }
+
+    @Override
+    public ReusableJsonReader reset(byte[] bytes, int offset, int length) {
+        parser.reset(bytes, offset, length);
+        resetReadDone();
+        return this;
+    }
+
+    @Override
+    public ReusableJsonReader reset(String json) {
+        parser.reset(json);
+        resetReadDone();
+        return this;
+    }
+
+    @Override
+    public ReusableJsonReader reset(char[] chars, int offset, int length) {
+        parser.reset(chars, offset, length);
+        resetReadDone();
+        return this;
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -43,13 +43,21 @@ class UnicodeDetectingInputStream extends FilterInputStream {
     private final byte[] buf = new byte[4];
     private int bufLen;
     private int curIndex;
-    private final Charset charset;
+    private Charset charset;
 
     UnicodeDetectingInputStream(InputStream is) {
         super(is);
         charset = detectEncoding();
     }
 
+    // Detects the encoding of another stream, used by reusable parsers
+    void reset(InputStream is) {
+        in = is;
+        bufLen = 0;
+        curIndex = 0;
+        charset = detectEncoding();
+    }
+
     Charset getCharset() {
         return charset;
     }
@@ -101,40 +109,62 @@ class UnicodeDetectingInputStream extends FilterInputStream {
 
     private Charset detectEncoding() {
         fillBuf();
-        if (bufLen < 2) {
+        Charset cs = detectEncoding(buf, 0, bufLen);
+        curIndex = bomLength(cs, buf, 0, bufLen);
+        return cs;
+    }
+
+    // Detects the encoding from (up to) the first four bytes of the JSON text
+    static Charset detectEncoding(byte[] buf, int off, int len) {
+        if (len < 2) {
             throw new JsonException(JsonMessages.PARSER_INPUT_ENC_DETECT_FAILED());
-        } else if (bufLen == 4) {
+        } else if (len >= 4) {
+            byte b0 = buf[off], b1 = buf[off+1], b2 = buf[off+2], b3 = buf[off+3];
             // Use BOM to detect encoding
-            if (buf[0] == NUL && buf[1] == NUL && buf[2] == FE && buf[3] == FF) {
-                curIndex = 4;
+            if (b0 == NUL && b1 == NUL && b2 == FE && b3 == FF) {
                 return getUtf32be();
-            } else if (buf[0] == FF && buf[1] == FE && buf[2] == NUL && buf[3] == NUL) {
-                curIndex = 4;
+            } else if (b0 == FF && b1 == FE && b2 == NUL && b3 == NUL) {
                 return getUtf32le();
-            } else if (buf[0] == FE && buf[1] == FF) {
-                curIndex = 2;
+            } else if (b0 == FE && b1 == FF) {
                 return StandardCharsets.UTF_16BE;
-            } else if (buf[0] == FF && buf[1] == FE) {
-                curIndex = 2;
+            } else if (b0 == FF && b1 == FE) {
                 return StandardCharsets.UTF_16LE;
-            } else if (buf[0] == EF && buf[1] == BB && buf[2] == BF) {
-                curIndex = 3;
+            } else if (b0 == EF && b1 == BB && b2 == BF) {
                 return StandardCharsets.UTF_8;
             }
             // No BOM, just use JSON RFC's encoding algo to auto-detect
-            if (buf[0] == NUL && buf[1] == NUL && buf[2] == NUL) {
+            if (b0 == NUL && b1 == NUL && b2 == NUL) {
                 return getUtf32be();
-            } else if (buf[0] == NUL && buf[2] == NUL) {
+            } else if (b0 == NUL && b2 == NUL) {
                 return StandardCharsets.UTF_16BE;
-            } else if (buf[1] == NUL && buf[2] == NUL && buf[3] == NUL) {
+            } else if (b1 == NUL && b2 == NUL && b3 == NUL) {
                 return getUtf32le();
-            } else if (buf[1] == NUL && buf[3] == NUL) {
+            } else if (b1 == NUL && b3 == NUL) {
                 return StandardCharsets.UTF_16LE;
             }
         }
         return StandardCharsets.UTF_8;
     }
 
+    // Number of BOM bytes to skip for the detected encoding
+    static int bomLength(Charset cs, byte[] buf, int off, int len) {
+        if (len < 4) {
+            return 0;
+        }
+        byte b0 = buf[off], b1 = buf[off+1], b2 = buf[off+2], b3 = buf[off+3];
+        if (cs == StandardCharsets.UTF_8) {
+            return b0 == EF && b1 == BB && b2 == BF ? 3 : 0;
+        } else if (cs == StandardCharsets.UTF_16BE) {
+            return b0 == FE && b1 == FF ? 2 : 0;
+        } else if (cs == StandardCharsets.UTF_16LE) {
+            return b0 == FF && b1 == FE ? 2 : 0;
+        } else if (cs == getUtf32be()) {
+            return b0 == NUL && b1 == NUL && b2 == FE && b3 == FF ? 4 : 0;
+        } else {
+            return b0 == FF && b1 == FE && b2 == NUL && b3 == NUL ? 4 : 0;
+        }
+    }
+
     private static Charset getUtf32be() {
         if (utf32Be == null) {
             utf32Be = Charset.forName("UTF-32BE");
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Specification of the columns extracted from an array of objects by
+ * {@link ParssonParser#getColumns(JsonColumnSpec)}. A column is a member
+ * name, e.g. {@code ts}, or a JSON pointer into the objects, e.g.
+ * {@code /host/name}, with the type of its values
+ *
+ * <pre>
+ * <code>
+ * JsonColumnSpec spec = JsonColumnSpec.builder()
+ *         .add("ts", Type.LONG)
+ *         .add("v", Type.DOUBLE)
+ *         .add("/host/name", Type.STRING)
+ *         .build();
+ * </code>
+ * </pre>
+ *
+ * Instances are immutable.
+ */
+public final class JsonColumnSpec {
+
+    /**
+     * Type of the values of a column.
+     */
+    public enum Type {
+        /** Integral numbers in the {@code int} range, fractions are rejected. */
+        INT,
+        /** Integral numbers in the {@code long} range, fractions are rejected. */
+        LONG,
+        /** Numbers read as the nearest {@code double}. */
+        DOUBLE,
+        /** Strings. */
+        STRING,
+        /** {@code true} and {@code false} literals. */
+        BOOLEAN
+    }
+
+    private final List<String> names;
+    private final List<List<String>> paths;
+    private final List<Type> types;
+
+    private JsonColumnSpec(List<String> names, List<List<String>> paths, List<Type> types) {
+        this.names = Collections.unmodifiableList(names);
+        this.paths = Collections.unmodifiableList(paths);
+        this.types = Collections.unmodifiableList(types);
+    }
+
+    /**
+     * Creates a builder of column specifications.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return the number of columns
+     */
+    public int size() {
+        return names.size();
+    }
+
+    /**
+     * Returns the name of a column as it was added.
+     *
+     * @param column index of the column
+     * @return the member name or pointer of the column
+     * @throws IndexOutOfBoundsException if there is no such column
+     */
+    public String getName(int column) {
+        return names.get(column);
+    }
+
+    /**
+     * Returns the member names leading from an array element to the values
+     * of a column.
+     *
+     * @param column index of the column
+     * @return the unescaped member names
+     * @throws IndexOutOfBoundsException if there is no such column
+     */
+    public List<String> getPath(int column) {
+        return paths.get(column);
+    }
+
+    /**
+     * Returns the type of the values of a column.
+     *
+     * @param column index of the column
+     * @return the type of the column
+     * @throws IndexOutOfBoundsException if there is no such column
+     */
+    public Type getType(int column) {
+        return types.get(column);
+    }
+
+    /**
+     * Builder of {@link JsonColumnSpec}.
+     */
+    public static final class Builder {
+
+        private final List<String> names = new ArrayList<>();
+        private final List<List<String>> paths = new ArrayList<>();
+        private final List<Type> types = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a column. A name starting with {@code /} is a JSON pointer,
+         * any other name is a member name.
+         *
+         * @param name member name or JSON pointer of the column
+         * @param type type of the values of the column
+         * @return this builder
+         * @throws NullPointerException if name or type is {@code null}
+         * @throws IllegalArgumentException if the column was already added
+         *         or the name is an invalid pointer
+         */
+        public Builder add(String name, Type type) {
+            if (name == null || type == null) {
+                throw new NullPointerException();
+            }
+            if (names.contains(name)) {
+                throw new IllegalArgumentException("Duplicate column: " + name);
+            }
+            List<String> path;
+            if (name.startsWith("/")) {
+                String[] tokens = name.split("/", -1);
+                String[] members = new String[tokens.length - 1];
+                for (int i = 1; i < tokens.length; i++) {
+                    members[i - 1] = JsonProjection.unescape(tokens[i], name);
+                }
+                path = Collections.unmodifiableList(Arrays.asList(members));
+            } else {
+                path = Collections.singletonList(name);
+            }
+            names.add(name);
+            paths.add(path);
+            types.add(type);
+            return this;
+        }
+
+        /**
+         * Returns the specification of the added columns.
+         *
+         * @return the column specification
+         */
+        public JsonColumnSpec build() {
+            return new JsonColumnSpec(new ArrayList<>(names), new ArrayList<>(paths), new ArrayList<>(types));
+        }
+
+    }
+
+}
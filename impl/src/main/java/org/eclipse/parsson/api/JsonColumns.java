@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.api;
+
+import java.util.BitSet;
+
+/**
+ * Columns extracted from an array of objects by
+ * {@link ParssonParser#getColumns(JsonColumnSpec)}. Row {@code i} holds the
+ * values of element {@code i} of the array. Each column is a primitive or
+ * {@code String} array of {@link #size()} values, which is owned by the
+ * caller. Rows whose value is {@code null} or missing hold {@code 0},
+ * {@code false} or {@code null}, and are recorded in bit sets.
+ */
+public interface JsonColumns {
+
+    /**
+     * Returns the number of rows, i.e. of elements of the array.
+     *
+     * @return the number of rows
+     */
+    int size();
+
+    /**
+     * Returns the values of an {@link JsonColumnSpec.Type#INT} column.
+     *
+     * @param name name of the column as added to the specification
+     * @return the column values
+     * @throws IllegalArgumentException if there is no such column of this type
+     */
+    int[] getInts(String name);
+
+    /**
+     * Returns the values of a {@link JsonColumnSpec.Type#LONG} column.
+     *
+     * @param name name of the column as added to the specification
+     * @return the column values
+     * @throws IllegalArgumentException if there is no such column of this type
+     */
+    long[] getLongs(String name);
+
+    /**
+     * Returns the values of a {@link JsonColumnSpec.Type#DOUBLE} column.
+     *
+     * @param name name of the column as added to the specification
+     * @return the column values
+     * @throws IllegalArgumentException if there is no such column of this type
+     */
+    double[] getDoubles(String name);
+
+    /**
+     * Returns the values of a {@link JsonColumnSpec.Type#STRING} column.
+     *
+     * @param name name of the column as added to the specification
+     * @return the column values
+     * @throws IllegalArgumentException if there is no such column of this type
+     */
+    String[] getStrings(String name);
+
+    /**
+     * Returns the values of a {@link JsonColumnSpec.Type#BOOLEAN} column.
+     *
+     * @param name name of the column as added to the specification
+     * @return the column values
+     * @throws IllegalArgumentException if there is no such column of this type
+     */
+    boolean[] getBooleans(String name);
+
+    /**
+     * Returns the rows whose value of a column is {@code null}.
+     *
+     * @param name name of the column as added to the specification
+     * @return the rows holding {@code null}
+     * @throws IllegalArgumentException if there is no such column
+     */
+    BitSet getNulls(String name);
+
+    /**
+     * Returns the rows that have no value for a column, including elements
+     * of the array that are not objects.
+     *
+     * @param name name of the column as added to the specification
+     * @return the rows without a value
+     * @throws IllegalArgumentException if there is no such column
+     */
+    BitSet getMissing(String name);
+
+}
@@ -51,14 +51,72 @@ public interface JsonConfig {
      * including whitespace, structural characters, object member names, string values,
      * number lexemes, and literal keywords.
      * <p>
-     * <b>Important:</b> This limit represents the number of characters the parser must
-     * consume to complete parsing, which is higher than the literal JSON
-     * source length.
+     * <b>Important:</b> The limit is enforced at token granularity and whenever
+     * the parser refills its input buffer, not per character. The parser
+     * compares the stream offset reached since the start of the document with
+     * the limit after each token, after each skipped array or object and after
+     * each buffer fill. It may therefore read up to one token (or one buffer)
+     * past the limit before the document is rejected with a
+     * {@link jakarta.json.JsonException}.
+     * <p>
+     * Input holding a sequence of values, as read by
+     * {@link jakarta.json.stream.JsonParser#getValueStream()} or a
+     * {@link JsonValueDecoder} of top-level values, counts the limit from the start of each value,
+     * so each value gets the whole limit. Likewise each record of JSON Lines
+     * input is limited on its own.
+     * <p>
+     * Parsers and readers of memory mapped files apply the limit to each token,
+     * including the whitespace before it, so the file size is not limited.
      * <p>
      * Default value is set to {@code 15000000} (15 million characters).
      */
     String MAX_PARSING_LIMIT = "org.eclipse.parsson.maxParsingLimit";
 
+    /**
+     * Configuration property to disable line and column tracking in parsers.
+     * The value of the property could be anything.
+     * <p>
+     * When set, the parser does not update line and column information while skipping
+     * whitespace. Locations reported by the parser and by parsing exceptions then contain
+     * only the stream offset, line and column numbers are reported as {@code -1}.
+     */
+    String DISABLE_LOCATION_TRACKING = "org.eclipse.parsson.disableLocationTracking";
+
+    /**
+     * Configuration property to limit the nesting levels that readers build
+     * eagerly. The root array or object is level {@code 1}. Arrays and objects
+     * nested deeper keep their JSON text and are parsed on first access, e.g.
+     * by {@code get} or iteration, so reading costs only a structural scan of
+     * them. Syntax errors inside them are reported when they are parsed.
+     * <p>
+     * Default value is set to {@code 0}, which builds all levels eagerly.
+     */
+    String MAX_MATERIALIZED_DEPTH = "org.eclipse.parsson.maxMaterializedDepth";
+
+    /**
+     * Configuration property to build large documents with multiple threads.
+     * Readers of in-memory input, i.e. created from a {@code String}, a
+     * {@code char[]} or a {@code byte[]}, locate the members of a root array
+     * or object of at least this many characters with a structural scan, and
+     * then parse the members in parallel in the common fork-join pool.
+     * The resulting structure is the same as with sequential reading.
+     * <p>
+     * Default value is set to {@code 0}, which disables parallel reading.
+     */
+    String PARALLEL_READ_THRESHOLD = "org.eclipse.parsson.parallelReadThreshold";
+
+    /**
+     * Configuration property to write large documents with multiple threads.
+     * Writers write the members of any array or object with at least this
+     * many members, e.g. a large array nested in a root object, in parallel
+     * chunks in the common fork-join pool. The
+     * output is the same as with sequential writing, also when pretty
+     * printing.
+     * <p>
+     * Default value is set to {@code 0}, which disables parallel writing.
+     */
+    String PARALLEL_WRITE_THRESHOLD = "org.eclipse.parsson.parallelWriteThreshold";
+
     /**
      * Configuration property to reject duplicate keys.
      * The value of the property could be anything.
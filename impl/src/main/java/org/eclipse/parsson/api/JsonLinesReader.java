@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.api;
+
+import java.io.Closeable;
+
+import jakarta.json.JsonValue;
+
+/**
+ * Reader of <a href="https://jsonlines.org/">JSON Lines</a> input, i.e. one
+ * JSON value per line. Blank lines are skipped.
+ *
+ * <p>
+ * Each line is parsed on its own, so the configured limits, e.g.
+ * {@link JsonConfig#MAX_PARSING_LIMIT}, apply per record rather than to
+ * the whole input. An invalid line is reported by
+ * {@link jakarta.json.stream.JsonParsingException} with the line number in
+ * its location, and the next {@link #readValue()} continues with the
+ * following line. Buffers are kept across records.
+ */
+public interface JsonLinesReader extends Closeable {
+
+    /**
+     * Reads the value of the next record.
+     *
+     * @return the next value, or {@code null} at the end of input
+     * @throws jakarta.json.stream.JsonParsingException if the next line is
+     *         not a single valid JSON value or is longer than the parsing limit
+     * @throws jakarta.json.JsonException if an i/o error occurs (IOException
+     *         would be cause of JsonException)
+     */
+    JsonValue readValue();
+
+    /**
+     * Closes this reader and the underlying input source.
+     *
+     * @throws jakarta.json.JsonException if an i/o error occurs (IOException
+     *         would be cause of JsonException)
+     */
+    @Override
+    void close();
+
+}
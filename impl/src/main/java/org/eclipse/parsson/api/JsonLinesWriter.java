@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.api;
+
+import java.io.Closeable;
+import java.io.Flushable;
+
+import jakarta.json.JsonValue;
+
+/**
+ * Writer of <a href="https://jsonlines.org/">JSON Lines</a> output, i.e. one
+ * JSON value per line, each line ended by {@code '\n'}. All values are
+ * written through one generator and its buffer, the output is flushed only
+ * when the buffer is full, on {@link #flush()} and on {@link #close()}.
+ * Pretty printing is not applied.
+ */
+public interface JsonLinesWriter extends Closeable, Flushable {
+
+    /**
+     * Writes a value as the next record.
+     *
+     * @param value the value
+     * @throws jakarta.json.JsonException if an i/o error occurs (IOException
+     *         would be cause of JsonException)
+     * @throws IllegalStateException if this writer is closed
+     */
+    void write(JsonValue value);
+
+    /**
+     * Flushes the written records to the underlying output source.
+     *
+     * @throws jakarta.json.JsonException if an i/o error occurs (IOException
+     *         would be cause of JsonException)
+     * @throws IllegalStateException if this writer is closed
+     */
+    @Override
+    void flush();
+
+    /**
+     * Flushes the written records and closes the underlying output source.
+     *
+     * @throws jakarta.json.JsonException if an i/o error occurs (IOException
+     *         would be cause of JsonException)
+     */
+    @Override
+    void close();
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.api;
+
+import jakarta.json.JsonValue;
+
+/**
+ * Decides how the object members are copied by
+ * {@link ParssonGeneratorFactory#transcode(jakarta.json.stream.JsonParser,
+ * jakarta.json.stream.JsonGenerator, JsonMemberFilter)}, e.g. to drop a
+ * member at any depth
+ *
+ * <pre>
+ * <code>
+ * factory.transcode(parser, generator,
+ *         (depth, name) -&gt; "password".equals(name) ? Action.drop() : Action.keep());
+ * </code>
+ * </pre>
+ */
+@FunctionalInterface
+public interface JsonMemberFilter {
+
+    /**
+     * Returns how to copy an object member. The value of the member has not
+     * been read yet.
+     *
+     * @param depth nesting level of the object holding the member, 1 for
+     *        members of the copied value itself
+     * @param name name of the member
+     * @return action for the member, not {@code null}
+     */
+    Action filter(int depth, String name);
+
+    /**
+     * How an object member is copied.
+     */
+    final class Action {
+
+        private static final Action KEEP = new Action(false, null, null);
+        private static final Action DROP = new Action(true, null, null);
+
+        private final boolean drop;
+        private final String name;
+        private final JsonValue value;
+
+        private Action(boolean drop, String name, JsonValue value) {
+            this.drop = drop;
+            this.name = name;
+            this.value = value;
+        }
+
+        /**
+         * Returns the action that copies the member unchanged.
+         *
+         * @return the keep action
+         */
+        public static Action keep() {
+            return KEEP;
+        }
+
+        /**
+         * Returns the action that skips the member and its value.
+         *
+         * @return the drop action
+         */
+        public static Action drop() {
+            return DROP;
+        }
+
+        /**
+         * Returns the action that copies the value of the member under
+         * a new name.
+         *
+         * @param name new name of the member
+         * @return the rename action
+         * @throws NullPointerException if name is {@code null}
+         */
+        public static Action rename(String name) {
+            if (name == null) {
+                throw new NullPointerException();
+            }
+            return new Action(false, name, null);
+        }
+
+        /**
+         * Returns the action that skips the value of the member and writes
+         * the given value instead.
+         *
+         * @param value new value of the member
+         * @return the replace action
+         * @throws NullPointerException if value is {@code null}
+         */
+        public static Action replace(JsonValue value) {
+            return replace(null, value);
+        }
+
+        /**
+         * Returns the action that skips the member and writes a member with
+         * the given name and value instead.
+         *
+         * @param name new name of the member, {@code null} to keep the name
+         * @param value new value of the member
+         * @return the replace action
+         * @throws NullPointerException if value is {@code null}
+         */
+        public static Action replace(String name, JsonValue value) {
+            if (value == null) {
+                throw new NullPointerException();
+            }
+            return new Action(false, name, value);
+        }
+
+        /**
+         * Returns whether the member is skipped.
+         *
+         * @return {@code true} for the drop action
+         */
+        public boolean isDrop() {
+            return drop;
+        }
+
+        /**
+         * Returns the new name of the member.
+         *
+         * @return the new name, or {@code null} to keep the name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the new value of the member.
+         *
+         * @return the new value, or {@code null} to copy the value
+         */
+        public JsonValue getValue() {
+            return value;
+        }
+
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.api;
+
+import jakarta.json.JsonArray;
+
+/**
+ * Array of numbers backed by an {@code int[]}, a {@code long[]} or a
+ * {@code double[]}. Readers, parsers and array builders of the Eclipse
+ * Parsson provider return such arrays when every element fits, i.e. is
+ * an integer literal of the {@code long} range, or, for a {@code double[]},
+ * a decimal whose text is the one {@link Double#toString(double)} prints.
+ * Elements are boxed to {@link jakarta.json.JsonNumber}s on access only, and
+ * compare and print the same way as the numbers they were read from.
+ */
+public interface JsonNumberArray extends JsonArray {
+
+    /**
+     * Returns whether the elements are integers, i.e. are backed by an
+     * {@code int[]} or a {@code long[]}.
+     *
+     * @return {@code true} for integer elements
+     */
+    boolean isIntegral();
+
+    /**
+     * Returns an element as by {@link jakarta.json.JsonNumber#longValue()},
+     * without boxing it.
+     *
+     * @param index index of the element
+     * @return the element as a {@code long}
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    long getLong(int index);
+
+    /**
+     * Returns an element as by {@link jakarta.json.JsonNumber#doubleValue()},
+     * without boxing it.
+     *
+     * @param index index of the element
+     * @return the element as a {@code double}
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    double getDouble(int index);
+
+    /**
+     * Returns the elements as by {@link #getInt(int)}.
+     *
+     * @return a new array of the elements
+     */
+    int[] toIntArray();
+
+    /**
+     * Returns the elements as by {@link #getLong(int)}.
+     *
+     * @return a new array of the elements
+     */
+    long[] toLongArray();
+
+    /**
+     * Returns the elements as by {@link #getDouble(int)}.
+     *
+     * @return a new array of the elements
+     */
+    double[] toDoubleArray();
+
+}
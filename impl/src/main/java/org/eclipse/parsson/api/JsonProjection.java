@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.api;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+
+/**
+ * Selects the members of a JSON text that a projected reader materializes,
+ * see {@link ParssonReaderFactory#createReader(java.io.Reader, JsonProjection)}.
+ * A projection is a tree of member names. Each name of an include projection
+ * keeps the member and drops its siblings, each name of an exclude projection
+ * drops the member and keeps its siblings. Members below the leaves are kept
+ * as they are, e.g.
+ *
+ * <pre>
+ * <code>
+ * JsonProjection.include("/id", "/owner/name", "/items/price");
+ * </code>
+ * </pre>
+ *
+ * A projection applies to every element of an array, so {@code /items/price}
+ * selects the price of each item. Where an include projection has more names
+ * to match, values other than objects and arrays are dropped.
+ * Instances are immutable.
+ */
+public final class JsonProjection {
+
+    private static final JsonProjection INCLUDE_LEAF = new JsonProjection(false, null);
+    private static final JsonProjection EXCLUDE_LEAF = new JsonProjection(true, null);
+
+    private final boolean exclude;
+    // null for a leaf
+    private final Map<String, JsonProjection> members;
+
+    private JsonProjection(boolean exclude, Map<String, JsonProjection> members) {
+        this.exclude = exclude;
+        this.members = members;
+    }
+
+    /**
+     * Creates a projection that keeps only the members at the given pointers
+     * and the objects and arrays leading to them.
+     *
+     * @param pointers JSON pointers of the kept members, e.g. {@code /a/b}
+     * @return the include projection
+     * @throws IllegalArgumentException if a pointer is not a valid JSON pointer
+     *         to a member
+     */
+    public static JsonProjection include(String... pointers) {
+        return of(false, pointers);
+    }
+
+    /**
+     * Creates a projection that keeps all the members except those at the
+     * given pointers.
+     *
+     * @param pointers JSON pointers of the dropped members, e.g. {@code /a/b}
+     * @return the exclude projection
+     * @throws IllegalArgumentException if a pointer is not a valid JSON pointer
+     *         to a member
+     */
+    public static JsonProjection exclude(String... pointers) {
+        return of(true, pointers);
+    }
+
+    /**
+     * Creates a projection from a tree of member names, e.g.
+     * {@code {"id": true, "owner": {"name": true}}} keeps {@code /id} and
+     * {@code /owner/name}. Leaves are either all {@code true}, which makes
+     * an include projection, or all {@code false}, which makes an exclude
+     * projection.
+     *
+     * @param tree object with nested objects and {@code true} or {@code false}
+     *        leaves
+     * @return the projection
+     * @throws IllegalArgumentException if the tree has no leaves, mixes
+     *         {@code true} and {@code false} leaves or holds other values
+     */
+    public static JsonProjection of(JsonObject tree) {
+        Boolean exclude = findExclude(tree);
+        if (exclude == null) {
+            throw new IllegalArgumentException("Projection has no leaves");
+        }
+        return of(tree, exclude);
+    }
+
+    /**
+     * Returns whether this is an exclude projection.
+     *
+     * @return {@code true} if the named members are dropped
+     */
+    public boolean isExclude() {
+        return exclude;
+    }
+
+    /**
+     * Returns whether this projection names no members, i.e. the value it
+     * applies to is kept or dropped as a whole.
+     *
+     * @return {@code true} for a leaf
+     */
+    public boolean isLeaf() {
+        return members == null;
+    }
+
+    /**
+     * Returns the projection of a member.
+     *
+     * @param name name of the member
+     * @return the projection of the member, or {@code null} if this
+     *         projection does not name the member
+     */
+    public JsonProjection getMember(String name) {
+        return members == null ? null : members.get(name);
+    }
+
+    private static JsonProjection of(boolean exclude, String... pointers) {
+        Map<String, Object> tree = new HashMap<>();
+        for (String pointer : pointers) {
+            if (pointer == null || pointer.isEmpty() || pointer.charAt(0) != '/') {
+                throw new IllegalArgumentException("Invalid JSON pointer to a member: " + pointer);
+            }
+            Map<String, Object> node = tree;
+            String[] tokens = pointer.split("/", -1);
+            for (int i = 1; i < tokens.length; i++) {
+                String name = unescape(tokens[i], pointer);
+                if (i == tokens.length - 1) {
+                    // a shorter pointer wins over the longer ones below it
+                    node.put(name, Boolean.TRUE);
+                    break;
+                }
+                Object child = node.get(name);
+                if (child == Boolean.TRUE) {
+                    break;
+                }
+                if (child == null) {
+                    child = new HashMap<String, Object>();
+                    node.put(name, child);
+                }
+                @SuppressWarnings("unchecked")
+                Map<String, Object> next = (Map<String, Object>) child;
+                node = next;
+            }
+        }
+        return of(tree, exclude);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static JsonProjection of(Map<String, ?> tree, boolean exclude) {
+        Map<String, JsonProjection> members = new HashMap<>();
+        for (Map.Entry<String, ?> entry : tree.entrySet()) {
+            Object value = entry.getValue();
+            JsonProjection member;
+            if (value instanceof Map) {
+                member = of((Map<String, ?>) value, exclude);
+            } else if (value == Boolean.TRUE || value == JsonValue.TRUE || value == JsonValue.FALSE) {
+                member = exclude ? EXCLUDE_LEAF : INCLUDE_LEAF;
+            } else {
+                throw new IllegalArgumentException("Invalid projection of member " + entry.getKey() + ": " + value);
+            }
+            members.put(entry.getKey(), member);
+        }
+        return new JsonProjection(exclude, Collections.unmodifiableMap(members));
+    }
+
+    // Returns whether the leaves of the tree are false, null if it has none
+    private static Boolean findExclude(JsonObject tree) {
+        Boolean exclude = null;
+        for (Map.Entry<String, JsonValue> entry : tree.entrySet()) {
+            JsonValue value = entry.getValue();
+            Boolean leaves;
+            if (value.getValueType() == JsonValue.ValueType.OBJECT) {
+                leaves = findExclude(value.asJsonObject());
+            } else if (value == JsonValue.TRUE || value == JsonValue.FALSE) {
+                leaves = value == JsonValue.FALSE;
+            } else {
+                throw new IllegalArgumentException("Invalid projection of member " + entry.getKey() + ": " + value);
+            }
+            if (leaves != null) {
+                if (exclude != null && !exclude.equals(leaves)) {
+                    throw new IllegalArgumentException("Projection mixes true and false leaves");
+                }
+                exclude = leaves;
+            }
+        }
+        return exclude;
+    }
+
+    // Decodes ~0 and ~1 in a reference token of a pointer
+    static String unescape(String token, String pointer) {
+        if (token.indexOf('~') < 0) {
+            return token;
+        }
+        StringBuilder name = new StringBuilder(token.length());
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c == '~') {
+                char next = ++i < token.length() ? token.charAt(i) : 0;
+                if (next == '0') {
+                    c = '~';
+                } else if (next == '1') {
+                    c = '/';
+                } else {
+                    throw new IllegalArgumentException("Invalid JSON pointer to a member: " + pointer);
+                }
+            }
+            name.append(c);
+        }
+        return name.toString();
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.api;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+
+import jakarta.json.JsonValue;
+
+/**
+ * Incremental decoder of {@link JsonValue}s from chunks of bytes, meant to
+ * back reactive stream stages such as a
+ * {@code java.util.concurrent.Flow.Processor<ByteBuffer, JsonValue>}.
+ * The decoder either reads a sequence of whitespace separated top-level
+ * values, or the elements of one top-level array.
+ *
+ * <p>
+ * Values are pulled with {@link #poll()} and each value is built only when
+ * it is polled. A processor with backpressure polls only while its
+ * subscriber has outstanding demand, and requests the next chunk only
+ * when the decoder needs more input:
+ *
+ * <pre>
+ * <code>
+ * public void onNext(ByteBuffer chunk) {
+ *     decoder.feed(chunk);
+ *     drain();
+ * }
+ *
+ * void drain() {
+ *     JsonValue value;
+ *     while (demand &gt; 0 &amp;&amp; (value = decoder.poll()) != null) {
+ *         demand--;
+ *         subscriber.onNext(value);
+ *     }
+ *     if (decoder.isFinished()) {
+ *         subscriber.onComplete();
+ *     } else if (demand &gt; 0 &amp;&amp; decoder.needsInput()) {
+ *         upstream.request(1);
+ *     }
+ * }
+ * </code>
+ * </pre>
+ *
+ * Only the chunks of the value being polled are buffered. Instances are
+ * not thread safe.
+ *
+ * @see NonBlockingJsonParser
+ */
+public interface JsonValueDecoder extends Closeable {
+
+    /**
+     * Pushes the remaining bytes of a buffer as a chunk of input. The
+     * position of the buffer is advanced to its limit.
+     *
+     * @param chunk buffer holding the chunk
+     * @throws IllegalStateException if {@link #endOfInput()} was called
+     * @throws jakarta.json.JsonException if encoding cannot be determined
+     *         or the parsing limit is exceeded
+     */
+    void feed(ByteBuffer chunk);
+
+    /**
+     * Signals that all input was fed.
+     *
+     * @throws jakarta.json.JsonException if encoding cannot be determined
+     */
+    void endOfInput();
+
+    /**
+     * Returns the next value, if it is fed completely.
+     *
+     * @return the next value, or {@code null} if more input is needed
+     *         or all values were returned
+     * @throws jakarta.json.stream.JsonParsingException if the input is not
+     *         valid JSON, or not an array when array elements are decoded
+     */
+    JsonValue poll();
+
+    /**
+     * Returns whether more input must be fed before the next value.
+     *
+     * @return {@code true} if more input is needed
+     */
+    boolean needsInput();
+
+    /**
+     * Returns whether all values were returned.
+     *
+     * @return {@code true} if the end of input was reached and all values
+     *         were returned
+     */
+    boolean isFinished();
+
+    /**
+     * Releases the buffers of this decoder.
+     */
+    @Override
+    void close();
+
+}
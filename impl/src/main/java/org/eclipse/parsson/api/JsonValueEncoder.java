@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.api;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+
+import jakarta.json.JsonValue;
+
+/**
+ * Incremental encoder of {@link JsonValue}s into UTF-8 chunks of bytes,
+ * meant to back reactive stream stages such as a
+ * {@code java.util.concurrent.Flow.Processor<JsonValue, ByteBuffer>}.
+ * The values are written either as newline separated top-level values, or
+ * as the elements of one top-level array.
+ *
+ * <p>
+ * Encoded chunks are pulled with {@link #poll()}. Chunks have the size the
+ * encoder was created with, except for the chunks made by {@link #flush()}
+ * and the last chunk. A processor with backpressure polls only while its
+ * subscriber has outstanding demand, and requests the next value only when
+ * no chunk is ready:
+ *
+ * <pre>
+ * <code>
+ * public void onNext(JsonValue value) {
+ *     encoder.write(value);
+ *     drain();
+ * }
+ *
+ * void drain() {
+ *     ByteBuffer chunk;
+ *     while (demand &gt; 0 &amp;&amp; (chunk = encoder.poll()) != null) {
+ *         demand--;
+ *         subscriber.onNext(chunk);
+ *     }
+ *     if (demand &gt; 0) {
+ *         upstream.request(1);
+ *     }
+ * }
+ * </code>
+ * </pre>
+ *
+ * Instances are not thread safe.
+ */
+public interface JsonValueEncoder extends Closeable {
+
+    /**
+     * Encodes a value.
+     *
+     * @param value the value
+     * @throws IllegalStateException if {@link #complete()} was called
+     */
+    void write(JsonValue value);
+
+    /**
+     * Makes all encoded bytes available as chunks, the last of them may be
+     * shorter than the chunk size.
+     */
+    void flush();
+
+    /**
+     * Ends the output, closing the array if array elements are encoded.
+     * The remaining bytes are made available as chunks.
+     */
+    void complete();
+
+    /**
+     * Returns the next encoded chunk. The chunk is ready to be read and is
+     * not used by the encoder afterwards.
+     *
+     * @return the next chunk, or {@code null} if no chunk is ready
+     */
+    ByteBuffer poll();
+
+    /**
+     * Releases the buffers of this encoder without completing the output.
+     */
+    @Override
+    void close();
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.api;
+
+import java.nio.ByteBuffer;
+
+import jakarta.json.stream.JsonParser;
+
+/**
+ * {@link JsonParser} that is pushed its input in chunks and never blocks.
+ * Each chunk is fed as it arrives, and events are pulled until the parser
+ * needs more input:
+ *
+ * <pre>
+ * <code>
+ * parser.feed(chunk);
+ * while (parser.hasNext()) {
+ *     JsonParser.Event event = parser.next();
+ *     ...
+ * }
+ * if (!parser.needsInput()) {
+ *     // the document is complete
+ * }
+ * </code>
+ * </pre>
+ *
+ * {@link #hasNext()} returns {@code false} when the next event is not fed
+ * completely yet, {@link #needsInput()} then tells it apart from the end of
+ * the document. {@link #next()} throws {@link IllegalStateException} in that
+ * case. A token split across chunks is kept until the rest of it is
+ * fed. The last chunk must be followed by {@link #endOfInput()}, as numbers and
+ * literals at the end of the input are only complete then.
+ *
+ * <p>
+ * {@link #getArray()}, {@link #getObject()}, {@link #getValue()},
+ * {@link #skipArray()}, {@link #skipObject()}, {@link #getArrayStream()} and
+ * {@link #getObjectStream()} need the rest of the current array or object to
+ * be fed, and {@link #getValueStream()} needs the end of input. They throw
+ * {@link IllegalStateException} otherwise.
+ *
+ * <p>
+ * When the encoding is detected, no event is available before the first four
+ * bytes or the end of input are fed. Byte order marks are skipped then.
+ * Instances are not thread safe.
+ */
+public interface NonBlockingJsonParser extends ParssonParser {
+
+    /**
+     * Pushes a chunk of input. The bytes are decoded right away, the array
+     * may be reused by the caller after this method returns.
+     *
+     * @param bytes array holding the chunk
+     * @param offset index of the first byte of the chunk
+     * @param length number of bytes of the chunk
+     * @throws IllegalStateException if {@link #endOfInput()} was called
+     * @throws jakarta.json.JsonException if encoding cannot be determined
+     *         or the parsing limit is exceeded
+     */
+    void feed(byte[] bytes, int offset, int length);
+
+    /**
+     * Pushes the remaining bytes of a buffer as a chunk of input. The bytes
+     * are decoded right away and the position of the buffer is advanced to
+     * its limit.
+     *
+     * @param buffer buffer holding the chunk
+     * @throws IllegalStateException if {@link #endOfInput()} was called
+     * @throws jakarta.json.JsonException if encoding cannot be determined
+     *         or the parsing limit is exceeded
+     */
+    void feed(ByteBuffer buffer);
+
+    /**
+     * Signals that all input was fed.
+     *
+     * @throws jakarta.json.JsonException if encoding cannot be determined
+     */
+    void endOfInput();
+
+    /**
+     * Returns whether more input must be fed before the next event.
+     *
+     * @return {@code true} if the next event is not fed completely yet
+     *         and {@link #endOfInput()} was not called
+     */
+    boolean needsInput();
+
+}
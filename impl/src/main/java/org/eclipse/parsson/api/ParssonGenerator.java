@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.api;
+
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * Eclipse Parsson specific extension of {@link JsonGenerator}. Generators
+ * created by the Eclipse Parsson provider implement this interface, e.g.
+ *
+ * <pre>
+ * <code>
+ * ParssonGenerator generator = (ParssonGenerator) Json.createGenerator(writer);
+ * </code>
+ * </pre>
+ */
+public interface ParssonGenerator extends JsonGenerator {
+
+    /**
+     * Writes pre-serialized JSON text as a value, in the same contexts as
+     * {@link #write(jakarta.json.JsonValue)}. The text is copied verbatim,
+     * it is not re-indented by pretty printing generators.
+     * <p>
+     * The optional check only verifies that the text is one value with
+     * balanced brackets and terminated strings. Numbers, literals and the
+     * separators inside objects and arrays are not validated.
+     *
+     * @param json JSON text of one value
+     * @param check whether the text is checked before it is written
+     * @return this generator
+     * @throws jakarta.json.stream.JsonGenerationException if this method is
+     *         not called in an array, after a key or as the only value, or
+     *         if the check fails
+     */
+    JsonGenerator writeRaw(CharSequence json, boolean check);
+
+    /**
+     * Writes pre-serialized JSON text as the value of an object member.
+     * See {@link #writeRaw(CharSequence, boolean)}.
+     *
+     * @param name name of the member
+     * @param json JSON text of one value
+     * @param check whether the text is checked before it is written
+     * @return this generator
+     * @throws jakarta.json.stream.JsonGenerationException if this method is
+     *         not called within an object, or if the check fails
+     */
+    JsonGenerator writeRaw(String name, CharSequence json, boolean check);
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.api;
+
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
+import jakarta.json.stream.JsonParser;
+
+/**
+ * Eclipse Parsson specific extension of {@link JsonGeneratorFactory}.
+ * Generator factories created by the Eclipse Parsson provider implement
+ * this interface, e.g.
+ *
+ * <pre>
+ * <code>
+ * ParssonGeneratorFactory factory = (ParssonGeneratorFactory) Json.createGeneratorFactory(config);
+ * </code>
+ * </pre>
+ */
+public interface ParssonGeneratorFactory extends JsonGeneratorFactory {
+
+    /**
+     * Creates an incremental encoder of JSON values into UTF-8 chunks.
+     *
+     * @param arrayElements {@code true} to write the values as elements of
+     *        one top-level array, {@code false} to write newline separated
+     *        top-level values
+     * @param chunkSize size of the encoded chunks in bytes
+     * @return a JSON value encoder
+     * @throws IllegalArgumentException if chunkSize is not positive
+     */
+    JsonValueEncoder createValueEncoder(boolean arrayElements, int chunkSize);
+
+    /**
+     * Copies the next JSON value of a parser into a generator, event by
+     * event, without building the value. Strings and numbers of Eclipse
+     * Parsson parsers are copied from the parser buffer into the generator
+     * buffer, numbers keep their original text. Memory use does not depend
+     * on the size of the value. Object members may be dropped, renamed or
+     * replaced by a filter. The parser is left at the last event of the
+     * value, and the generator is neither flushed nor closed.
+     * <p>
+     * Elements of an array are copied one by one until this method returns
+     * {@code false}, which happens when the parser reaches the end of the
+     * array instead of a value.
+     *
+     * @param parser parser positioned before the value
+     * @param generator generator in a state that accepts a value
+     * @param filter filter of the object members, or {@code null} to
+     *        copy all members
+     * @return {@code true} if a value was copied, {@code false} if the
+     *         parser reached the end of an array or object and nothing
+     *         was written
+     * @throws jakarta.json.stream.JsonParsingException if the value is not
+     *         valid JSON
+     * @throws java.util.NoSuchElementException if the parser has no more
+     *         events
+     */
+    boolean transcode(JsonParser parser, JsonGenerator generator, JsonMemberFilter filter);
+
+}
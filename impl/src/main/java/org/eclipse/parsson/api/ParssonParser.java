@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.api;
+
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import jakarta.json.stream.JsonParser;
+
+/**
+ * Eclipse Parsson specific extension of {@link JsonParser}. Parsers created
+ * by the Eclipse Parsson provider implement this interface, e.g.
+ *
+ * <pre>
+ * <code>
+ * ParssonParser parser = (ParssonParser) Json.createParser(reader);
+ * </code>
+ * </pre>
+ */
+public interface ParssonParser extends JsonParser {
+
+    /**
+     * Returns the JSON text of the current value without building it.
+     * <p>
+     * If the current event is {@link Event#START_OBJECT} or
+     * {@link Event#START_ARRAY}, the rest of the object or array is skipped
+     * as by {@link #skipObject()} or {@link #skipArray()}, and the exact
+     * text from the opening to the closing bracket is returned. The parser
+     * is then at the {@link Event#END_OBJECT} or {@link Event#END_ARRAY}
+     * event. The members are not validated, only brackets and strings are
+     * tracked while skipping. For input parsed in place, such as a
+     * {@code String} or a {@code char[]}, the returned sequence is a view of
+     * the input, which is valid until the parser is reset.
+     * <p>
+     * For a number or a literal, the text of the token is returned. For input
+     * parsed in place, a string is returned as a view of the input including
+     * the quotes, with the escapes of the input. For other input, a string is
+     * returned quoted and escaped as a generator writes it, which may differ
+     * from the escapes of the input.
+     *
+     * @return JSON text of the current value
+     * @throws IllegalStateException if the current event is not the start
+     *         of an object or array or a value
+     * @throws jakarta.json.stream.JsonParsingException if the object or
+     *         array is not closed
+     */
+    CharSequence getRawValue();
+
+    /**
+     * Returns a stream of the elements of the current array of numbers, read
+     * as by {@link #getInt()} without building
+     * {@link jakarta.json.JsonNumber}s. The parser advances as the stream is
+     * consumed, up to the {@link Event#END_ARRAY} event. For input parsed in
+     * place, such as a {@code String} or a {@code char[]}, the stream can be
+     * split for parallel processing, which moves the parser past the array
+     * at once.
+     *
+     * @return a stream of the elements of the array
+     * @throws IllegalStateException if the current event is not
+     *         {@link Event#START_ARRAY}
+     * @throws jakarta.json.stream.JsonParsingException from the stream
+     *         operations, if an element is not a number
+     */
+    IntStream getIntArrayStream();
+
+    /**
+     * Returns a stream of the elements of the current array of numbers, read
+     * as by {@link #getLong()}. The stream behaves the same way as
+     * {@link #getIntArrayStream()}.
+     *
+     * @return a stream of the elements of the array
+     * @throws IllegalStateException if the current event is not
+     *         {@link Event#START_ARRAY}
+     * @throws jakarta.json.stream.JsonParsingException from the stream
+     *         operations, if an element is not a number
+     */
+    LongStream getLongArrayStream();
+
+    /**
+     * Returns a stream of the elements of the current array of numbers, read
+     * as the nearest {@code double}. The stream behaves the same way as
+     * {@link #getIntArrayStream()}.
+     *
+     * @return a stream of the elements of the array
+     * @throws IllegalStateException if the current event is not
+     *         {@link Event#START_ARRAY}
+     * @throws jakarta.json.stream.JsonParsingException from the stream
+     *         operations, if an element is not a number
+     */
+    DoubleStream getDoubleArrayStream();
+
+    /**
+     * Extracts columns of values from the current array of objects without
+     * building {@link jakarta.json.JsonValue}s. Each element of the array is
+     * a row, the values of the specified columns are stored in primitive or
+     * {@code String} arrays, and all other members are skipped. The parser is
+     * then at the {@link Event#END_ARRAY} event.
+     * <p>
+     * Elements that are not objects are rows without values. A value of the
+     * wrong type for its column, such as a string in a
+     * {@link JsonColumnSpec.Type#LONG} column, is a parsing error.
+     *
+     * @param spec columns to extract
+     * @return the extracted columns
+     * @throws IllegalStateException if the current event is not
+     *         {@link Event#START_ARRAY}
+     * @throws jakarta.json.stream.JsonParsingException if a value does not
+     *         match the type of its column or the array is invalid
+     */
+    JsonColumns getColumns(JsonColumnSpec spec);
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.api;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParserFactory;
+
+/**
+ * Eclipse Parsson specific extension of {@link JsonParserFactory}.
+ * Parser factories created by the Eclipse Parsson provider implement
+ * this interface, e.g.
+ *
+ * <pre>
+ * <code>
+ * ParssonParserFactory factory = (ParssonParserFactory) Json.createParserFactory(config);
+ * </code>
+ * </pre>
+ */
+public interface ParssonParserFactory extends JsonParserFactory {
+
+    /**
+     * Creates a parser that can be reset onto new inputs. The parser has
+     * empty input until it is reset.
+     *
+     * @return a reusable JSON parser
+     */
+    ReusableJsonParser createReusableParser();
+
+    /**
+     * Creates a parser that is pushed its input in chunks and never blocks.
+     * The character encoding of the input is determined as specified in
+     * <a href="http://tools.ietf.org/rfc/rfc7159.txt">RFC 7159</a>.
+     *
+     * @return a non-blocking JSON parser
+     */
+    NonBlockingJsonParser createNonBlockingParser();
+
+    /**
+     * Creates a parser that is pushed its input in chunks and never blocks.
+     *
+     * @param charset character encoding of the input
+     * @return a non-blocking JSON parser
+     */
+    NonBlockingJsonParser createNonBlockingParser(Charset charset);
+
+    /**
+     * Creates an incremental decoder of JSON values from chunks of bytes.
+     * The character encoding of the input is determined as specified in
+     * <a href="http://tools.ietf.org/rfc/rfc7159.txt">RFC 7159</a>.
+     *
+     * @param arrayElements {@code true} to decode the elements of one
+     *        top-level array, {@code false} to decode a sequence of
+     *        whitespace separated top-level values
+     * @return a JSON value decoder
+     */
+    JsonValueDecoder createValueDecoder(boolean arrayElements);
+
+    /**
+     * Creates a JSON parser from a string. The characters are copied once
+     * into a private array, which is scanned in place, without a
+     * {@link java.io.Reader} and without the pooled parser buffer.
+     *
+     * @param json JSON text
+     * @return a JSON parser
+     */
+    JsonParser createParser(String json);
+
+    /**
+     * Creates a JSON parser from a range of a character array. The characters
+     * are scanned in place and are never modified by the parser. Offsets
+     * reported by the parser locations are relative to {@code offset}.
+     *
+     * @param chars array holding the JSON text
+     * @param offset index of the first character of the JSON text
+     * @param length number of characters of the JSON text
+     * @return a JSON parser
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds
+     */
+    JsonParser createParser(char[] chars, int offset, int length);
+
+    /**
+     * Creates a JSON parser from a range of a byte array. The character
+     * encoding is determined as specified in
+     * <a href="http://tools.ietf.org/rfc/rfc7159.txt">RFC 7159</a>.
+     * The bytes are decoded at once, without a stream.
+     *
+     * @param bytes array holding the JSON text
+     * @param offset index of the first byte of the JSON text
+     * @param length number of bytes of the JSON text
+     * @return a JSON parser
+     * @throws jakarta.json.JsonException if encoding cannot be determined
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds
+     */
+    JsonParser createParser(byte[] bytes, int offset, int length);
+
+    /**
+     * Creates a JSON parser from the remaining bytes of a byte buffer. Direct
+     * and memory mapped buffers are decoded in place, without copying the
+     * bytes to the heap. The character encoding is determined as specified in
+     * <a href="http://tools.ietf.org/rfc/rfc7159.txt">RFC 7159</a>.
+     * The position and limit of the buffer are not changed.
+     *
+     * @param buffer buffer holding the JSON text
+     * @return a JSON parser
+     * @throws jakarta.json.JsonException if encoding cannot be determined
+     */
+    JsonParser createParser(ByteBuffer buffer);
+
+    /**
+     * Creates a JSON parser from a file. The file is memory mapped and decoded
+     * one window at a time, so heap use does not depend on the file size.
+     * The character encoding is determined as specified in
+     * <a href="http://tools.ietf.org/rfc/rfc7159.txt">RFC 7159</a>.
+     * The file is closed when the parser is closed.
+     * <p>
+     * The size of the file is not limited by
+     * {@link JsonConfig#MAX_PARSING_LIMIT}, which applies to each token,
+     * including the whitespace before it, instead of the whole document.
+     *
+     * @param path JSON file
+     * @return a JSON parser
+     * @throws jakarta.json.JsonException if the file cannot be opened
+     *         or encoding cannot be determined
+     */
+    JsonParser createParser(Path path);
+
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.api;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import jakarta.json.JsonReader;
+import jakarta.json.JsonReaderFactory;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParsingException;
+
+/**
+ * Eclipse Parsson specific extension of {@link JsonReaderFactory}.
+ * Reader factories created by the Eclipse Parsson provider implement
+ * this interface, e.g.
+ *
+ * <pre>
+ * <code>
+ * ParssonReaderFactory factory = (ParssonReaderFactory) Json.createReaderFactory(config);
+ * </code>
+ * </pre>
+ */
+public interface ParssonReaderFactory extends JsonReaderFactory {
+
+    /**
+     * Creates a JSON reader from a character stream that materializes only
+     * the members selected by a projection. The other members are skipped
+     * by the tokenizer, without building their values.
+     *
+     * @param reader i/o reader from which JSON is to be read
+     * @param projection members to materialize
+     * @return a projected JSON reader
+     * @throws NullPointerException if projection is {@code null}
+     */
+    JsonReader createReader(Reader reader, JsonProjection projection);
+
+    /**
+     * Creates a JSON reader from a byte stream that materializes only the
+     * members selected by a projection. The character encoding is determined
+     * as specified in
+     * <a href="http://tools.ietf.org/rfc/rfc7159.txt">RFC 7159</a>.
+     *
+     * @param in i/o stream from which JSON is to be read
+     * @param projection members to materialize
+     * @return a projected JSON reader
+     * @throws jakarta.json.JsonException if encoding cannot be determined
+     * @throws NullPointerException if projection is {@code null}
+     */
+    JsonReader createReader(InputStream in, JsonProjection projection);
+
+    /**
+     * Creates a reader that can be reset onto new inputs. The reader has
+     * empty input until it is reset.
+     *
+     * @return a reusable JSON reader
+     */
+    ReusableJsonReader createReusableReader();
+
+    /**
+     * Creates a JSON Lines reader from a character stream.
+     *
+     * @param reader i/o reader from which the records are read
+     * @return a JSON Lines reader
+     */
+    JsonLinesReader createJsonLinesReader(Reader reader);
+
+    /**
+     * Creates a JSON Lines reader from a UTF-8 encoded byte stream.
+     *
+     * @param in i/o stream from which the records are read
+     * @return a JSON Lines reader
+     */
+    JsonLinesReader createJsonLinesReader(InputStream in);
+
+    /**
+     * Creates a parallel stream of the records of a UTF-8 JSON Lines file.
+     * The file is memory mapped and split into regions at line boundaries,
+     * and each region is parsed by its own parser, so large files are read
+     * with as many threads as the stream uses. If {@code ordered} is false,
+     * the stream has no encounter order, which lets e.g. {@code forEach}
+     * and {@code collect} proceed without regard to the order of regions.
+     * Limits such as {@link JsonConfig#MAX_PARSING_LIMIT} apply per record.
+     * An invalid record terminates the stream with a
+     * {@link jakarta.json.stream.JsonParsingException}, whose location is
+     * relative to the region holding the record.
+     * The file is closed when the stream is closed.
+     *
+     * @param path JSON Lines file
+     * @param ordered whether the stream keeps the order of the file records
+     * @return a parallel stream of the file records
+     * @throws jakarta.json.JsonException if the file cannot be opened
+     */
+    Stream<JsonValue> createJsonLinesStream(Path path, boolean ordered);
+
+    /**
+     * Creates a parallel stream of the records of a UTF-8 JSON Lines file,
+     * as {@link #createJsonLinesStream(Path, boolean)} does, except that an
+     * invalid record does not terminate the stream. The
+     * {@link jakarta.json.stream.JsonParsingException} of each invalid record
+     * is passed to the error handler and the record is skipped, the same way
+     * a {@link JsonLinesReader} continues after an invalid record. The handler
+     * may be called concurrently by the threads of the stream.
+     *
+     * @param path JSON Lines file
+     * @param ordered whether the stream keeps the order of the file records
+     * @param errorHandler consumer of the errors of invalid records
+     * @return a parallel stream of the valid file records
+     * @throws jakarta.json.JsonException if the file cannot be opened
+     */
+    Stream<JsonValue> createJsonLinesStream(Path path, boolean ordered,
+                                            Consumer<? super JsonParsingException> errorHandler);
+
+    /**
+     * Creates a JSON reader from a string. The characters are copied once
+     * into a private array, which is scanned in place, without a
+     * {@link java.io.Reader}.
+     *
+     * @param json JSON text
+     * @return a JSON reader
+     */
+    JsonReader createReader(String json);
+
+    /**
+     * Creates a JSON reader from a range of a character array. The characters
+     * are scanned in place and are never modified by the reader.
+     *
+     * @param chars array holding the JSON text
+     * @param offset index of the first character of the JSON text
+     * @param length number of characters of the JSON text
+     * @return a JSON reader
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds
+     */
+    JsonReader createReader(char[] chars, int offset, int length);
+
+    /**
+     * Creates a JSON reader from a range of a byte array. The character
+     * encoding is determined as specified in
+     * <a href="http://tools.ietf.org/rfc/rfc7159.txt">RFC 7159</a>.
+     * The bytes are decoded at once, without a stream.
+     *
+     * @param bytes array holding the JSON text
+     * @param offset index of the first byte of the JSON text
+     * @param length number of bytes of the JSON text
+     * @return a JSON reader
+     * @throws jakarta.json.JsonException if encoding cannot be determined
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds
+     */
+    JsonReader createReader(byte[] bytes, int offset, int length);
+
+    /**
+     * Creates a JSON reader from the remaining bytes of a byte buffer. Direct
+     * and memory mapped buffers are decoded in place, without copying the
+     * bytes to the heap. The character encoding is determined as specified in
+     * <a href="http://tools.ietf.org/rfc/rfc7159.txt">RFC 7159</a>.
+     * The position and limit of the buffer are not changed.
+     *
+     * @param buffer buffer holding the JSON text
+     * @return a JSON reader
+     * @throws jakarta.json.JsonException if encoding cannot be determined
+     */
+    JsonReader createReader(ByteBuffer buffer);
+
+    /**
+     * Creates a JSON reader from a file. The file is memory mapped and decoded
+     * one window at a time, so heap use does not depend on the file size.
+     * The character encoding is determined as specified in
+     * <a href="http://tools.ietf.org/rfc/rfc7159.txt">RFC 7159</a>.
+     * The file is closed when the reader is closed.
+     * <p>
+     * The size of the file is not limited by
+     * {@link JsonConfig#MAX_PARSING_LIMIT}, which applies to each token,
+     * including the whitespace before it, instead of the whole document.
+     *
+     * @param path JSON file
+     * @return a JSON reader
+     * @throws jakarta.json.JsonException if the file cannot be opened
+     *         or encoding cannot be determined
+     */
+    JsonReader createReader(Path path);
+
+}
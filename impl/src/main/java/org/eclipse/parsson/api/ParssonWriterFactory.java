@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.api;
+
+import java.io.OutputStream;
+import java.io.Writer;
+
+import jakarta.json.JsonWriterFactory;
+
+/**
+ * Eclipse Parsson specific extension of {@link JsonWriterFactory}.
+ * Writer factories created by the Eclipse Parsson provider implement
+ * this interface, e.g.
+ *
+ * <pre>
+ * <code>
+ * ParssonWriterFactory factory = (ParssonWriterFactory) Json.createWriterFactory(config);
+ * </code>
+ * </pre>
+ */
+public interface ParssonWriterFactory extends JsonWriterFactory {
+
+    /**
+     * Creates a JSON Lines writer to write records to a character stream.
+     *
+     * @param writer i/o writer to which the records are written
+     * @return a JSON Lines writer
+     */
+    JsonLinesWriter createJsonLinesWriter(Writer writer);
+
+    /**
+     * Creates a JSON Lines writer to write UTF-8 encoded records to a byte
+     * stream.
+     *
+     * @param out i/o stream to which the records are written
+     * @return a JSON Lines writer
+     */
+    JsonLinesWriter createJsonLinesWriter(OutputStream out);
+
+}
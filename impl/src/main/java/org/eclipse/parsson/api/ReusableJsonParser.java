@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.api;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+
+import jakarta.json.stream.JsonParser;
+
+/**
+ * {@link JsonParser} that can be reset onto a new input. The parser keeps its
+ * buffers and internal state objects between inputs, so parsing many small
+ * documents does not pay the parser setup cost for every document.
+ *
+ * <p>
+ * {@link #close()} closes the current input and returns the buffer taken
+ * from the {@link BufferPool} for stream input, the parser may be reset again
+ * afterwards. The previous input is not closed by {@code reset}, and the
+ * buffer is kept between stream inputs until {@code close}.
+ * Instances are not thread safe, but may be pooled per thread.
+ */
+public interface ReusableJsonParser extends ParssonParser {
+
+    /**
+     * Resets this parser to parse JSON from a character stream.
+     *
+     * @param reader i/o reader from which JSON is to be read
+     * @return this parser
+     */
+    ReusableJsonParser reset(Reader reader);
+
+    /**
+     * Resets this parser to parse JSON from a byte stream. The character
+     * encoding of the stream is determined as specified in
+     * <a href="http://tools.ietf.org/rfc/rfc7159.txt">RFC 7159</a>.
+     *
+     * @param in i/o stream from which JSON is to be read
+     * @return this parser
+     * @throws jakarta.json.JsonException if encoding cannot be determined
+     *         or i/o error (IOException would be cause of JsonException)
+     */
+    ReusableJsonParser reset(InputStream in);
+
+    /**
+     * Resets this parser to parse JSON from a byte stream using the specified
+     * character encoding.
+     *
+     * @param in i/o stream from which JSON is to be read
+     * @param charset a charset
+     * @return this parser
+     */
+    ReusableJsonParser reset(InputStream in, Charset charset);
+
+    /**
+     * Resets this parser to parse JSON from a range of a byte array. The
+     * character encoding is determined as specified in
+     * <a href="http://tools.ietf.org/rfc/rfc7159.txt">RFC 7159</a>.
+     *
+     * @param bytes array holding the JSON text
+     * @param offset index of the first byte of the JSON text
+     * @param length number of bytes of the JSON text
+     * @return this parser
+     * @throws jakarta.json.JsonException if encoding cannot be determined
+     */
+    ReusableJsonParser reset(byte[] bytes, int offset, int length);
+
+    /**
+     * Resets this parser to parse JSON from a string. The characters are
+     * copied into an array kept by this parser between inputs, which is
+     * scanned in place.
+     *
+     * @param json JSON text
+     * @return this parser
+     */
+    ReusableJsonParser reset(String json);
+
+    /**
+     * Resets this parser to parse JSON from a range of a character array.
+     * The characters are scanned in place and are never modified.
+     *
+     * @param chars array holding the JSON text
+     * @param offset index of the first character of the JSON text
+     * @param length number of characters of the JSON text
+     * @return this parser
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds
+     */
+    ReusableJsonParser reset(char[] chars, int offset, int length);
+
+}
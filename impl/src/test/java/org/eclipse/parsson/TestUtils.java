@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,10 +17,12 @@
 package org.eclipse.parsson;
 
 import java.io.StringReader;
+import java.nio.file.Path;
 import java.util.Collections;
 
 import jakarta.json.JsonReader;
 import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
 
 /**
  * Local test utils.
@@ -37,6 +39,17 @@ public class TestUtils {
         return new JsonMergePatchImpl(patch, new JsonContext(null, new BufferPoolImpl()));
     }
 
+    /**
+     * Creates a parser of a memory mapped file with the given window size.
+     *
+     * @param path JSON file
+     * @param windowSize size of the mapped windows
+     * @return new JSON parser
+     */
+    public static JsonParser createMappedParser(Path path, int windowSize) {
+        return JsonParserImpl.ofFile(path, windowSize, new JsonContext(null, new BufferPoolImpl()));
+    }
+
     /**
      * Reads the input JSON text and returns a JsonValue.
      * <p>For convenience, single quotes as well as double quotes
@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.tests;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonLocation;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParsingException;
+
+import org.eclipse.parsson.api.BufferPool;
+import org.eclipse.parsson.api.ParssonParserFactory;
+import org.eclipse.parsson.api.ParssonReaderFactory;
+import org.eclipse.parsson.api.ReusableJsonParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests parsing of String, char[] and byte[] input without a Reader.
+ */
+public class InMemoryJsonParserTest {
+
+    private static final ParssonParserFactory FACTORY =
+            (ParssonParserFactory) Json.createParserFactory(null);
+
+    @Test
+    void testString() {
+        try (JsonParser parser = FACTORY.createParser("{\"a\":\"x\\ny\\u0041\",\"b\":[1,2.5,-3e2,true,null]}")) {
+            Assertions.assertEquals(JsonParser.Event.START_OBJECT, parser.next());
+            JsonObject object = parser.getObject();
+            Assertions.assertEquals("x\nyA", object.getString("a"));
+            JsonArray array = object.getJsonArray("b");
+            Assertions.assertEquals(1, array.getInt(0));
+            Assertions.assertEquals("2.5", array.getJsonNumber(1).bigDecimalValue().toString());
+            Assertions.assertEquals(-300, array.getInt(2));
+            Assertions.assertFalse(parser.hasNext());
+        }
+    }
+
+    @Test
+    void testNumberAtEndOfInput() {
+        try (JsonParser parser = FACTORY.createParser("12345678901")) {
+            Assertions.assertEquals(JsonParser.Event.VALUE_NUMBER, parser.next());
+            Assertions.assertEquals(12345678901L, parser.getLong());
+            Assertions.assertFalse(parser.hasNext());
+        }
+    }
+
+    @Test
+    void testCharArrayRangeIsNotModified() {
+        String text = "xx[\"a\\tb\",\"c\\\"d\"]yy";
+        char[] chars = text.toCharArray();
+        try (JsonParser parser = FACTORY.createParser(chars, 2, text.length() - 4)) {
+            Assertions.assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+            Assertions.assertEquals(1L, parser.getLocation().getStreamOffset());
+            Assertions.assertEquals(JsonParser.Event.VALUE_STRING, parser.next());
+            Assertions.assertEquals("a\tb", parser.getString());
+            Assertions.assertEquals(JsonParser.Event.VALUE_STRING, parser.next());
+            Assertions.assertEquals("c\"d", parser.getString());
+            Assertions.assertEquals(JsonParser.Event.END_ARRAY, parser.next());
+            Assertions.assertFalse(parser.hasNext());
+        }
+        Assertions.assertEquals(text, new String(chars));
+    }
+
+    @Test
+    void testLongEscapedString() {
+        StringBuilder json = new StringBuilder("[\"");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            json.append("ab\\n");
+            expected.append("ab\n");
+        }
+        json.append("\"]");
+        try (JsonParser parser = FACTORY.createParser(json.toString())) {
+            Assertions.assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+            Assertions.assertEquals(JsonParser.Event.VALUE_STRING, parser.next());
+            Assertions.assertEquals(expected.toString(), parser.getString());
+        }
+    }
+
+    @Test
+    void testByteArray() {
+        byte[] utf8 = "{\"k\":\"é中\"}".getBytes(StandardCharsets.UTF_8);
+        try (JsonParser parser = FACTORY.createParser(utf8, 0, utf8.length)) {
+            parser.next();
+            Assertions.assertEquals("é中", parser.getObject().getString("k"));
+        }
+        byte[] utf16 = "﻿[\"é\"]".getBytes(StandardCharsets.UTF_16BE);
+        try (JsonParser parser = FACTORY.createParser(utf16, 0, utf16.length)) {
+            parser.next();
+            Assertions.assertEquals("é", parser.getArray().getString(0));
+        }
+    }
+
+    @Test
+    void testMalformedInput() {
+        try (JsonParser parser = FACTORY.createParser("[1,")) {
+            parser.next();
+            parser.next();
+            Assertions.assertThrows(JsonParsingException.class, parser::next);
+        }
+    }
+
+    @Test
+    void testInvalidRange() {
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+                () -> FACTORY.createParser(new char[4], 2, 3));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+                () -> FACTORY.createParser(new byte[4], -1, 2));
+    }
+
+    @Test
+    void testNoBufferTaken() {
+        JsonParserTest.MyBufferPool bufferPool = new JsonParserTest.MyBufferPool(32);
+        Map<String, ?> config = Collections.singletonMap(BufferPool.class.getName(), bufferPool);
+        ParssonParserFactory factory = (ParssonParserFactory) Json.createParserFactory(config);
+        try (JsonParser parser = factory.createParser("[\"a\\nb\"]")) {
+            parser.next();
+            Assertions.assertEquals("a\nb", parser.getArray().getString(0));
+        }
+        Assertions.assertFalse(bufferPool.isTakeCalled());
+        Assertions.assertFalse(bufferPool.isRecycleCalled());
+    }
+
+    @Test
+    void testReusableParserSwitchesInput() {
+        try (ReusableJsonParser parser = FACTORY.createReusableParser()) {
+            parser.reset("[1]");
+            parser.next();
+            Assertions.assertEquals(1, parser.getArray().getInt(0));
+            parser.reset(new StringReader("[2]"));
+            parser.next();
+            Assertions.assertEquals(2, parser.getArray().getInt(0));
+            char[] chars = "[[3]]".toCharArray();
+            parser.reset(chars, 1, 3);
+            parser.next();
+            Assertions.assertEquals(3, parser.getArray().getInt(0));
+            byte[] bytes = "[\"é\"]".getBytes(StandardCharsets.UTF_8);
+            parser.reset(bytes, 0, bytes.length);
+            parser.next();
+            Assertions.assertEquals("é", parser.getArray().getString(0));
+            parser.reset(new StringReader("[5]"));
+            parser.next();
+            Assertions.assertEquals(5, parser.getArray().getInt(0));
+        }
+    }
+
+    @Test
+    void testReader() {
+        ParssonReaderFactory factory = (ParssonReaderFactory) Json.createReaderFactory(null);
+        Assertions.assertEquals(Json.createArrayBuilder().add(1).add("a").build(),
+                factory.createReader("[1,\"a\"]").read());
+        char[] chars = " {\"a\":true} ".toCharArray();
+        Assertions.assertTrue(factory.createReader(chars, 0, chars.length).readObject().getBoolean("a"));
+        byte[] bytes = "[null]".getBytes(StandardCharsets.UTF_16LE);
+        Assertions.assertTrue(factory.createReader(bytes, 0, bytes.length).readArray().isNull(0));
+    }
+
+    @Test
+    void testParallelArrayStream() {
+        StringBuilder sb = new StringBuilder("{\"items\": [\n");
+        for (int i = 0; i < 10000; i++) {
+            if (i > 0) {
+                sb.append(",\n");
+            }
+            switch (i % 4) {
+                case 0:
+                    sb.append("{\"id\":").append(i).append(",\"s\":\"a,]}\\\"[\"}");
+                    break;
+                case 1:
+                    sb.append("[").append(i).append(",[],{}]");
+                    break;
+                case 2:
+                    sb.append("\"").append(i).append(",\\\\\"");
+                    break;
+                default:
+                    sb.append(i);
+            }
+        }
+        sb.append("], \"after\": true}");
+        String json = sb.toString();
+        JsonArray expected = Json.createReader(new StringReader(json)).readObject().getJsonArray("items");
+
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            parser.next();
+            parser.next();
+            parser.next();
+            Stream<JsonValue> stream = parser.getArrayStream();
+            Spliterator<JsonValue> spliterator = stream.spliterator();
+            Spliterator<JsonValue> prefix = spliterator.trySplit();
+            Assertions.assertNotNull(prefix);
+            Assertions.assertEquals(expected.size(), prefix.estimateSize() + spliterator.estimateSize());
+            // the parser continues after the array
+            Assertions.assertEquals(JsonParser.Event.END_ARRAY, parser.currentEvent());
+            Assertions.assertEquals(JsonParser.Event.KEY_NAME, parser.next());
+            Assertions.assertEquals("after", parser.getString());
+            List<JsonValue> values = new ArrayList<>();
+            prefix.forEachRemaining(values::add);
+            spliterator.forEachRemaining(values::add);
+            Assertions.assertEquals(expected, values);
+        }
+
+        try (JsonParser parser = FACTORY.createParser(json.toCharArray(), 0, json.length())) {
+            parser.next();
+            parser.next();
+            parser.next();
+            List<JsonValue> values = parser.getArrayStream().parallel().collect(Collectors.toList());
+            Assertions.assertEquals(expected, values);
+            Assertions.assertEquals(JsonParser.Event.KEY_NAME, parser.next());
+        }
+    }
+
+    @Test
+    void testParallelArrayStreamLocation() {
+        // the parser moves past the split array without scanning it again
+        String json = "{\"items\": [1,\n[2,\r\n3],\r{\"a\":\n\"b\\\"\\n]\"}\n], \"after\": true}";
+        JsonLocation expected;
+        try (JsonParser parser = FACTORY.createParser(new StringReader(json))) {
+            parser.next();
+            parser.next();
+            parser.next();
+            parser.skipArray();
+            Assertions.assertEquals(JsonParser.Event.KEY_NAME, parser.next());
+            expected = parser.getLocation();
+        }
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            parser.next();
+            parser.next();
+            parser.next();
+            Assertions.assertEquals(3, parser.getArrayStream().parallel().count());
+            Assertions.assertEquals(JsonParser.Event.END_ARRAY, parser.currentEvent());
+            Assertions.assertEquals(JsonParser.Event.KEY_NAME, parser.next());
+            JsonLocation location = parser.getLocation();
+            Assertions.assertEquals(expected.getLineNumber(), location.getLineNumber());
+            Assertions.assertEquals(expected.getColumnNumber(), location.getColumnNumber());
+            Assertions.assertEquals(expected.getStreamOffset(), location.getStreamOffset());
+        }
+        try (JsonParser parser = FACTORY.createParser("[1, 2}")) {
+            parser.next();
+            Assertions.assertThrows(JsonParsingException.class,
+                    () -> parser.getArrayStream().parallel().count());
+        }
+    }
+
+    @Test
+    void testParallelArrayStreamDepthLimit() {
+        // elements are parsed on their own, nested as deep as the array
+        ParssonParserFactory factory = (ParssonParserFactory) Json.createParserFactory(
+                Collections.singletonMap(org.eclipse.parsson.api.JsonConfig.MAX_DEPTH, 3));
+        try (JsonParser parser = factory.createParser("[[1], [2]]")) {
+            parser.next();
+            Assertions.assertEquals(2, parser.getArrayStream().parallel().count());
+        }
+        for (String json : new String[] {"[[1], [[2]]]", "[[[2]], [1]]"}) {
+            try (JsonParser parser = factory.createParser(json)) {
+                parser.next();
+                RuntimeException e = Assertions.assertThrows(RuntimeException.class,
+                        () -> parser.getArrayStream().parallel().collect(Collectors.toList()));
+                Assertions.assertTrue(e.getMessage().endsWith("Input is too deeply nested 3"), e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    void testParallelArrayStreamTakesNoBuffer() {
+        JsonParserTest.MyBufferPool bufferPool = new JsonParserTest.MyBufferPool(32);
+        Map<String, ?> config = Collections.singletonMap(BufferPool.class.getName(), bufferPool);
+        ParssonParserFactory factory = (ParssonParserFactory) Json.createParserFactory(config);
+        StringBuilder sb = new StringBuilder("[0");
+        for (int i = 1; i < 10000; i++) {
+            sb.append(",[").append(i).append(']');
+        }
+        try (JsonParser parser = factory.createParser(sb.append(']').toString())) {
+            parser.next();
+            Assertions.assertEquals(10000, parser.getArrayStream().parallel().count());
+        }
+        Assertions.assertFalse(bufferPool.isTakeCalled());
+    }
+
+    @Test
+    void testParallelArrayStreamEdges() {
+        try (JsonParser parser = FACTORY.createParser("[ ]")) {
+            parser.next();
+            Assertions.assertEquals(0, parser.getArrayStream().parallel().count());
+            Assertions.assertFalse(parser.hasNext());
+        }
+        try (JsonParser parser = FACTORY.createParser("[1,,2]")) {
+            parser.next();
+            Assertions.assertThrows(JsonParsingException.class,
+                    () -> parser.getArrayStream().parallel().collect(Collectors.toList()));
+        }
+        try (JsonParser parser = FACTORY.createParser("[1 2]")) {
+            parser.next();
+            Assertions.assertThrows(JsonParsingException.class,
+                    () -> parser.getArrayStream().parallel().collect(Collectors.toList()));
+        }
+    }
+
+}
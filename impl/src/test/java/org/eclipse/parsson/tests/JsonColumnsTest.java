@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.tests;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.BitSet;
+
+import jakarta.json.Json;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParsingException;
+
+import org.eclipse.parsson.api.JsonColumnSpec;
+import org.eclipse.parsson.api.JsonColumnSpec.Type;
+import org.eclipse.parsson.api.JsonColumns;
+import org.eclipse.parsson.api.ParssonParser;
+import org.eclipse.parsson.api.ParssonParserFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests extraction of columns from arrays of objects.
+ */
+public class JsonColumnsTest {
+
+    private static final String JSON = "[{\"ts\": 1700000000000, \"v\": 1.5, \"n\": 3, \"host\": {\"name\": \"a\"},"
+            + " \"ok\": true, \"extra\": [1, {\"ts\": 0}]},"
+            + " {\"v\": 2, \"ts\": null, \"host\": {\"ip\": \"x\"}, \"ok\": false, \"n\": -7},"
+            + " null, [1],"
+            + " {\"ts\": -5, \"v\": -1e-3, \"host\": {\"name\": \"c\\u0041\"}, \"a/b\": \"s\"}]";
+
+    private static final JsonColumnSpec SPEC = JsonColumnSpec.builder()
+            .add("ts", Type.LONG)
+            .add("v", Type.DOUBLE)
+            .add("n", Type.INT)
+            .add("/host/name", Type.STRING)
+            .add("ok", Type.BOOLEAN)
+            .add("/a~1b", Type.STRING)
+            .build();
+
+    private static JsonColumns columns(JsonParser parser, JsonColumnSpec spec) {
+        Assertions.assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+        JsonColumns columns = ((ParssonParser) parser).getColumns(spec);
+        Assertions.assertEquals(JsonParser.Event.END_ARRAY, parser.currentEvent());
+        return columns;
+    }
+
+    private static BitSet bits(int... rows) {
+        BitSet bits = new BitSet();
+        for (int row : rows) {
+            bits.set(row);
+        }
+        return bits;
+    }
+
+    private static void check(JsonColumns columns) {
+        Assertions.assertEquals(5, columns.size());
+        Assertions.assertArrayEquals(new long[] {1700000000000L, 0, 0, 0, -5}, columns.getLongs("ts"));
+        Assertions.assertArrayEquals(new double[] {1.5, 2, 0, 0, -1e-3}, columns.getDoubles("v"));
+        Assertions.assertArrayEquals(new int[] {3, -7, 0, 0, 0}, columns.getInts("n"));
+        Assertions.assertArrayEquals(new String[] {"a", null, null, null, "cA"}, columns.getStrings("/host/name"));
+        Assertions.assertEquals(Arrays.toString(new boolean[] {true, false, false, false, false}),
+                Arrays.toString(columns.getBooleans("ok")));
+        Assertions.assertArrayEquals(new String[] {null, null, null, null, "s"}, columns.getStrings("/a~1b"));
+        Assertions.assertEquals(bits(1), columns.getNulls("ts"));
+        Assertions.assertEquals(bits(2, 3), columns.getMissing("ts"));
+        Assertions.assertEquals(bits(1, 2, 3), columns.getMissing("/host/name"));
+        Assertions.assertEquals(bits(2, 3, 4), columns.getMissing("ok"));
+        Assertions.assertEquals(bits(), columns.getNulls("ok"));
+    }
+
+    @Test
+    void testReader() {
+        try (JsonParser parser = Json.createParser(new StringReader(JSON))) {
+            check(columns(parser, SPEC));
+            Assertions.assertFalse(parser.hasNext());
+        }
+    }
+
+    @Test
+    void testInMemory() {
+        ParssonParserFactory factory = (ParssonParserFactory) Json.createParserFactory(null);
+        try (JsonParser parser = factory.createParser(JSON)) {
+            check(columns(parser, SPEC));
+        }
+    }
+
+    @Test
+    void testGrowth() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"i\":").append(i).append(",\"s\":\"").append(i).append("\"}");
+        }
+        json.append(']');
+        JsonColumnSpec spec = JsonColumnSpec.builder().add("i", Type.INT).add("s", Type.STRING).build();
+        try (JsonParser parser = Json.createParser(new StringReader(json.toString()))) {
+            JsonColumns columns = columns(parser, spec);
+            Assertions.assertEquals(1000, columns.size());
+            Assertions.assertEquals(1000, columns.getInts("i").length);
+            Assertions.assertEquals(999, columns.getInts("i")[999]);
+            Assertions.assertEquals("500", columns.getStrings("s")[500]);
+            Assertions.assertTrue(columns.getMissing("i").isEmpty());
+        }
+    }
+
+    @Test
+    void testEmptyArray() {
+        try (JsonParser parser = Json.createParser(new StringReader("[]"))) {
+            JsonColumns columns = columns(parser, SPEC);
+            Assertions.assertEquals(0, columns.size());
+            Assertions.assertEquals(0, columns.getLongs("ts").length);
+        }
+    }
+
+    @Test
+    void testTypeMismatch() {
+        try (JsonParser parser = Json.createParser(new StringReader("[{\"ts\": \"1\"}]"))) {
+            parser.next();
+            Assertions.assertThrows(JsonParsingException.class, () -> ((ParssonParser) parser).getColumns(SPEC));
+        }
+        try (JsonParser parser = Json.createParser(new StringReader("[{\"ts\": 1"))) {
+            parser.next();
+            Assertions.assertThrows(JsonParsingException.class, () -> ((ParssonParser) parser).getColumns(SPEC));
+        }
+    }
+
+    @Test
+    void testExactNumbers() {
+        JsonColumnSpec spec = JsonColumnSpec.builder().add("i", Type.INT).add("l", Type.LONG).build();
+        try (JsonParser parser = Json.createParser(new StringReader(
+                "[{\"i\": -2147483648, \"l\": 9223372036854775807}, {\"i\": 1.0, \"l\": 2e3}]"))) {
+            JsonColumns columns = columns(parser, spec);
+            Assertions.assertArrayEquals(new int[] {Integer.MIN_VALUE, 1}, columns.getInts("i"));
+            Assertions.assertArrayEquals(new long[] {Long.MAX_VALUE, 2000}, columns.getLongs("l"));
+        }
+        for (String json : new String[] {"[{\"i\": 3000000000}]", "[{\"i\": 1.5}]",
+                "[{\"l\": 9223372036854775808}]", "[{\"l\": -0.5}]"}) {
+            try (JsonParser parser = Json.createParser(new StringReader(json))) {
+                parser.next();
+                Assertions.assertThrows(JsonParsingException.class,
+                        () -> ((ParssonParser) parser).getColumns(spec), json);
+            }
+        }
+    }
+
+    @Test
+    void testInvalidUse() {
+        try (JsonParser parser = Json.createParser(new StringReader("{}"))) {
+            parser.next();
+            Assertions.assertThrows(IllegalStateException.class, () -> ((ParssonParser) parser).getColumns(SPEC));
+        }
+        try (JsonParser parser = Json.createParser(new StringReader("[]"))) {
+            JsonColumns columns = columns(parser, SPEC);
+            Assertions.assertThrows(IllegalArgumentException.class, () -> columns.getInts("ts"));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> columns.getNulls("x"));
+        }
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> JsonColumnSpec.builder().add("a", Type.INT).add("a", Type.LONG));
+    }
+}
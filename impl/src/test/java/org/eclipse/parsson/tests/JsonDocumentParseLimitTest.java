@@ -16,7 +16,9 @@
 
 package org.eclipse.parsson.tests;
 
+import java.io.Reader;
 import java.io.StringReader;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -359,4 +361,36 @@ public class JsonDocumentParseLimitTest {
             }
         });
     }
+
+    @Test
+    void testDocumentParseLimitWithUnterminatedStream() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(JsonConfig.MAX_PARSING_LIMIT, 100_000);
+
+        // Endless string value, the limit has to be enforced while the token is still being read
+        Reader endless = new Reader() {
+            private boolean first = true;
+
+            @Override
+            public int read(char[] cbuf, int off, int len) {
+                Arrays.fill(cbuf, off, off + len, 'a');
+                if (first) {
+                    cbuf[off] = '"';
+                    first = false;
+                }
+                return len;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        JsonParserFactory factory = Json.createParserFactory(config);
+        Assertions.assertThrows(JsonException.class, () -> {
+            try (JsonParser parser = factory.createParser(endless)) {
+                parser.next();
+            }
+        });
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -561,4 +561,47 @@ public class JsonGeneratorTest {
         Assertions.assertEquals("{\"key\":\"value\",\"key2\":\"value2\"}", sw1.toString());
         Assertions.assertEquals("[\"item\",\"item2\"]", sw2.toString());
     }
+
+    @Test
+    void testDeepNesting() {
+        StringWriter sw = new StringWriter();
+        JsonGenerator generator = Json.createGenerator(sw);
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            generator.writeStartObject();
+            generator.writeKey("a");
+            generator.writeStartArray();
+            generator.write(i);
+            expected.append("{\"a\":[").append(i).append(',');
+        }
+        generator.write("end");
+        expected.append("\"end\"");
+        for (int i = 0; i < 100; i++) {
+            generator.writeEnd();
+            generator.write("b", i);
+            generator.writeEnd();
+            expected.append("],\"b\":").append(i).append('}');
+        }
+        generator.close();
+        Assertions.assertEquals(expected.toString(), sw.toString());
+    }
+
+    @Test
+    void testWriteKeyMixedWithNamedValues() {
+        StringWriter sw = new StringWriter();
+        try (JsonGenerator generator = Json.createGenerator(sw)) {
+            generator.writeStartObject();
+            for (int i = 0; i < 50; i++) {
+                generator.writeKey("k" + i).write(i);
+                generator.write("n" + i, true);
+            }
+            generator.writeEnd();
+        }
+        JsonObject object = Json.createReader(new StringReader(sw.toString())).readObject();
+        Assertions.assertEquals(100, object.size());
+        Assertions.assertEquals(49, object.getInt("k49"));
+        Assertions.assertTrue(object.getBoolean("n49"));
+        Assertions.assertThrows(JsonGenerationException.class, () -> Json.createGenerator(new StringWriter())
+                .writeStartObject().writeKey("a").writeKey("b"));
+    }
 }
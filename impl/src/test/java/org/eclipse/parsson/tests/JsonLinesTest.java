@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.tests;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParsingException;
+
+import org.eclipse.parsson.api.BufferPool;
+import org.eclipse.parsson.api.JsonConfig;
+import org.eclipse.parsson.api.JsonLinesReader;
+import org.eclipse.parsson.api.JsonLinesWriter;
+import org.eclipse.parsson.api.ParssonReaderFactory;
+import org.eclipse.parsson.api.ParssonWriterFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests JSON Lines reading and writing.
+ */
+public class JsonLinesTest {
+
+    private static ParssonReaderFactory readerFactory(int maxParsingLimit) {
+        Map<String, Object> config = new HashMap<>();
+        config.put(JsonConfig.MAX_PARSING_LIMIT, maxParsingLimit);
+        return (ParssonReaderFactory) Json.createReaderFactory(config);
+    }
+
+    @Test
+    void testRoundTrip() {
+        StringWriter out = new StringWriter();
+        ParssonWriterFactory writerFactory = (ParssonWriterFactory) Json.createWriterFactory(null);
+        try (JsonLinesWriter writer = writerFactory.createJsonLinesWriter(out)) {
+            writer.write(Json.createObjectBuilder().add("a", 1).build());
+            writer.write(Json.createArrayBuilder().add("x").add(true).build());
+            writer.write(JsonValue.NULL);
+        }
+        Assertions.assertEquals("{\"a\":1}\n[\"x\",true]\nnull\n", out.toString());
+
+        ParssonReaderFactory factory = (ParssonReaderFactory) Json.createReaderFactory(null);
+        try (JsonLinesReader reader = factory.createJsonLinesReader(new StringReader(out.toString()))) {
+            Assertions.assertEquals(1, reader.readValue().asJsonObject().getInt("a"));
+            Assertions.assertEquals("x", reader.readValue().asJsonArray().getString(0));
+            Assertions.assertEquals(JsonValue.NULL, reader.readValue());
+            Assertions.assertNull(reader.readValue());
+        }
+    }
+
+    @Test
+    void testWriteAfterClose() {
+        StringWriter out = new StringWriter();
+        ParssonWriterFactory writerFactory = (ParssonWriterFactory) Json.createWriterFactory(null);
+        JsonLinesWriter writer = writerFactory.createJsonLinesWriter(out);
+        writer.write(JsonValue.TRUE);
+        writer.close();
+        Assertions.assertThrows(IllegalStateException.class, () -> writer.write(JsonValue.FALSE));
+        Assertions.assertThrows(IllegalStateException.class, writer::flush);
+        writer.close();
+        Assertions.assertEquals("true\n", out.toString());
+    }
+
+    @Test
+    void testBlankLinesAndCrLf() {
+        ParssonReaderFactory factory = (ParssonReaderFactory) Json.createReaderFactory(null);
+        byte[] input = "\r\n{\"a\":1}\r\n  \n\t[2]".getBytes(StandardCharsets.UTF_8);
+        try (JsonLinesReader reader = factory.createJsonLinesReader(new ByteArrayInputStream(input))) {
+            Assertions.assertEquals(1, reader.readValue().asJsonObject().getInt("a"));
+            Assertions.assertEquals(2, reader.readValue().asJsonArray().getInt(0));
+            Assertions.assertNull(reader.readValue());
+        }
+    }
+
+    @Test
+    void testInvalidRecordContinues() {
+        ParssonReaderFactory factory = (ParssonReaderFactory) Json.createReaderFactory(null);
+        String input = "{\"a\":1}\n{\"a\":\n{\"a\":3} 4\n{\"a\":5}\n";
+        try (JsonLinesReader reader = factory.createJsonLinesReader(new StringReader(input))) {
+            Assertions.assertEquals(1, reader.readValue().asJsonObject().getInt("a"));
+            JsonParsingException e = Assertions.assertThrows(JsonParsingException.class, reader::readValue);
+            Assertions.assertEquals(2, e.getLocation().getLineNumber());
+            e = Assertions.assertThrows(JsonParsingException.class, reader::readValue);
+            Assertions.assertEquals(3, e.getLocation().getLineNumber());
+            Assertions.assertEquals(5, reader.readValue().asJsonObject().getInt("a"));
+            Assertions.assertNull(reader.readValue());
+        }
+    }
+
+    @Test
+    void testLimitPerRecord() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            sb.append("{\"id\":").append(i).append(",\"name\":\"record\"}\n");
+        }
+        int count = 0;
+        try (JsonLinesReader reader = readerFactory(100).createJsonLinesReader(new StringReader(sb.toString()))) {
+            for (JsonValue value = reader.readValue(); value != null; value = reader.readValue()) {
+                Assertions.assertEquals(count++, value.asJsonObject().getInt("id"));
+            }
+        }
+        Assertions.assertEquals(1000, count);
+    }
+
+    @Test
+    void testLongRecordSkipped() {
+        StringBuilder sb = new StringBuilder("[1]\n[\"");
+        for (int i = 0; i < 10000; i++) {
+            sb.append('x');
+        }
+        sb.append("\"]\n[3]\n");
+        try (JsonLinesReader reader = readerFactory(100).createJsonLinesReader(new StringReader(sb.toString()))) {
+            Assertions.assertEquals(1, reader.readValue().asJsonArray().getInt(0));
+            JsonParsingException e = Assertions.assertThrows(JsonParsingException.class, reader::readValue);
+            Assertions.assertEquals(2, e.getLocation().getLineNumber());
+            Assertions.assertEquals(3, reader.readValue().asJsonArray().getInt(0));
+            Assertions.assertNull(reader.readValue());
+        }
+    }
+
+    @Test
+    void testShortLongRecord() {
+        // longer than the limit, but short enough to fit in the buffer
+        StringBuilder sb = new StringBuilder("[1]\n[\"");
+        for (int i = 0; i < 150; i++) {
+            sb.append('x');
+        }
+        sb.append("\"]\n[3]\n");
+        try (JsonLinesReader reader = readerFactory(100).createJsonLinesReader(new StringReader(sb.toString()))) {
+            Assertions.assertEquals(1, reader.readValue().asJsonArray().getInt(0));
+            JsonParsingException e = Assertions.assertThrows(JsonParsingException.class, reader::readValue);
+            Assertions.assertEquals(2, e.getLocation().getLineNumber());
+            Assertions.assertEquals(4, e.getLocation().getStreamOffset());
+            Assertions.assertEquals("Invalid JSON Lines record at line 2: "
+                    + "Document parsing count exceeded maximum allowed value of 100", e.getMessage());
+            Assertions.assertEquals(3, reader.readValue().asJsonArray().getInt(0));
+            Assertions.assertNull(reader.readValue());
+        }
+    }
+
+    @Test
+    void testValueStreamOfConcatenatedValues() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(JsonConfig.MAX_PARSING_LIMIT, 20);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            sb.append("{\"id\":").append(i).append("}\n");
+        }
+        try (JsonParser parser = Json.createParserFactory(config).createParser(new StringReader(sb.toString()))) {
+            List<Integer> ids = parser.getValueStream()
+                    .map(v -> ((JsonObject) v).getInt("id"))
+                    .collect(Collectors.toList());
+            Assertions.assertEquals(100, ids.size());
+            Assertions.assertEquals(99, ids.get(99).intValue());
+        }
+    }
+
+    @Test
+    void testParallelFile() throws IOException {
+        int records = 100000;
+        Path file = Files.createTempFile("parsson", ".jsonl");
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write('\uFEFF');
+            for (int i = 0; i < records; i++) {
+                out.write("{\"id\":" + i + ",\"name\":\"r\u00e9cord \u4e2d\"}\n");
+            }
+        }
+        ParssonReaderFactory factory = (ParssonReaderFactory) Json.createReaderFactory(null);
+        try {
+            try (Stream<JsonValue> stream = factory.createJsonLinesStream(file, true)) {
+                Assertions.assertTrue(stream.isParallel());
+                List<Integer> ids = stream
+                        .map(v -> v.asJsonObject().getInt("id"))
+                        .collect(Collectors.toList());
+                Assertions.assertEquals(records, ids.size());
+                for (int i = 0; i < records; i++) {
+                    Assertions.assertEquals(i, ids.get(i).intValue());
+                }
+            }
+            try (Stream<JsonValue> stream = factory.createJsonLinesStream(file, false)) {
+                long sum = stream
+                        .filter(v -> "r\u00e9cord \u4e2d".equals(v.asJsonObject().getString("name")))
+                        .mapToLong(v -> v.asJsonObject().getInt("id"))
+                        .sum();
+                Assertions.assertEquals((long) records * (records - 1) / 2, sum);
+            }
+            try (Stream<JsonValue> stream = factory.createJsonLinesStream(file, true)) {
+                Spliterator<JsonValue> spliterator = stream.spliterator();
+                long size = spliterator.estimateSize();
+                Spliterator<JsonValue> prefix = spliterator.trySplit();
+                Assertions.assertNotNull(prefix);
+                Assertions.assertEquals(size, prefix.estimateSize() + spliterator.estimateSize());
+                long[] count = new long[1];
+                prefix.forEachRemaining(v -> count[0]++);
+                spliterator.forEachRemaining(v -> count[0]++);
+                Assertions.assertEquals(records, count[0]);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testParallelFileInvalidRecords() throws IOException {
+        int records = 100000;
+        Path file = Files.createTempFile("parsson", ".jsonl");
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < records; i++) {
+                out.write(i % 1000 == 999 ? "{\"id\":" + i + ",}\n" : "{\"id\":" + i + "}\n");
+            }
+        }
+        ParssonReaderFactory factory = (ParssonReaderFactory) Json.createReaderFactory(null);
+        try {
+            Queue<JsonParsingException> errors = new ConcurrentLinkedQueue<>();
+            try (Stream<JsonValue> stream = factory.createJsonLinesStream(file, true, errors::add)) {
+                Assertions.assertEquals(records - 100, stream.count());
+            }
+            Assertions.assertEquals(100, errors.size());
+            try (Stream<JsonValue> stream = factory.createJsonLinesStream(file, false)) {
+                Assertions.assertThrows(JsonParsingException.class, stream::count);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testParallelFileInvalidRecordReleasesBuffer() throws IOException {
+        CountingBufferPool bufferPool = new CountingBufferPool();
+        ParssonReaderFactory factory = (ParssonReaderFactory) Json.createReaderFactory(
+                Collections.singletonMap(BufferPool.class.getName(), bufferPool));
+        Path file = Files.createTempFile("parsson", ".jsonl");
+        try {
+            Files.write(file, "[1]\n[2,]\n[3]\n".getBytes(StandardCharsets.UTF_8));
+            try (Stream<JsonValue> stream = factory.createJsonLinesStream(file, true)) {
+                Spliterator<JsonValue> spliterator = stream.spliterator();
+                Assertions.assertTrue(spliterator.tryAdvance(v -> { }));
+                Assertions.assertThrows(JsonParsingException.class, () -> spliterator.tryAdvance(v -> { }));
+                Assertions.assertFalse(spliterator.tryAdvance(v -> { }));
+            }
+            Assertions.assertEquals(1, bufferPool.taken.get());
+            Assertions.assertEquals(1, bufferPool.recycled.get());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static final class CountingBufferPool implements BufferPool {
+
+        private final AtomicInteger taken = new AtomicInteger();
+        private final AtomicInteger recycled = new AtomicInteger();
+
+        @Override
+        public char[] take() {
+            taken.incrementAndGet();
+            return new char[4096];
+        }
+
+        @Override
+        public void recycle(char[] buf) {
+            recycled.incrementAndGet();
+        }
+    }
+
+}
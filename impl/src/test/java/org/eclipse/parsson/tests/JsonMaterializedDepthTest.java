@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.tests;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonReaderFactory;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParsingException;
+
+import org.eclipse.parsson.api.JsonConfig;
+import org.eclipse.parsson.api.ParssonReaderFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests readers that build only the first nesting levels eagerly.
+ */
+public class JsonMaterializedDepthTest {
+
+    private static final String JSON = "{\"a\": 1, \"b\": {\"c\": [1, {\"d\": \"x\"}], \"e\": {}},"
+            + " \"f\": [[1, 2], {\"g\": null}, \"h\"]}";
+
+    private static JsonReaderFactory factory(int depth) {
+        Map<String, ?> config = Collections.singletonMap(JsonConfig.MAX_MATERIALIZED_DEPTH, depth);
+        return Json.createReaderFactory(config);
+    }
+
+    private static JsonObject read(JsonReaderFactory factory, String json) {
+        try (JsonReader reader = factory.createReader(new StringReader(json))) {
+            return reader.readObject();
+        }
+    }
+
+    @Test
+    void testSameValue() {
+        JsonObject expected = Json.createReader(new StringReader(JSON)).readObject();
+        for (int depth = 1; depth <= 4; depth++) {
+            JsonObject object = read(factory(depth), JSON);
+            Assertions.assertEquals(expected, object);
+            Assertions.assertEquals(object, expected);
+            Assertions.assertEquals(expected.hashCode(), object.hashCode());
+            Assertions.assertEquals(expected.toString(), object.toString());
+        }
+    }
+
+    @Test
+    void testDepthLimit() {
+        // unparsed structures are held to the depth limit when parsed
+        Map<String, Object> config = new HashMap<>();
+        config.put(JsonConfig.MAX_MATERIALIZED_DEPTH, 1);
+        config.put(JsonConfig.MAX_DEPTH, 3);
+        JsonReaderFactory factory = Json.createReaderFactory(config);
+        Assertions.assertEquals(1, read(factory, "{\"a\": [1]}").getJsonArray("a").getInt(0));
+        JsonObject object = read(factory, "{\"a\": [[1]]}");
+        RuntimeException e = Assertions.assertThrows(RuntimeException.class, () -> object.getJsonArray("a").size());
+        Assertions.assertEquals("Input is too deeply nested 3", e.getMessage());
+        Assertions.assertThrows(RuntimeException.class,
+                () -> read(Json.createReaderFactory(Collections.singletonMap(JsonConfig.MAX_DEPTH, 3)), "{\"a\": [[1]]}"));
+    }
+
+    @Test
+    void testLazyAccess() {
+        JsonObject object = read(factory(1), JSON);
+        JsonObject b = object.getJsonObject("b");
+        Assertions.assertEquals(JsonValue.ValueType.OBJECT, b.getValueType());
+        Assertions.assertEquals("x", b.getJsonArray("c").getJsonObject(1).getString("d"));
+        JsonArray f = object.getJsonArray("f");
+        Assertions.assertEquals(JsonValue.ValueType.ARRAY, f.getValueType());
+        Assertions.assertEquals(3, f.size());
+        Assertions.assertEquals(2, f.getJsonArray(0).getInt(1));
+        Assertions.assertTrue(f.getJsonObject(1).isNull("g"));
+        Assertions.assertEquals("h", f.getString(2));
+        Assertions.assertSame(b, b.asJsonObject());
+    }
+
+    @Test
+    void testInMemoryInput() {
+        ParssonReaderFactory factory = (ParssonReaderFactory) factory(2);
+        try (JsonReader reader = factory.createReader(JSON)) {
+            JsonObject object = reader.readObject();
+            Assertions.assertEquals(Json.createReader(new StringReader(JSON)).readObject(), object);
+        }
+    }
+
+    @Test
+    void testWrite() {
+        JsonObject object = read(factory(1), JSON);
+        StringWriter out = new StringWriter();
+        Json.createWriter(out).write(object);
+        Assertions.assertEquals(Json.createReader(new StringReader(JSON)).readObject().toString(), out.toString());
+    }
+
+    @Test
+    void testDeferredError() {
+        JsonObject object = read(factory(1), "{\"a\": {\"b\": 1 2}}");
+        Assertions.assertThrows(JsonParsingException.class, () -> object.getJsonObject("a").get("b"));
+        Assertions.assertThrows(JsonParsingException.class, () -> read(factory(1), "{\"a\": {\"b\": 1 ]}"));
+    }
+
+    @Test
+    void testConfigInUse() {
+        Assertions.assertEquals(2, factory(2).getConfigInUse().get(JsonConfig.MAX_MATERIALIZED_DEPTH));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.tests;
+
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import jakarta.json.Json;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParsingException;
+
+import org.eclipse.parsson.api.JsonConfig;
+import org.eclipse.parsson.api.ParssonParser;
+import org.eclipse.parsson.api.ParssonParserFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests primitive streams over arrays of numbers.
+ */
+public class JsonNumberArrayStreamTest {
+
+    private static final ParssonParserFactory FACTORY = (ParssonParserFactory) Json.createParserFactory(null);
+
+    private static String numbers(int count) {
+        return IntStream.range(0, count).mapToObj(Integer::toString).collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private static ParssonParser atArray(JsonParser parser) {
+        Assertions.assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+        return (ParssonParser) parser;
+    }
+
+    @Test
+    void testParallelDepthLimit() {
+        // elements are parsed on their own, nested as deep as the array
+        ParssonParserFactory factory = (ParssonParserFactory) Json.createParserFactory(
+                Collections.singletonMap(JsonConfig.MAX_DEPTH, 2));
+        for (String json : new String[] {"[1, [2]]", "[[1], 2]"}) {
+            try (JsonParser parser = factory.createParser(json)) {
+                RuntimeException e = Assertions.assertThrows(RuntimeException.class,
+                        () -> atArray(parser).getIntArrayStream().parallel().toArray());
+                Assertions.assertTrue(e.getMessage().endsWith("Input is too deeply nested 2"), e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    void testSequential() {
+        String json = "{\"a\": [1, -2, 30000000000, 1.5e1, 0.25], \"b\": true}";
+        try (JsonParser parser = Json.createParser(new StringReader(json))) {
+            parser.next();
+            parser.next();
+            Assertions.assertArrayEquals(new long[] {1, -2, 30000000000L, 15, 0},
+                    atArray(parser).getLongArrayStream().toArray());
+            Assertions.assertEquals(JsonParser.Event.END_ARRAY, parser.currentEvent());
+            Assertions.assertEquals(JsonParser.Event.KEY_NAME, parser.next());
+        }
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            parser.next();
+            parser.next();
+            Assertions.assertArrayEquals(new double[] {1, -2, 3e10, 15, 0.25},
+                    atArray(parser).getDoubleArrayStream().toArray());
+        }
+        try (JsonParser parser = Json.createParser(new StringReader("[1, -2, 3]"))) {
+            Assertions.assertEquals(2, atArray(parser).getIntArrayStream().sum());
+        }
+    }
+
+    @Test
+    void testParallel() {
+        String json = numbers(100_000);
+        long expected = 99_999L * 100_000 / 2;
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            Assertions.assertEquals(expected, atArray(parser).getLongArrayStream().parallel().sum());
+            Assertions.assertEquals(JsonParser.Event.END_ARRAY, parser.currentEvent());
+            Assertions.assertFalse(parser.hasNext());
+        }
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            Assertions.assertEquals((double) expected, atArray(parser).getDoubleArrayStream().parallel().sum());
+        }
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            int[] values = atArray(parser).getIntArrayStream().parallel().toArray();
+            Assertions.assertEquals(100_000, values.length);
+            Assertions.assertEquals(12345, values[12345]);
+        }
+        try (JsonParser parser = FACTORY.createParser("[]")) {
+            Assertions.assertEquals(0, atArray(parser).getLongArrayStream().parallel().count());
+        }
+    }
+
+    @Test
+    void testNotNumber() {
+        try (JsonParser parser = Json.createParser(new StringReader("[1, \"2\"]"))) {
+            Assertions.assertThrows(JsonParsingException.class, () -> atArray(parser).getLongArrayStream().sum());
+        }
+        try (JsonParser parser = FACTORY.createParser("[1, [2], 3, 4]")) {
+            Assertions.assertThrows(JsonParsingException.class,
+                    () -> atArray(parser).getDoubleArrayStream().parallel().sum());
+        }
+        try (JsonParser parser = FACTORY.createParser("[1, 2 3, 4]")) {
+            Assertions.assertThrows(JsonParsingException.class,
+                    () -> atArray(parser).getIntArrayStream().parallel().sum());
+        }
+        try (JsonParser parser = Json.createParser(new StringReader("{}"))) {
+            parser.next();
+            Assertions.assertThrows(IllegalStateException.class, () -> ((ParssonParser) parser).getIntArrayStream());
+        }
+    }
+}
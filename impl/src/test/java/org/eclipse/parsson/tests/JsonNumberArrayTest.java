@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.tests;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.Collections;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerator;
+
+import org.eclipse.parsson.api.JsonNumberArray;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests arrays of numbers backed by primitive arrays.
+ */
+public class JsonNumberArrayTest {
+
+    private static JsonArray read(String json) {
+        return Json.createReader(new StringReader(json)).readArray();
+    }
+
+    private static void checkSame(String json) {
+        JsonArray array = read(json);
+        JsonArray expected = Json.createArrayBuilder(array).addNull().build();
+        Assertions.assertFalse(expected instanceof JsonNumberArray);
+        for (int i = 0; i < array.size(); i++) {
+            Assertions.assertEquals(expected.get(i), array.get(i));
+            Assertions.assertEquals(expected.get(i).toString(), array.get(i).toString());
+            Assertions.assertEquals(expected.getInt(i), array.getInt(i));
+            Assertions.assertEquals(expected.getJsonNumber(i).longValue(), ((JsonNumberArray) array).getLong(i));
+            Assertions.assertEquals(expected.getJsonNumber(i).doubleValue(), ((JsonNumberArray) array).getDouble(i));
+        }
+        Assertions.assertEquals(expected.subList(0, array.size()), array);
+        Assertions.assertEquals(array, expected.subList(0, array.size()));
+        Assertions.assertEquals(expected.subList(0, array.size()).hashCode(), array.hashCode());
+    }
+
+    @Test
+    void testInts() {
+        JsonArray array = read("[1, -2, 2147483647, 0]");
+        Assertions.assertTrue(array instanceof JsonNumberArray);
+        Assertions.assertTrue(((JsonNumberArray) array).isIntegral());
+        Assertions.assertArrayEquals(new int[] {1, -2, Integer.MAX_VALUE, 0}, ((JsonNumberArray) array).toIntArray());
+        Assertions.assertEquals("[1,-2,2147483647,0]", array.toString());
+        checkSame("[1, -2, 2147483647, 0]");
+    }
+
+    @Test
+    void testLongs() {
+        JsonArray array = read("[1, 30000000000, -922337203685477580]");
+        Assertions.assertTrue(array instanceof JsonNumberArray);
+        Assertions.assertArrayEquals(new long[] {1, 30000000000L, -922337203685477580L},
+                ((JsonNumberArray) array).toLongArray());
+        checkSame("[1, 30000000000, -922337203685477580]");
+    }
+
+    @Test
+    void testDoubles() {
+        JsonArray array = read("[0.25, -1.5, 1.0, 3.14159, 1.0E-5]");
+        Assertions.assertFalse(array instanceof JsonNumberArray);
+        array = read("[0.25, -1.5, 1.0, 3.14159, 9999999.5]");
+        Assertions.assertTrue(array instanceof JsonNumberArray);
+        Assertions.assertFalse(((JsonNumberArray) array).isIntegral());
+        Assertions.assertArrayEquals(new double[] {0.25, -1.5, 1.0, 3.14159, 9999999.5},
+                ((JsonNumberArray) array).toDoubleArray());
+        Assertions.assertEquals("[0.25,-1.5,1.0,3.14159,9999999.5]", array.toString());
+        checkSame("[0.25, -1.5, 1.0, 3.14159, 9999999.5]");
+    }
+
+    @Test
+    void testNotPrimitive() {
+        String[] arrays = {"[]", "[1.50]", "[1, 0.5]", "[0.5, 1]", "[1e3]", "[1, \"a\"]",
+            "[9223372036854775808]", "[[1]]", "[1, null]"};
+        for (String json : arrays) {
+            JsonArray array = read(json);
+            Assertions.assertFalse(array instanceof JsonNumberArray, json);
+            Assertions.assertEquals(json.replace(" ", ""), array.toString().replace("1E+3", "1e3"), json);
+        }
+        // BigDecimal has no negative zero
+        Assertions.assertEquals("[0.0]", read("[-0.0]").toString());
+    }
+
+    @Test
+    void testBuilder() {
+        JsonArray ints = Json.createArrayBuilder().add(1).add(2L).add(3).build();
+        Assertions.assertTrue(ints instanceof JsonNumberArray);
+        Assertions.assertEquals(read("[1, 2, 3]"), ints);
+        JsonArray doubles = Json.createArrayBuilder().add(0.5).add(new BigDecimal("2.25")).build();
+        Assertions.assertTrue(doubles instanceof JsonNumberArray);
+        Assertions.assertEquals(read("[0.5, 2.25]"), doubles);
+        Assertions.assertFalse(Json.createArrayBuilder().add(0.5).add(1).build() instanceof JsonNumberArray);
+    }
+
+    @Test
+    void testAccessors() {
+        JsonArray array = read("[1, 2]");
+        Assertions.assertEquals(Collections.nCopies(2, JsonValue.ValueType.NUMBER),
+                array.getValuesAs(JsonNumber.class).stream().map(JsonValue::getValueType)
+                        .collect(java.util.stream.Collectors.toList()));
+        Assertions.assertFalse(array.isNull(0));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> array.isNull(2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> array.get(2));
+        Assertions.assertThrows(ClassCastException.class, () -> array.getString(0));
+        Assertions.assertThrows(ClassCastException.class, () -> array.getBoolean(0));
+        Assertions.assertEquals("x", array.getString(0, "x"));
+        Assertions.assertEquals(7, array.getInt(5, 7));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> array.add(JsonValue.NULL));
+    }
+
+    @Test
+    void testWrite() {
+        JsonArray array = read("[[1, 2], [0.5, 1.5], [30000000000]]");
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = Json.createGeneratorFactory(
+                Collections.singletonMap(JsonGenerator.PRETTY_PRINTING, true)).createGenerator(out)) {
+            generator.write(array);
+        }
+        StringWriter expected = new StringWriter();
+        try (JsonGenerator generator = Json.createGeneratorFactory(
+                Collections.singletonMap(JsonGenerator.PRETTY_PRINTING, true)).createGenerator(expected)) {
+            generator.writeStartArray();
+            for (JsonValue element : array) {
+                generator.writeStartArray();
+                for (JsonValue number : element.asJsonArray()) {
+                    generator.write(number.toString().contains(".")
+                            ? Json.createValue(new BigDecimal(number.toString())) : number);
+                }
+                generator.writeEnd();
+            }
+            generator.writeEnd();
+        }
+        Assertions.assertEquals(expected.toString(), out.toString());
+        Assertions.assertEquals(array, read(out.toString()));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,10 +16,17 @@
 
 package org.eclipse.parsson.tests;
 
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.Map;
+
 import jakarta.json.Json;
+import jakarta.json.stream.JsonLocation;
 import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParsingException;
 
 import org.eclipse.parsson.JsonParserFixture;
+import org.eclipse.parsson.api.BufferPool;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -186,4 +193,98 @@ public class JsonParserSkipTest {
         parser.skipObject();
 		Assertions.assertFalse(parser.hasNext());
     }
+
+    @Test
+    void testSkipStringsWithBrackets() {
+        String json = "{\"skip\":{\"a\":\"}]\\\"{[\",\"b\":[\"\\\\\",{\"c\":\"\\u005D\"}],\"d\":[1,{}]},\"next\":true}";
+        for (int size = 4; size < json.length() + 2; size++) {
+            Map<String, Object> config = Collections.singletonMap(
+                    BufferPool.class.getName(), new JsonParserTest.MyBufferPool(size));
+            try (JsonParser parser = Json.createParserFactory(config).createParser(new StringReader(json))) {
+                Assertions.assertEquals(JsonParser.Event.START_OBJECT, parser.next());
+                Assertions.assertEquals(JsonParser.Event.KEY_NAME, parser.next());
+                Assertions.assertEquals(JsonParser.Event.START_OBJECT, parser.next());
+                parser.skipObject();
+                Assertions.assertEquals(JsonParser.Event.END_OBJECT, parser.currentEvent());
+                Assertions.assertEquals(JsonParser.Event.KEY_NAME, parser.next(), "buffer size=" + size);
+                Assertions.assertEquals("next", parser.getString());
+                Assertions.assertEquals(JsonParser.Event.VALUE_TRUE, parser.next());
+                Assertions.assertEquals(JsonParser.Event.END_OBJECT, parser.next());
+                Assertions.assertFalse(parser.hasNext());
+            }
+        }
+    }
+
+    @Test
+    void testSkipLocation() {
+        String json = "[\n[1,\r\n\"x\",\r[]\n],\n  2]";
+        try (JsonParser parser = Json.createParser(new StringReader(json))) {
+            Assertions.assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+            Assertions.assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+            parser.skipArray();
+            Assertions.assertEquals(JsonParser.Event.VALUE_NUMBER, parser.next());
+            JsonLocation location = parser.getLocation();
+            Assertions.assertEquals(6, location.getLineNumber());
+            Assertions.assertEquals(4, location.getColumnNumber());
+            Assertions.assertEquals(json.length() - 1, location.getStreamOffset());
+        }
+    }
+
+    @Test
+    void testSkipMismatched() {
+        try (JsonParser parser = Json.createParser(new StringReader("[{\"a\":1}}"))) {
+            Assertions.assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+            Assertions.assertThrows(JsonParsingException.class, parser::skipArray);
+        }
+        try (JsonParser parser = Json.createParser(new StringReader("{\"a\":[1,2"))) {
+            Assertions.assertEquals(JsonParser.Event.START_OBJECT, parser.next());
+            Assertions.assertThrows(JsonParsingException.class, parser::skipObject);
+        }
+    }
+
+    @Test
+    void testSkipMismatchedNested() {
+        // nested structures must be closed by their own bracket
+        try (JsonParser parser = Json.createParser(new StringReader("[{]]"))) {
+            Assertions.assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+            JsonParsingException e = Assertions.assertThrows(JsonParsingException.class, parser::skipArray);
+            Assertions.assertEquals(3, e.getLocation().getColumnNumber());
+        }
+        try (JsonParser parser = Json.createParser(new StringReader("{[}}"))) {
+            Assertions.assertEquals(JsonParser.Event.START_OBJECT, parser.next());
+            JsonParsingException e = Assertions.assertThrows(JsonParsingException.class, parser::skipObject);
+            Assertions.assertEquals(3, e.getLocation().getColumnNumber());
+        }
+        try (JsonParser parser = Json.createParser(new StringReader("[1, [{\"a\": [[], {}]}, \"]}\"], {\"b\": [}]]"))) {
+            Assertions.assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+            Assertions.assertThrows(JsonParsingException.class, parser::skipArray);
+        }
+        try (JsonParser parser = Json.createParser(new StringReader("[1, [{\"a\": [[], {}]}, \"]}\"], 2]"))) {
+            Assertions.assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+            parser.skipArray();
+            Assertions.assertEquals(JsonParser.Event.END_ARRAY, parser.currentEvent());
+            Assertions.assertFalse(parser.hasNext());
+        }
+        // deeper than the first word of the bracket stack
+        StringBuilder deep = new StringBuilder("[");
+        for (int i = 0; i < 100; i++) {
+            deep.append(i % 2 == 0 ? "{\"a\":" : "[");
+        }
+        deep.append('1');
+        for (int i = 99; i >= 0; i--) {
+            deep.append(i % 2 == 0 ? "}" : "]");
+        }
+        String valid = deep.append(']').toString();
+        try (JsonParser parser = Json.createParser(new StringReader(valid))) {
+            parser.next();
+            parser.skipArray();
+            Assertions.assertFalse(parser.hasNext());
+        }
+        int close = valid.indexOf('1') + 1;
+        String invalid = valid.substring(0, close) + "}" + valid.substring(close + 1);
+        try (JsonParser parser = Json.createParser(new StringReader(invalid))) {
+            parser.next();
+            Assertions.assertThrows(JsonParsingException.class, parser::skipArray);
+        }
+    }
 }
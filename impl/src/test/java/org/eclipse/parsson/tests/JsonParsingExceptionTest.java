@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,12 +17,16 @@
 package org.eclipse.parsson.tests;
 
 import java.io.StringReader;
+import java.util.Collections;
 
 import jakarta.json.Json;
 import jakarta.json.stream.JsonLocation;
 import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParserFactory;
 import jakarta.json.stream.JsonParsingException;
 
+import org.eclipse.parsson.api.JsonConfig;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -124,8 +128,23 @@ public class JsonParsingExceptionTest {
         testMalformedJson("[null\r\n, null\r\n}", new MyLocation(3, 1, 15));
     }
 
+    @Test
+    void testLocationWithoutTracking() {
+        JsonParserFactory factory = Json.createParserFactory(
+                Collections.singletonMap(JsonConfig.DISABLE_LOCATION_TRACKING, true));
+        testMalformedJson(factory, "x", new MyLocation(-1, -1, 0));
+        testMalformedJson(factory, "[null\n}", new MyLocation(-1, -1, 6));
+        testMalformedJson(factory, "[null\r\n}", new MyLocation(-1, -1, 7));
+        testMalformedJson(factory, "[null\r\n, null\r\n}", new MyLocation(-1, -1, 15));
+        testMalformedJson(factory, "[1234L]", new MyLocation(-1, -1, 5));
+    }
+
     private void testMalformedJson(String json, JsonLocation expected) {
-        try (JsonParser parser = Json.createParser(new StringReader(json))) {
+        testMalformedJson(Json.createParserFactory(null), json, expected);
+    }
+
+    private void testMalformedJson(JsonParserFactory factory, String json, JsonLocation expected) {
+        try (JsonParser parser = factory.createParser(new StringReader(json))) {
             while (parser.hasNext()) {
                 parser.next();
             }
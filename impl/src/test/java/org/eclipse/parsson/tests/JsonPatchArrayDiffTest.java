@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.tests;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonPatch;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests JSON Patch diffs of large arrays.
+ */
+public class JsonPatchArrayDiffTest {
+
+    @Test
+    void testLargeArraysWithFewEdits() {
+        int size = 50_000;
+        JsonArrayBuilder sourceBuilder = Json.createArrayBuilder();
+        JsonArrayBuilder targetBuilder = Json.createArrayBuilder();
+        for (int i = 0; i < size; i++) {
+            sourceBuilder.add("item" + i);
+            if (i == 10 || i == 25_000) {
+                // removed
+                continue;
+            }
+            if (i == 30_000) {
+                targetBuilder.add("inserted");
+            }
+            targetBuilder.add(i == 40_000 ? "changed" : "item" + i);
+        }
+        JsonArray source = sourceBuilder.build();
+        JsonArray target = targetBuilder.build();
+
+        JsonPatch patch = Json.createDiff(source, target);
+
+        Assertions.assertEquals(4, patch.toJsonArray().size());
+        Assertions.assertEquals(target, patch.apply(source));
+    }
+
+    @Test
+    void testLargeArraysOfObjects() {
+        JsonArrayBuilder sourceBuilder = Json.createArrayBuilder();
+        JsonArrayBuilder targetBuilder = Json.createArrayBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            JsonObject element = Json.createObjectBuilder().add("id", i).add("name", "n" + i).build();
+            sourceBuilder.add(element);
+            targetBuilder.add(i % 1000 == 0
+                    ? Json.createObjectBuilder(element).add("name", "renamed").build()
+                    : element);
+        }
+        JsonArray source = sourceBuilder.build();
+        JsonArray target = targetBuilder.build();
+
+        JsonArray operations = Json.createDiff(source, target).toJsonArray();
+
+        Assertions.assertEquals(20, operations.size());
+        Assertions.assertEquals(Json.createObjectBuilder()
+                .add("op", "replace").add("path", "/19000/name").add("value", "renamed").build(),
+                operations.get(0));
+        Assertions.assertEquals(target, Json.createPatch(operations).apply(source));
+    }
+
+    @Test
+    void testRandomEdits() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            JsonArray source = randomArray(random);
+            JsonArray target = randomArray(random);
+            Assertions.assertEquals(target, Json.createDiff(source, target).apply(source),
+                    () -> source + " -> " + target);
+        }
+    }
+
+    private static JsonArray randomArray(Random random) {
+        JsonArrayBuilder builder = Json.createArrayBuilder();
+        int size = random.nextInt(30);
+        for (int i = 0; i < size; i++) {
+            builder.add(random.nextInt(5));
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.tests;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonPatch;
+import jakarta.json.JsonPointer;
+import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests updates of large arrays and objects, which share structure with the
+ * values they were derived from.
+ */
+public class JsonPersistentStructureTest {
+
+    @Test
+    void testArrayUpdates() {
+        Random random = new Random(7);
+        List<JsonValue> expected = new ArrayList<>();
+        JsonArrayBuilder builder = Json.createArrayBuilder();
+        for (int i = 0; i < 2000; i++) {
+            expected.add(Json.createValue(i));
+            builder.add(i);
+        }
+        JsonStructure array = builder.build();
+        for (int step = 0; step < 20000; step++) {
+            JsonValue value = Json.createValue("v" + step);
+            int op = random.nextInt(expected.size() < 50 ? 2 : 3);
+            if (op == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, value);
+                array = Json.createPointer("/" + (index == expected.size() - 1 ? "-" : index)).add(array, value);
+            } else if (op == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, value);
+                array = Json.createPointer("/" + index).replace(array, value);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                array = Json.createPointer("/" + index).remove(array);
+            }
+            if (step % 500 == 0) {
+                assertArray(expected, (JsonArray) array);
+            }
+        }
+        assertArray(expected, (JsonArray) array);
+    }
+
+    @Test
+    void testArrayShrinksToEmpty() {
+        JsonArrayBuilder builder = Json.createArrayBuilder();
+        for (int i = 0; i < 1000; i++) {
+            builder.add(i);
+        }
+        JsonStructure array = builder.build();
+        JsonPointer first = Json.createPointer("/0");
+        for (int i = 0; i < 1000; i++) {
+            Assertions.assertEquals(i, ((JsonArray) array).getInt(0));
+            array = first.remove(array);
+        }
+        Assertions.assertEquals(JsonValue.EMPTY_JSON_ARRAY, array);
+        array = Json.createPointer("/-").add(array, JsonValue.TRUE);
+        Assertions.assertEquals(Json.createArrayBuilder().add(true).build(), array);
+    }
+
+    @Test
+    void testObjectUpdates() {
+        Random random = new Random(11);
+        // "Aa" and "BB" have the same hash code, so do all their concatenations
+        String[] keys = new String[300];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i < 16 ? collidingKey(i) : "key" + i;
+        }
+        Map<String, JsonValue> expected = new LinkedHashMap<>();
+        JsonObjectBuilder builder = Json.createObjectBuilder();
+        for (int i = 0; i < 100; i++) {
+            expected.put(keys[i], Json.createValue(i));
+            builder.add(keys[i], i);
+        }
+        JsonStructure object = builder.build();
+        for (int step = 0; step < 5000; step++) {
+            String key = keys[random.nextInt(keys.length)];
+            JsonPointer pointer = Json.createPointer("/" + key);
+            if (random.nextBoolean()) {
+                JsonValue value = Json.createValue("v" + step);
+                expected.put(key, value);
+                object = pointer.add(object, value);
+            } else if (expected.containsKey(key)) {
+                expected.remove(key);
+                object = pointer.remove(object);
+            }
+            if (step % 100 == 0) {
+                assertObject(expected, (JsonObject) object);
+            }
+        }
+        assertObject(expected, (JsonObject) object);
+    }
+
+    @Test
+    void testNestedPatch() {
+        JsonObjectBuilder builder = Json.createObjectBuilder();
+        for (int i = 0; i < 1000; i++) {
+            builder.add("item" + i, Json.createObjectBuilder()
+                    .add("id", i)
+                    .add("tags", Json.createArrayBuilder().add("a").add("b")));
+        }
+        JsonObject source = builder.build();
+        JsonPatch patch = Json.createPatchBuilder()
+                .replace("/item500/id", 5000)
+                .add("/item500/tags/1", "c")
+                .remove("/item0")
+                .add("/item1000", JsonValue.NULL)
+                .build();
+
+        JsonObject result = patch.apply(source).asJsonObject();
+
+        Assertions.assertEquals(1000, result.size());
+        Assertions.assertEquals("item1", result.keySet().iterator().next());
+        Assertions.assertEquals(5000, result.getJsonObject("item500").getInt("id"));
+        Assertions.assertEquals(Json.createArrayBuilder().add("a").add("c").add("b").build(),
+                result.getJsonObject("item500").getJsonArray("tags"));
+        Assertions.assertSame(source.get("item999"), result.get("item999"));
+        Assertions.assertEquals(source, Json.createDiff(result, source).apply(result));
+    }
+
+    @Test
+    void testMergePatch() {
+        JsonObjectBuilder builder = Json.createObjectBuilder();
+        for (int i = 0; i < 1000; i++) {
+            builder.add("item" + i, i);
+        }
+        JsonObject source = builder.build();
+        JsonValue patch = Json.createObjectBuilder()
+                .addNull("item0")
+                .add("item1", "one")
+                .add("extra", Json.createObjectBuilder().add("a", 1))
+                .build();
+
+        JsonObject result = Json.createMergePatch(patch).apply(source).asJsonObject();
+
+        Assertions.assertEquals(1000, result.size());
+        Assertions.assertFalse(result.containsKey("item0"));
+        Assertions.assertEquals("one", result.getString("item1"));
+        Assertions.assertEquals(1, result.getJsonObject("extra").getInt("a"));
+        Assertions.assertEquals(source, Json.createMergeDiff(result, source).apply(result));
+    }
+
+    private static String collidingKey(int bits) {
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; i < 4; i++) {
+            key.append((bits & (1 << i)) == 0 ? "Aa" : "BB");
+        }
+        return key.toString();
+    }
+
+    private static void assertArray(List<JsonValue> expected, JsonArray actual) {
+        Assertions.assertEquals(expected.size(), actual.size());
+        Assertions.assertEquals(expected, new ArrayList<>(actual));
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertEquals(expected.get(i), actual.get(i));
+        }
+        Assertions.assertEquals(Json.createArrayBuilder(expected).build(), actual);
+    }
+
+    private static void assertObject(Map<String, JsonValue> expected, JsonObject actual) {
+        Assertions.assertEquals(expected.size(), actual.size());
+        Assertions.assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(actual.keySet()));
+        for (Map.Entry<String, JsonValue> entry : expected.entrySet()) {
+            Assertions.assertTrue(actual.containsKey(entry.getKey()));
+            Assertions.assertEquals(entry.getValue(), actual.get(entry.getKey()));
+        }
+        Assertions.assertFalse(actual.containsKey("missing"));
+        Assertions.assertEquals(expected, actual);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.tests;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParsingException;
+
+import org.eclipse.parsson.api.JsonProjection;
+import org.eclipse.parsson.api.ParssonReaderFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests readers that materialize only the projected members.
+ */
+public class JsonProjectionTest {
+
+    private static final String JSON = "{\"id\": 7, \"name\": \"n\", \"a/b\": 1,"
+            + " \"owner\": {\"name\": \"o\", \"mail\": \"m\", \"tags\": [1, {\"x\": 2}]},"
+            + " \"items\": [{\"price\": 1, \"qty\": 2}, 3, [{\"price\": 4}], {\"qty\": 5}],"
+            + " \"big\": {\"deep\": [[[{\"k\": \"v\"}]]]}}";
+
+    private static final ParssonReaderFactory FACTORY =
+            (ParssonReaderFactory) Json.createReaderFactory(null);
+
+    private static JsonValue parse(String json) {
+        return Json.createReader(new StringReader(json)).readValue();
+    }
+
+    private static JsonObject read(JsonProjection projection) {
+        try (JsonReader reader = FACTORY.createReader(new StringReader(JSON), projection)) {
+            return reader.readObject();
+        }
+    }
+
+    @Test
+    void testInclude() {
+        JsonObject object = read(JsonProjection.include("/id", "/owner/name", "/items/price", "/a~1b", "/missing"));
+        Assertions.assertEquals(parse("{\"id\": 7, \"a/b\": 1, \"owner\": {\"name\": \"o\"},"
+                + " \"items\": [{\"price\": 1}, [{\"price\": 4}], {}]}"), object);
+    }
+
+    @Test
+    void testIncludeWholeMember() {
+        JsonObject object = read(JsonProjection.include("/owner", "/owner/name", "/big/deep"));
+        Assertions.assertEquals(parse("{\"owner\": {\"name\": \"o\", \"mail\": \"m\", \"tags\": [1, {\"x\": 2}]},"
+                + " \"big\": {\"deep\": [[[{\"k\": \"v\"}]]]}}"), object);
+    }
+
+    @Test
+    void testExclude() {
+        JsonObject object = read(JsonProjection.exclude("/name", "/owner/mail", "/owner/tags/x", "/items/qty", "/big"));
+        Assertions.assertEquals(parse("{\"id\": 7, \"a/b\": 1, \"owner\": {\"name\": \"o\", \"tags\": [1, {}]},"
+                + " \"items\": [{\"price\": 1}, 3, [{\"price\": 4}], {}]}"), object);
+    }
+
+    @Test
+    void testTree() {
+        JsonObject include = (JsonObject) parse("{\"id\": true, \"owner\": {\"name\": true}}");
+        Assertions.assertEquals(read(JsonProjection.include("/id", "/owner/name")), read(JsonProjection.of(include)));
+        JsonObject exclude = (JsonObject) parse("{\"items\": false, \"owner\": {\"tags\": false}, \"big\": false}");
+        Assertions.assertEquals(read(JsonProjection.exclude("/items", "/owner/tags", "/big")),
+                read(JsonProjection.of(exclude)));
+    }
+
+    @Test
+    void testInvalidProjection() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> JsonProjection.include("a"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> JsonProjection.include(""));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> JsonProjection.include("/a~2"));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> JsonProjection.of((JsonObject) parse("{\"a\": true, \"b\": {\"c\": false}}")));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> JsonProjection.of((JsonObject) parse("{\"a\": 1}")));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> JsonProjection.of((JsonObject) parse("{\"a\": {}}")));
+    }
+
+    @Test
+    void testInputStream() {
+        byte[] bytes = JSON.getBytes(StandardCharsets.UTF_16LE);
+        try (JsonReader reader = FACTORY.createReader(new ByteArrayInputStream(bytes),
+                JsonProjection.include("/id"))) {
+            Assertions.assertEquals(parse("{\"id\": 7}"), reader.read());
+        }
+    }
+
+    @Test
+    void testArrayAndScalar() {
+        try (JsonReader reader = FACTORY.createReader(new StringReader("[{\"a\": 1, \"b\": 2}, 3]"),
+                JsonProjection.include("/a"))) {
+            Assertions.assertEquals(parse("[{\"a\": 1}]"), reader.readArray());
+        }
+        try (JsonReader reader = FACTORY.createReader(new StringReader("\"s\""), JsonProjection.include("/a"))) {
+            Assertions.assertEquals(Json.createValue("s"), reader.readValue());
+        }
+    }
+
+    @Test
+    void testSkippedInvalid() {
+        try (JsonReader reader = FACTORY.createReader(new StringReader("{\"a\": 1, \"b\": [1, }"),
+                JsonProjection.include("/a"))) {
+            Assertions.assertThrows(JsonParsingException.class, reader::readObject);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -20,6 +20,7 @@ import java.io.StringReader;
 
 import jakarta.json.Json;
 import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
 import jakarta.json.JsonReader;
 import jakarta.json.JsonString;
 
@@ -61,6 +62,39 @@ public class JsonStringTest {
         Assertions.assertTrue(jsonString1.hashCode() == jsonString2.hashCode());
     }
 
+    @Test
+    void testParsedHashCodeAndEquals() {
+        JsonArray parsed = Json.createReader(new StringReader("[\"abc\", \"x\\ny\", \"\", \"abd\"]")).readArray();
+        JsonArray built = Json.createArrayBuilder().add("abc").add("x\ny").add("").add("abd").build();
+        for (int i = 0; i < parsed.size(); i++) {
+            JsonString string = parsed.getJsonString(i);
+            Assertions.assertEquals(string.getString().hashCode(), string.hashCode());
+            Assertions.assertEquals(built.get(i), string);
+            Assertions.assertEquals(string, built.get(i));
+            Assertions.assertEquals(built.get(i).hashCode(), string.hashCode());
+        }
+        Assertions.assertNotEquals(parsed.get(0), parsed.get(3));
+        Assertions.assertNotEquals(parsed.get(0), built.get(3));
+        Assertions.assertNotEquals(parsed.get(0), parsed.get(2));
+    }
+
+    @Test
+    void testStructureEquals() {
+        String json = "{\"a\": [1, \"s\", {\"b\": null}], \"c\": {\"d\": [true]}}";
+        JsonObject first = Json.createReader(new StringReader(json)).readObject();
+        JsonObject second = Json.createReader(new StringReader(json)).readObject();
+        JsonObject other = Json.createReader(new StringReader(json.replace("true", "false"))).readObject();
+        Assertions.assertEquals(first, second);
+        first.hashCode();
+        Assertions.assertEquals(first, second);
+        second.hashCode();
+        other.hashCode();
+        Assertions.assertEquals(first, second);
+        Assertions.assertNotEquals(first, other);
+        Assertions.assertNotEquals(first.getJsonObject("c"), other.getJsonObject("c"));
+        Assertions.assertEquals(first.getJsonArray("a"), other.getJsonArray("a"));
+    }
+
     void escapedString(String str) {
         JsonArray exp = Json.createArrayBuilder().add(str).build();
         String parseStr = "["+exp.get(0).toString()+"]";
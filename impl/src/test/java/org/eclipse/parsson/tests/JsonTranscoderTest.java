@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.tests;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Collections;
+
+import jakarta.json.Json;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParsingException;
+
+import org.eclipse.parsson.api.JsonMemberFilter;
+import org.eclipse.parsson.api.JsonMemberFilter.Action;
+import org.eclipse.parsson.api.ParssonGeneratorFactory;
+import org.eclipse.parsson.api.ParssonParserFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests copying of JSON values from parsers into generators.
+ */
+public class JsonTranscoderTest {
+
+    private static final String JSON = "{ \"a\" : [1.50, -0, 2e3, \"x\\\"y\\u0001\"],\n"
+            + "  \"password\": {\"p\": [1]}, \"b\": {\"password\": \"s\", \"c\": true}, \"d\": null, \"e\": false }";
+
+    private static final ParssonGeneratorFactory FACTORY =
+            (ParssonGeneratorFactory) Json.createGeneratorFactory(null);
+
+    private static String transcode(ParssonGeneratorFactory factory, JsonParser parser, JsonMemberFilter filter) {
+        StringWriter out = new StringWriter();
+        try (JsonParser p = parser; JsonGenerator generator = factory.createGenerator(out)) {
+            factory.transcode(p, generator, filter);
+        }
+        return out.toString();
+    }
+
+    @Test
+    void testMinify() {
+        String expected = "{\"a\":[1.50,-0,2e3,\"x\\\"y\\u0001\"],\"password\":{\"p\":[1]},"
+                + "\"b\":{\"password\":\"s\",\"c\":true},\"d\":null,\"e\":false}";
+        Assertions.assertEquals(expected, transcode(FACTORY, Json.createParser(new StringReader(JSON)), null));
+        ParssonParserFactory parserFactory = (ParssonParserFactory) Json.createParserFactory(null);
+        Assertions.assertEquals(expected, transcode(FACTORY, parserFactory.createParser(JSON), null));
+    }
+
+    @Test
+    void testPrettyPrint() {
+        ParssonGeneratorFactory pretty = (ParssonGeneratorFactory) Json.createGeneratorFactory(
+                Collections.singletonMap(JsonGenerator.PRETTY_PRINTING, true));
+        // numbers that a tree writes back unchanged
+        String json = JSON.replace("-0, 2e3", "7, 8");
+        StringWriter expected = new StringWriter();
+        try (JsonGenerator generator = pretty.createGenerator(expected)) {
+            generator.write(Json.createReader(new StringReader(json)).readValue());
+        }
+        Assertions.assertEquals(expected.toString(), transcode(pretty, Json.createParser(new StringReader(json)), null));
+    }
+
+    @Test
+    void testFilter() {
+        JsonMemberFilter filter = (depth, name) -> {
+            switch (name) {
+                case "password":
+                    return Action.drop();
+                case "c":
+                    return Action.rename("C");
+                case "d":
+                    return Action.replace(Json.createValue(4));
+                case "e":
+                    return Action.replace("E", JsonValue.EMPTY_JSON_ARRAY);
+                default:
+                    return depth > 1 ? Action.drop() : Action.keep();
+            }
+        };
+        Assertions.assertEquals("{\"a\":[1.50,-0,2e3,\"x\\\"y\\u0001\"],\"b\":{\"C\":true},\"d\":4,\"E\":[]}",
+                transcode(FACTORY, Json.createParser(new StringReader(JSON)), filter));
+    }
+
+    @Test
+    void testArrayElements() {
+        StringWriter out = new StringWriter();
+        try (JsonParser parser = Json.createParser(new StringReader("[{\"a\":1},\"s\",2]"));
+             JsonGenerator generator = FACTORY.createGenerator(out)) {
+            parser.next();
+            generator.writeStartArray();
+            int count = 0;
+            while (FACTORY.transcode(parser, generator, (depth, name) -> Action.rename(name.toUpperCase()))) {
+                count++;
+            }
+            Assertions.assertEquals(3, count);
+            Assertions.assertEquals(JsonParser.Event.END_ARRAY, parser.currentEvent());
+            generator.writeEnd();
+        }
+        Assertions.assertEquals("[{\"A\":1},\"s\",2]", out.toString());
+    }
+
+    @Test
+    void testInvalid() {
+        Assertions.assertThrows(JsonParsingException.class, () -> transcode(FACTORY,
+                Json.createParser(new StringReader("{\"a\":[1,}")), null));
+    }
+
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.tests;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import jakarta.json.Json;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParsingException;
+
+import org.eclipse.parsson.api.JsonValueDecoder;
+import org.eclipse.parsson.api.JsonValueEncoder;
+import org.eclipse.parsson.api.ParssonGeneratorFactory;
+import org.eclipse.parsson.api.ParssonParserFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link JsonValueDecoder} and {@link JsonValueEncoder}.
+ */
+public class JsonValueStreamingTest {
+
+    private static final ParssonParserFactory PARSER_FACTORY =
+            (ParssonParserFactory) Json.createParserFactory(null);
+    private static final ParssonGeneratorFactory GENERATOR_FACTORY =
+            (ParssonGeneratorFactory) Json.createGeneratorFactory(null);
+
+    private static final List<JsonValue> VALUES = Arrays.asList(
+            Json.createValue(1),
+            Json.createObjectBuilder()
+                    .add("a", Json.createArrayBuilder().add(1).add(Json.createObjectBuilder().addNull("b")))
+                    .add("c", "é中😀")
+                    .build(),
+            Json.createValue("s"),
+            Json.createArrayBuilder().add(true).add(Json.createArrayBuilder()).build(),
+            JsonValue.NULL);
+
+    @Test
+    void testDecodeValues() {
+        byte[] bytes = "1 {\"a\":[1,{\"b\":null}],\"c\":\"é中😀\"}\n\"s\"[true,[]]\r\nnull"
+                .getBytes(StandardCharsets.UTF_8);
+        for (int chunk : new int[] {1, 2, 5, bytes.length}) {
+            Assertions.assertEquals(VALUES, decode(PARSER_FACTORY.createValueDecoder(false), bytes, chunk));
+        }
+    }
+
+    @Test
+    void testDecodeArrayElements() {
+        byte[] bytes = " [1, {\"a\":[1,{\"b\":null}],\"c\":\"é中😀\"},\"s\",[true,[]],null] "
+                .getBytes(StandardCharsets.UTF_8);
+        for (int chunk : new int[] {1, 3, bytes.length}) {
+            Assertions.assertEquals(VALUES, decode(PARSER_FACTORY.createValueDecoder(true), bytes, chunk));
+        }
+    }
+
+    @Test
+    void testDecodePollsOnDemand() {
+        try (JsonValueDecoder decoder = PARSER_FACTORY.createValueDecoder(true)) {
+            decoder.feed(ByteBuffer.wrap("[1,2,3".getBytes(StandardCharsets.UTF_8)));
+            Assertions.assertEquals(Json.createValue(1), decoder.poll());
+            Assertions.assertFalse(decoder.needsInput());
+            Assertions.assertEquals(Json.createValue(2), decoder.poll());
+            Assertions.assertNull(decoder.poll());
+            Assertions.assertTrue(decoder.needsInput());
+            Assertions.assertFalse(decoder.isFinished());
+            decoder.feed(ByteBuffer.wrap("]".getBytes(StandardCharsets.UTF_8)));
+            Assertions.assertEquals(Json.createValue(3), decoder.poll());
+            Assertions.assertNull(decoder.poll());
+            decoder.endOfInput();
+            Assertions.assertNull(decoder.poll());
+            Assertions.assertTrue(decoder.isFinished());
+        }
+    }
+
+    @Test
+    void testDecodeEmpty() {
+        try (JsonValueDecoder decoder = PARSER_FACTORY.createValueDecoder(false)) {
+            decoder.feed(ByteBuffer.wrap("  \n ".getBytes(StandardCharsets.UTF_8)));
+            Assertions.assertNull(decoder.poll());
+            decoder.endOfInput();
+            Assertions.assertNull(decoder.poll());
+            Assertions.assertTrue(decoder.isFinished());
+        }
+    }
+
+    @Test
+    void testDecodeNotArray() {
+        try (JsonValueDecoder decoder = PARSER_FACTORY.createValueDecoder(true)) {
+            decoder.feed(ByteBuffer.wrap("{\"a\":1}".getBytes(StandardCharsets.UTF_8)));
+            decoder.endOfInput();
+            Assertions.assertThrows(JsonParsingException.class, decoder::poll);
+        }
+    }
+
+    @Test
+    void testEncodeArrayElements() {
+        try (JsonValueEncoder encoder = GENERATOR_FACTORY.createValueEncoder(true, 7)) {
+            List<ByteBuffer> chunks = new ArrayList<>();
+            for (JsonValue value : VALUES) {
+                encoder.write(value);
+                drain(encoder, chunks);
+            }
+            encoder.complete();
+            drain(encoder, chunks);
+            for (int i = 0; i < chunks.size() - 1; i++) {
+                Assertions.assertEquals(7, chunks.get(i).remaining());
+            }
+            String json = join(chunks);
+            Assertions.assertEquals(Json.createArrayBuilder(VALUES).build().toString(), json);
+            Assertions.assertEquals(VALUES, decode(PARSER_FACTORY.createValueDecoder(true),
+                    json.getBytes(StandardCharsets.UTF_8), 4));
+        }
+    }
+
+    @Test
+    void testEncodeValues() {
+        try (JsonValueEncoder encoder = GENERATOR_FACTORY.createValueEncoder(false, 16)) {
+            List<ByteBuffer> chunks = new ArrayList<>();
+            for (JsonValue value : VALUES) {
+                encoder.write(value);
+            }
+            encoder.complete();
+            drain(encoder, chunks);
+            String json = join(chunks);
+            Assertions.assertEquals(5, json.split("\n").length);
+            Assertions.assertEquals(VALUES, decode(PARSER_FACTORY.createValueDecoder(false),
+                    json.getBytes(StandardCharsets.UTF_8), 3));
+            Assertions.assertThrows(IllegalStateException.class, () -> encoder.write(JsonValue.TRUE));
+        }
+    }
+
+    @Test
+    void testEncodeFlush() {
+        try (JsonValueEncoder encoder = GENERATOR_FACTORY.createValueEncoder(true, 1024)) {
+            encoder.write(JsonValue.TRUE);
+            Assertions.assertNull(encoder.poll());
+            encoder.flush();
+            Assertions.assertEquals("[true", StandardCharsets.UTF_8.decode(encoder.poll()).toString());
+            encoder.complete();
+            Assertions.assertEquals("]", StandardCharsets.UTF_8.decode(encoder.poll()).toString());
+            Assertions.assertNull(encoder.poll());
+        }
+    }
+
+    @Test
+    void testEncodeNoValues() {
+        try (JsonValueEncoder encoder = GENERATOR_FACTORY.createValueEncoder(true, 8)) {
+            encoder.complete();
+            Assertions.assertEquals("[]", StandardCharsets.UTF_8.decode(encoder.poll()).toString());
+        }
+        try (JsonValueEncoder encoder = GENERATOR_FACTORY.createValueEncoder(false, 8)) {
+            encoder.complete();
+            Assertions.assertNull(encoder.poll());
+        }
+    }
+
+    private static List<JsonValue> decode(JsonValueDecoder decoder, byte[] bytes, int chunk) {
+        List<JsonValue> values = new ArrayList<>();
+        try {
+            for (int i = 0; i < bytes.length; i += chunk) {
+                decoder.feed(ByteBuffer.wrap(bytes, i, Math.min(chunk, bytes.length - i)));
+                JsonValue value;
+                while ((value = decoder.poll()) != null) {
+                    values.add(value);
+                }
+            }
+            decoder.endOfInput();
+            JsonValue value;
+            while ((value = decoder.poll()) != null) {
+                values.add(value);
+            }
+            Assertions.assertTrue(decoder.isFinished());
+        } finally {
+            decoder.close();
+        }
+        return values;
+    }
+
+    private static void drain(JsonValueEncoder encoder, List<ByteBuffer> chunks) {
+        ByteBuffer chunk;
+        while ((chunk = encoder.poll()) != null) {
+            chunks.add(chunk);
+        }
+    }
+
+    private static String join(List<ByteBuffer> chunks) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (ByteBuffer chunk : chunks) {
+            out.write(chunk.array(), chunk.arrayOffset() + chunk.position(), chunk.remaining());
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.tests;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonException;
+import jakarta.json.stream.JsonParser;
+
+import org.eclipse.parsson.TestUtils;
+import org.eclipse.parsson.api.JsonConfig;
+import org.eclipse.parsson.api.ParssonParserFactory;
+import org.eclipse.parsson.api.ParssonReaderFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests parsing of ByteBuffer and memory mapped file input.
+ */
+public class MappedJsonParserTest {
+
+    private static final ParssonParserFactory PARSER_FACTORY =
+            (ParssonParserFactory) Json.createParserFactory(null);
+    private static final ParssonReaderFactory READER_FACTORY =
+            (ParssonReaderFactory) Json.createReaderFactory(null);
+
+    @Test
+    void testHeapBuffer() {
+        ByteBuffer buffer = ByteBuffer.wrap("xx[1,\"é\"]yy".getBytes(StandardCharsets.UTF_8));
+        buffer.position(2).limit(buffer.limit() - 2);
+        try (JsonParser parser = PARSER_FACTORY.createParser(buffer)) {
+            Assertions.assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+            JsonArray array = parser.getArray();
+            Assertions.assertEquals(1, array.getInt(0));
+            Assertions.assertEquals("é", array.getString(1));
+        }
+        Assertions.assertEquals(2, buffer.position());
+        Assertions.assertEquals(buffer.capacity() - 2, buffer.limit());
+    }
+
+    @Test
+    void testDirectBuffer() {
+        byte[] bytes = "﻿{\"a\":\"中\"}".getBytes(StandardCharsets.UTF_16LE);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        Assertions.assertEquals("中", READER_FACTORY.createReader(buffer).readObject().getString("a"));
+    }
+
+    @Test
+    void testFile() throws IOException {
+        Path file = Files.createTempFile("parsson", ".json");
+        try {
+            Files.write(file, "{\"a\":[true,null]}".getBytes(StandardCharsets.UTF_8));
+            try (JsonParser parser = PARSER_FACTORY.createParser(file)) {
+                Assertions.assertEquals(JsonParser.Event.START_OBJECT, parser.next());
+                Assertions.assertTrue(parser.getObject().getJsonArray("a").getBoolean(0));
+            }
+            Assertions.assertTrue(READER_FACTORY.createReader(file).readObject().getJsonArray("a").isNull(1));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testFileWindows() throws IOException {
+        // Multi byte chars are split by the window ends
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            json.append(i == 0 ? "" : ",").append("\"é中😀").append(i).append('"');
+        }
+        json.append(']');
+        Path file = Files.createTempFile("parsson", ".json");
+        try {
+            Files.write(file, json.toString().getBytes(StandardCharsets.UTF_8));
+            for (int windowSize : new int[] {7, 64, 1021}) {
+                try (JsonParser parser = TestUtils.createMappedParser(file, windowSize)) {
+                    Assertions.assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+                    JsonArray array = parser.getArray();
+                    Assertions.assertEquals(1000, array.size());
+                    for (int i = 0; i < 1000; i++) {
+                        Assertions.assertEquals("é中😀" + i, array.getString(i));
+                    }
+                }
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testFileLargerThanParsingLimit() throws IOException {
+        Path file = Files.createTempFile("parsson", ".json");
+        try {
+            long length = 0;
+            int count = 0;
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                writer.write('[');
+                while (length < 16_000_000) {
+                    String value = (count == 0 ? "" : ",") + "{\"n\":" + count + "}";
+                    writer.write(value);
+                    length += value.length();
+                    count++;
+                }
+                writer.write(']');
+            }
+            try (JsonParser parser = PARSER_FACTORY.createParser(file)) {
+                Assertions.assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+                int values = 0;
+                while (parser.next() != JsonParser.Event.END_ARRAY) {
+                    if (parser.currentEvent() == JsonParser.Event.VALUE_NUMBER) {
+                        Assertions.assertEquals(values++, parser.getInt());
+                    }
+                }
+                Assertions.assertEquals(count, values);
+            }
+            try (JsonParser parser = PARSER_FACTORY.createParser(file)) {
+                parser.next();
+                parser.skipArray();
+                Assertions.assertFalse(parser.hasNext());
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testFileParsingLimitPerToken() throws IOException {
+        ParssonParserFactory factory = (ParssonParserFactory) Json.createParserFactory(
+                Collections.singletonMap(JsonConfig.MAX_PARSING_LIMIT, 100));
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            json.append(i == 0 ? "" : ", ").append(i);
+        }
+        json.append(", \"");
+        for (int i = 0; i < 200; i++) {
+            json.append('x');
+        }
+        json.append("\"]");
+        Path file = Files.createTempFile("parsson", ".json");
+        try {
+            Files.write(file, json.toString().getBytes(StandardCharsets.UTF_8));
+            try (JsonParser parser = factory.createParser(file)) {
+                Assertions.assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+                for (int i = 0; i < 1000; i++) {
+                    Assertions.assertEquals(JsonParser.Event.VALUE_NUMBER, parser.next());
+                }
+                Assertions.assertThrows(JsonException.class, parser::next);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testMissingFile() {
+        Path file = Paths.get("does-not-exist.json");
+        Assertions.assertThrows(JsonException.class, () -> PARSER_FACTORY.createParser(file));
+    }
+
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.tests;
+
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParsingException;
+
+import org.eclipse.parsson.api.BufferPool;
+import org.eclipse.parsson.api.JsonConfig;
+import org.eclipse.parsson.api.NonBlockingJsonParser;
+import org.eclipse.parsson.api.ParssonParserFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link NonBlockingJsonParser}.
+ */
+public class NonBlockingJsonParserTest {
+
+    private static final ParssonParserFactory FACTORY =
+            (ParssonParserFactory) Json.createParserFactory(null);
+
+    private static final String JSON = "{\"name\":\"é中😀\\n\\u0041\", \"values\" : [1, -2.5e3, 12345678901234567890,"
+            + " true, false, null, {}, []],\r\n \"nested\":{\"a\":[{\"b\":\"\"}]}, \"x\":0}";
+
+    @Test
+    void testChunks() {
+        List<String> expected = events(Json.createParser(new StringReader(JSON)));
+        byte[] bytes = JSON.getBytes(StandardCharsets.UTF_8);
+        for (int chunk : new int[] {1, 2, 3, 7, 64, bytes.length}) {
+            Assertions.assertEquals(expected, feedAndCollect(FACTORY.createNonBlockingParser(), bytes, chunk),
+                    "chunk size " + chunk);
+        }
+    }
+
+    @Test
+    void testUtf16Chunks() {
+        List<String> expected = events(Json.createParser(new StringReader(JSON)));
+        byte[] bytes = ("﻿" + JSON).getBytes(StandardCharsets.UTF_16BE);
+        Assertions.assertEquals(expected, feedAndCollect(FACTORY.createNonBlockingParser(), bytes, 1));
+        bytes = JSON.getBytes(StandardCharsets.UTF_16LE);
+        Assertions.assertEquals(expected, feedAndCollect(FACTORY.createNonBlockingParser(), bytes, 3));
+        bytes = JSON.getBytes(StandardCharsets.ISO_8859_1);
+        Assertions.assertEquals(events(Json.createParser(new StringReader(
+                new String(bytes, StandardCharsets.ISO_8859_1)))),
+                feedAndCollect(FACTORY.createNonBlockingParser(StandardCharsets.ISO_8859_1), bytes, 5));
+    }
+
+    @Test
+    void testNeedsInput() {
+        try (NonBlockingJsonParser parser = FACTORY.createNonBlockingParser(StandardCharsets.UTF_8)) {
+            Assertions.assertFalse(parser.hasNext());
+            Assertions.assertTrue(parser.needsInput());
+            feed(parser, "[1");
+            Assertions.assertTrue(parser.hasNext());
+            Assertions.assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+            // 1 may continue in the next chunk
+            Assertions.assertFalse(parser.hasNext());
+            Assertions.assertTrue(parser.needsInput());
+            Assertions.assertThrows(IllegalStateException.class, parser::next);
+            feed(parser, "2,\"ab");
+            Assertions.assertEquals(JsonParser.Event.VALUE_NUMBER, parser.next());
+            Assertions.assertEquals(12, parser.getInt());
+            Assertions.assertFalse(parser.hasNext());
+            feed(parser, "c\"]");
+            Assertions.assertEquals(JsonParser.Event.VALUE_STRING, parser.next());
+            Assertions.assertEquals("abc", parser.getString());
+            Assertions.assertEquals(JsonParser.Event.END_ARRAY, parser.next());
+            Assertions.assertFalse(parser.hasNext());
+            Assertions.assertTrue(parser.needsInput());
+            parser.endOfInput();
+            Assertions.assertFalse(parser.hasNext());
+            Assertions.assertFalse(parser.needsInput());
+        }
+    }
+
+    @Test
+    void testNextNeedsInput() {
+        try (NonBlockingJsonParser parser = FACTORY.createNonBlockingParser()) {
+            Assertions.assertThrows(IllegalStateException.class, parser::next);
+            feed(parser, "{\"a\"");
+            Assertions.assertEquals(JsonParser.Event.START_OBJECT, parser.next());
+            Assertions.assertEquals(JsonParser.Event.KEY_NAME, parser.next());
+            Assertions.assertThrows(IllegalStateException.class, parser::next);
+            feed(parser, " : tr");
+            Assertions.assertThrows(IllegalStateException.class, parser::next);
+            feed(parser, "ue }");
+            Assertions.assertEquals(JsonParser.Event.VALUE_TRUE, parser.next());
+            Assertions.assertEquals(JsonParser.Event.END_OBJECT, parser.next());
+            Assertions.assertThrows(IllegalStateException.class, parser::next);
+            parser.endOfInput();
+            Assertions.assertThrows(NoSuchElementException.class, parser::next);
+        }
+    }
+
+    @Test
+    void testNumberAtEndOfInput() {
+        try (NonBlockingJsonParser parser = FACTORY.createNonBlockingParser()) {
+            feed(parser, "42");
+            Assertions.assertFalse(parser.hasNext());
+            parser.endOfInput();
+            Assertions.assertEquals(JsonParser.Event.VALUE_NUMBER, parser.next());
+            Assertions.assertEquals(42, parser.getInt());
+            Assertions.assertFalse(parser.hasNext());
+        }
+    }
+
+    @Test
+    void testGetObject() {
+        try (NonBlockingJsonParser parser = FACTORY.createNonBlockingParser()) {
+            feed(parser, "[{\"a\":[1,");
+            Assertions.assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+            Assertions.assertEquals(JsonParser.Event.START_OBJECT, parser.next());
+            Assertions.assertThrows(IllegalStateException.class, parser::getObject);
+            feed(parser, "2]}, 3");
+            Assertions.assertEquals(2, parser.getObject().getJsonArray("a").getInt(1));
+            Assertions.assertThrows(IllegalStateException.class, parser::skipArray);
+            feed(parser, "]");
+            parser.skipArray();
+            Assertions.assertEquals(JsonParser.Event.END_ARRAY, parser.currentEvent());
+            parser.endOfInput();
+            Assertions.assertFalse(parser.hasNext());
+        }
+    }
+
+    @Test
+    void testNestedStructures() {
+        try (NonBlockingJsonParser parser = FACTORY.createNonBlockingParser()) {
+            feed(parser, "[[1],[2,[3");
+            Assertions.assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+            Assertions.assertThrows(IllegalStateException.class, parser::getArray);
+            Assertions.assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+            Assertions.assertEquals(1, parser.getArray().getInt(0));
+            Assertions.assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+            Assertions.assertThrows(IllegalStateException.class, parser::getArray);
+            feed(parser, "]]");
+            Assertions.assertEquals(3, parser.getArray().getJsonArray(1).getInt(0));
+            Assertions.assertThrows(IllegalStateException.class, parser::skipArray);
+            feed(parser, "]");
+            parser.skipArray();
+            parser.endOfInput();
+            Assertions.assertFalse(parser.hasNext());
+        }
+    }
+
+    @Test
+    void testDeepNestingScannedOnce() {
+        // each level checks whether its array is buffered, which must not
+        // rescan the buffered input per level
+        descendIncomplete(100);
+        long shallow = descendIncomplete(100);
+        long deep = descendIncomplete(800);
+        Assertions.assertTrue(deep < 3 * shallow + 50_000_000L,
+                () -> "depth 100: " + shallow + "ns, depth 800: " + deep + "ns");
+    }
+
+    private static long descendIncomplete(int depth) {
+        char[] payload = new char[1 << 20];
+        Arrays.fill(payload, 'x');
+        String json = String.join("", Collections.nCopies(depth, "[")) + '"' + new String(payload) + '"';
+        try (NonBlockingJsonParser parser = FACTORY.createNonBlockingParser()) {
+            feed(parser, json);
+            long start = System.nanoTime();
+            for (int i = 0; i < depth; i++) {
+                Assertions.assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+                Assertions.assertThrows(IllegalStateException.class, parser::getArray);
+            }
+            long time = System.nanoTime() - start;
+            feed(parser, String.join("", Collections.nCopies(depth, "]")));
+            Assertions.assertEquals(payload.length, parser.getArray().getString(0).length());
+            return time;
+        }
+    }
+
+    @Test
+    void testMalformedInput() {
+        try (NonBlockingJsonParser parser = FACTORY.createNonBlockingParser()) {
+            feed(parser, "[1,]");
+            parser.endOfInput();
+            parser.next();
+            parser.next();
+            Assertions.assertThrows(JsonParsingException.class, parser::next);
+        }
+        try (NonBlockingJsonParser parser = FACTORY.createNonBlockingParser()) {
+            feed(parser, "{\"a\":1");
+            parser.endOfInput();
+            parser.next();
+            parser.next();
+            parser.next();
+            Assertions.assertThrows(JsonParsingException.class, parser::hasNext);
+        }
+    }
+
+    @Test
+    void testFeedAfterEndOfInput() {
+        try (NonBlockingJsonParser parser = FACTORY.createNonBlockingParser()) {
+            feed(parser, "[]");
+            parser.endOfInput();
+            Assertions.assertThrows(IllegalStateException.class, () -> feed(parser, " "));
+        }
+    }
+
+    @Test
+    void testParsingLimit() {
+        Map<String, ?> config = Collections.singletonMap(JsonConfig.MAX_PARSING_LIMIT, 100);
+        ParssonParserFactory factory = (ParssonParserFactory) Json.createParserFactory(config);
+        try (NonBlockingJsonParser parser = factory.createNonBlockingParser()) {
+            feed(parser, "[\"");
+            Assertions.assertThrows(JsonException.class, () -> {
+                for (int i = 0; i < 100; i++) {
+                    feed(parser, "0123456789");
+                }
+            });
+        }
+    }
+
+    @Test
+    void testBufferRecycled() {
+        JsonParserTest.MyBufferPool bufferPool = new JsonParserTest.MyBufferPool(16);
+        Map<String, ?> config = Collections.singletonMap(BufferPool.class.getName(), bufferPool);
+        ParssonParserFactory factory = (ParssonParserFactory) Json.createParserFactory(config);
+        try (NonBlockingJsonParser parser = factory.createNonBlockingParser()) {
+            feed(parser, "[\"0123456789012345678901234567890123456789\"]");
+            parser.endOfInput();
+            parser.next();
+            Assertions.assertEquals(40, parser.getArray().getString(0).length());
+        }
+        Assertions.assertTrue(bufferPool.isTakeCalled());
+        Assertions.assertTrue(bufferPool.isRecycleCalled());
+    }
+
+    private static void feed(NonBlockingJsonParser parser, String chunk) {
+        parser.feed(ByteBuffer.wrap(chunk.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static List<String> feedAndCollect(NonBlockingJsonParser parser, byte[] bytes, int chunk) {
+        List<String> events = new ArrayList<>();
+        try {
+            for (int i = 0; i < bytes.length; i += chunk) {
+                parser.feed(bytes, i, Math.min(chunk, bytes.length - i));
+                collect(parser, events);
+                Assertions.assertTrue(parser.needsInput());
+            }
+            parser.endOfInput();
+            collect(parser, events);
+            Assertions.assertFalse(parser.needsInput());
+        } finally {
+            parser.close();
+        }
+        return events;
+    }
+
+    private static List<String> events(JsonParser parser) {
+        List<String> events = new ArrayList<>();
+        collect(parser, events);
+        parser.close();
+        return events;
+    }
+
+    private static void collect(JsonParser parser, List<String> events) {
+        while (parser.hasNext()) {
+            JsonParser.Event event = parser.next();
+            switch (event) {
+                case KEY_NAME:
+                case VALUE_STRING:
+                    events.add(event + ":" + parser.getString());
+                    break;
+                case VALUE_NUMBER:
+                    events.add(event + ":" + parser.getBigDecimal());
+                    break;
+                default:
+                    events.add(event.toString());
+                    break;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.tests;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParsingException;
+
+import org.eclipse.parsson.api.JsonConfig;
+import org.eclipse.parsson.api.ParssonReaderFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests reading of large in-memory documents with multiple threads.
+ */
+public class ParallelJsonReaderTest {
+
+    private static ParssonReaderFactory factory(Map<String, Object> config) {
+        config.put(JsonConfig.PARALLEL_READ_THRESHOLD, 1);
+        return (ParssonReaderFactory) Json.createReaderFactory(config);
+    }
+
+    private static String document() {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < 5000; i++) {
+            if (i > 0) {
+                sb.append(",\n");
+            }
+            sb.append("\"k\\\"").append(i).append("\" : ");
+            switch (i % 3) {
+                case 0:
+                    sb.append("{\"a\":[1,{\"b\":\"x:y,}\"}],\"c\":null}");
+                    break;
+                case 1:
+                    sb.append("\"s,\\\\\"");
+                    break;
+                default:
+                    sb.append(i).append(".5");
+            }
+        }
+        return sb.append("}").toString();
+    }
+
+    @Test
+    void testDepthLimit() {
+        // members are parsed on their own, nested as deep as their structure
+        String[] documents = {"[[[1]], 2]", "[[[[1]]], 2]", "{\"a\":{\"b\":[1]}, \"c\":2}", "{\"a\":{\"b\":[[1]]}, \"c\":2}"};
+        for (String json : documents) {
+            Map<String, Object> config = new HashMap<>();
+            config.put(JsonConfig.MAX_DEPTH, 4);
+            String expected = read((ParssonReaderFactory) Json.createReaderFactory(config), json);
+            Assertions.assertTrue(read(factory(config), json).endsWith(expected), json);
+        }
+        Map<String, Object> config = new HashMap<>();
+        config.put(JsonConfig.MAX_DEPTH, 4);
+        Assertions.assertTrue(read(factory(config), "[[[[1]]], 2]").endsWith("Input is too deeply nested 4"));
+    }
+
+    // Returns the value read, or the message of the exception thrown
+    private static String read(ParssonReaderFactory factory, String json) {
+        try {
+            return factory.createReader(json).read().toString();
+        } catch (RuntimeException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Test
+    void testObject() {
+        String json = document();
+        JsonObject expected = Json.createReader(new StringReader(json)).readObject();
+        JsonObject object = factory(new HashMap<>()).createReader(json).readObject();
+        Assertions.assertEquals(expected, object);
+        Assertions.assertEquals(expected.keySet().toString(), object.keySet().toString());
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        JsonStructure structure = factory(new HashMap<>()).createReader(bytes, 0, bytes.length).read();
+        Assertions.assertEquals(expected, structure);
+    }
+
+    @Test
+    void testArray() {
+        String json = "[" + document() + ", [], {}, 1, \"2\" , true ]";
+        JsonArray expected = Json.createReader(new StringReader(json)).readArray();
+        Assertions.assertEquals(expected, factory(new HashMap<>()).createReader(json).readArray());
+        JsonValue value = factory(new HashMap<>()).createReader(json.toCharArray(), 0, json.length()).readValue();
+        Assertions.assertEquals(expected, value);
+        Assertions.assertEquals(0, factory(new HashMap<>()).createReader(" [ ] ").readArray().size());
+        Assertions.assertEquals(0, factory(new HashMap<>()).createReader("{}").readObject().size());
+    }
+
+    @Test
+    void testThreshold() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(JsonConfig.PARALLEL_READ_THRESHOLD, 1000);
+        ParssonReaderFactory factory = (ParssonReaderFactory) Json.createReaderFactory(config);
+        Assertions.assertEquals(1000, factory.getConfigInUse().get(JsonConfig.PARALLEL_READ_THRESHOLD));
+        Assertions.assertEquals(2, factory.createReader("[1,2]").readArray().size());
+        String json = document();
+        Assertions.assertEquals(5000, factory.createReader(json).readObject().size());
+        Assertions.assertEquals(5000, factory.createReader(new StringReader(json)).readObject().size());
+    }
+
+    @Test
+    void testInvalidMembers() {
+        ParssonReaderFactory factory = factory(new HashMap<>());
+        Assertions.assertThrows(JsonParsingException.class, () -> factory.createReader("[1,,2]").read());
+        Assertions.assertThrows(JsonParsingException.class, () -> factory.createReader("[1 2]").read());
+        Assertions.assertThrows(JsonParsingException.class, () -> factory.createReader("{\"a\" 1}").read());
+        Assertions.assertThrows(JsonParsingException.class, () -> factory.createReader("{\"a\"}").read());
+        Assertions.assertThrows(JsonParsingException.class, () -> factory.createReader("{1:2}").read());
+        Assertions.assertThrows(JsonParsingException.class, () -> factory.createReader("{\"a\":1,}").read());
+        Assertions.assertThrows(JsonParsingException.class, () -> factory.createReader("[1,[2]").read());
+    }
+
+    @Test
+    void testErrorLocation() {
+        // members are parsed on their own, but report where they are in the document
+        String[] documents = {
+                "{\"a\" : 1,\n \"b\" : [2,\r\n 3 4],\r \"c\" : 5}",
+                "[1,\n\n  {\"a\" : tru},\n 3]",
+                "{\"a\" : 1,\n 2 : 3}",
+                "[\"a\",\r\n\r\n \"b]"};
+        for (String json : documents) {
+            JsonParsingException expected = Assertions.assertThrows(JsonParsingException.class,
+                    () -> Json.createReader(new StringReader(json)).read());
+            JsonParsingException e = Assertions.assertThrows(JsonParsingException.class,
+                    () -> factory(new HashMap<>()).createReader(json).read());
+            Assertions.assertEquals(expected.getMessage(), e.getMessage(), json);
+            Assertions.assertEquals(expected.getLocation().getLineNumber(), e.getLocation().getLineNumber(), json);
+            Assertions.assertEquals(expected.getLocation().getColumnNumber(), e.getLocation().getColumnNumber(), json);
+            Assertions.assertEquals(expected.getLocation().getStreamOffset(), e.getLocation().getStreamOffset(), json);
+        }
+    }
+
+    @Test
+    void testLimits() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(jakarta.json.JsonConfig.KEY_STRATEGY, jakarta.json.JsonConfig.KeyStrategy.NONE);
+        JsonParsingException e = Assertions.assertThrows(JsonParsingException.class,
+                () -> factory(config).createReader("{\"a\":1,\"b\":2,\"a\":3}").readObject());
+        Assertions.assertEquals("Duplicate key 'a' is not allowed", e.getMessage());
+
+        Map<String, Object> limit = new HashMap<>();
+        limit.put(JsonConfig.MAX_PARSING_LIMIT, 1000);
+        Assertions.assertThrows(JsonException.class, () -> factory(limit).createReader(document()).readObject());
+    }
+
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.tests;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonString;
+import jakarta.json.JsonStructure;
+import jakarta.json.JsonWriter;
+import jakarta.json.JsonWriterFactory;
+import jakarta.json.stream.JsonGenerator;
+
+import org.eclipse.parsson.api.JsonConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests writing of large documents with multiple threads.
+ */
+public class ParallelJsonWriterTest {
+
+    private static JsonWriterFactory factory(boolean parallel, boolean pretty) {
+        Map<String, Object> config = new HashMap<>();
+        if (parallel) {
+            config.put(JsonConfig.PARALLEL_WRITE_THRESHOLD, 100);
+        }
+        if (pretty) {
+            config.put(JsonGenerator.PRETTY_PRINTING, true);
+        }
+        return Json.createWriterFactory(config);
+    }
+
+    private static String write(JsonWriterFactory factory, JsonStructure value) {
+        StringWriter out = new StringWriter();
+        try (JsonWriter writer = factory.createWriter(out)) {
+            writer.write(value);
+        }
+        return out.toString();
+    }
+
+    private static JsonArrayBuilder array(int size) {
+        JsonArrayBuilder builder = Json.createArrayBuilder();
+        for (int i = 0; i < size; i++) {
+            switch (i % 4) {
+                case 0:
+                    builder.add(Json.createObjectBuilder().add("id", i).add("tags", Json.createArrayBuilder().add("a\"b").add(1.5)));
+                    break;
+                case 1:
+                    builder.add(Json.createArrayBuilder());
+                    break;
+                case 2:
+                    builder.add("s" + i);
+                    break;
+                default:
+                    builder.addNull();
+            }
+        }
+        return builder;
+    }
+
+    @Test
+    void testArray() {
+        JsonStructure array = array(10000).build();
+        Assertions.assertEquals(write(factory(false, false), array), write(factory(true, false), array));
+        Assertions.assertEquals(write(factory(false, true), array), write(factory(true, true), array));
+    }
+
+    @Test
+    void testObject() {
+        JsonObjectBuilder builder = Json.createObjectBuilder();
+        for (int i = 0; i < 10000; i++) {
+            builder.add("k" + i, i % 2 == 0 ? Json.createValue(i) : array(3).build());
+        }
+        JsonStructure object = builder.build();
+        Assertions.assertEquals(write(factory(false, false), object), write(factory(true, false), object));
+        Assertions.assertEquals(write(factory(false, true), object), write(factory(true, true), object));
+    }
+
+    @Test
+    void testNested() {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        JsonArrayBuilder data = Json.createArrayBuilder();
+        for (int i = 0; i < 10000; i++) {
+            data.add(new ThreadRecordingString("v" + i, threads));
+        }
+        JsonStructure object = Json.createObjectBuilder()
+                .add("meta", Json.createObjectBuilder().add("count", 10000))
+                .add("data", data)
+                .add("more", Json.createArrayBuilder().add(array(1000)))
+                .build();
+        Assertions.assertEquals(write(factory(false, false), object), write(factory(true, false), object));
+        Assertions.assertEquals(write(factory(false, true), object), write(factory(true, true), object));
+        Assertions.assertTrue(threads.stream().anyMatch(t -> t instanceof ForkJoinWorkerThread), threads::toString);
+    }
+
+    @Test
+    void testOutputStream() {
+        JsonStructure array = array(5000).build();
+        ByteArrayOutputStream sequential = new ByteArrayOutputStream();
+        factory(false, true).createWriter(sequential).write(array);
+        ByteArrayOutputStream parallel = new ByteArrayOutputStream();
+        factory(true, true).createWriter(parallel).write(array);
+        Assertions.assertArrayEquals(sequential.toByteArray(), parallel.toByteArray());
+    }
+
+    @Test
+    void testBelowThreshold() {
+        JsonWriterFactory factory = factory(true, false);
+        Assertions.assertEquals(100, factory.getConfigInUse().get(JsonConfig.PARALLEL_WRITE_THRESHOLD));
+        Assertions.assertEquals("[1,2]", write(factory, Json.createArrayBuilder().add(1).add(2).build()));
+        Assertions.assertEquals("{}", write(factory, Json.createObjectBuilder().build()));
+    }
+
+    // String value that records the threads it is written by
+    private static final class ThreadRecordingString implements JsonString {
+
+        private final String value;
+        private final Set<Thread> threads;
+
+        ThreadRecordingString(String value, Set<Thread> threads) {
+            this.value = value;
+            this.threads = threads;
+        }
+
+        @Override
+        public String getString() {
+            threads.add(Thread.currentThread());
+            return value;
+        }
+
+        @Override
+        public CharSequence getChars() {
+            return getString();
+        }
+
+        @Override
+        public ValueType getValueType() {
+            return ValueType.STRING;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof JsonString && value.equals(((JsonString) obj).getString());
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return Json.createValue(value).toString();
+        }
+    }
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.tests;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Collections;
+
+import jakarta.json.Json;
+import jakarta.json.stream.JsonGenerationException;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+
+import org.eclipse.parsson.api.ParssonGenerator;
+import org.eclipse.parsson.api.ParssonParser;
+import org.eclipse.parsson.api.ParssonParserFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests raw value capture in parsers and raw writes in generators.
+ */
+public class RawJsonTest {
+
+    private static final String JSON = "{\"a\": {  \"s\": \"}]\\\"{\", \"n\": [1, [2]] },"
+            + " \"b\": [ 1 , {\"c\": null} ], \"c\": \"x\\ty\", \"d\": -1.50e3, \"e\": true}";
+
+    private static void checkRawValues(JsonParser parser) {
+        ParssonParser raw = (ParssonParser) parser;
+        Assertions.assertEquals(Event.START_OBJECT, parser.next());
+        Assertions.assertEquals(Event.KEY_NAME, parser.next());
+        Assertions.assertEquals(Event.START_OBJECT, parser.next());
+        Assertions.assertEquals("{  \"s\": \"}]\\\"{\", \"n\": [1, [2]] }", raw.getRawValue().toString());
+        Assertions.assertEquals(Event.KEY_NAME, parser.next());
+        Assertions.assertEquals("b", parser.getString());
+        Assertions.assertEquals(Event.START_ARRAY, parser.next());
+        Assertions.assertEquals("[ 1 , {\"c\": null} ]", raw.getRawValue().toString());
+        Assertions.assertEquals(Event.KEY_NAME, parser.next());
+        Assertions.assertEquals(Event.VALUE_STRING, parser.next());
+        Assertions.assertEquals("\"x\\ty\"", raw.getRawValue().toString());
+        Assertions.assertEquals(Event.KEY_NAME, parser.next());
+        Assertions.assertEquals(Event.VALUE_NUMBER, parser.next());
+        Assertions.assertEquals("-1.50e3", raw.getRawValue().toString());
+        Assertions.assertEquals(Event.KEY_NAME, parser.next());
+        Assertions.assertEquals(Event.VALUE_TRUE, parser.next());
+        Assertions.assertEquals("true", raw.getRawValue().toString());
+        Assertions.assertEquals(Event.END_OBJECT, parser.next());
+        Assertions.assertFalse(parser.hasNext());
+    }
+
+    @Test
+    void testRawValueFromReader() {
+        try (JsonParser parser = Json.createParser(new StringReader(JSON))) {
+            checkRawValues(parser);
+        }
+    }
+
+    @Test
+    void testRawValueFromString() {
+        ParssonParserFactory factory = (ParssonParserFactory) Json.createParserFactory(null);
+        try (JsonParser parser = factory.createParser(JSON)) {
+            checkRawValues(parser);
+        }
+    }
+
+    @Test
+    void testRawStringEscapes() {
+        String json = "[\"\\u00e9\\/\", \"plain\"]";
+        ParssonParserFactory factory = (ParssonParserFactory) Json.createParserFactory(null);
+        try (JsonParser parser = factory.createParser(json)) {
+            parser.next();
+            Assertions.assertEquals(Event.VALUE_STRING, parser.next());
+            Assertions.assertEquals("\"\\u00e9\\/\"", ((ParssonParser) parser).getRawValue().toString());
+            Assertions.assertEquals("\u00e9/", parser.getString());
+            Assertions.assertEquals(Event.VALUE_STRING, parser.next());
+            Assertions.assertEquals("\"plain\"", ((ParssonParser) parser).getRawValue().toString());
+        }
+        try (JsonParser parser = Json.createParser(new StringReader(json))) {
+            parser.next();
+            parser.next();
+            Assertions.assertEquals("\"\u00e9/\"", ((ParssonParser) parser).getRawValue().toString());
+        }
+    }
+
+    @Test
+    void testRawValueWithoutValue() {
+        try (JsonParser parser = Json.createParser(new StringReader(JSON))) {
+            parser.next();
+            parser.next();
+            Assertions.assertThrows(IllegalStateException.class, () -> ((ParssonParser) parser).getRawValue());
+        }
+    }
+
+    @Test
+    void testWriteRaw() {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = Json.createGenerator(out)) {
+            generator.writeStartObject();
+            ((ParssonGenerator) generator).writeRaw("a", "{\"b\" : [1, 2]}", true);
+            generator.writeKey("c").writeStartArray();
+            ((ParssonGenerator) generator).writeRaw(" 1.0 ", true);
+            ((ParssonGenerator) generator).writeRaw("\"]\"", true);
+            generator.write(true).writeEnd();
+            generator.writeEnd();
+        }
+        Assertions.assertEquals("{\"a\":{\"b\" : [1, 2]},\"c\":[ 1.0 ,\"]\",true]}", out.toString());
+    }
+
+    @Test
+    void testWriteRawPretty() {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = Json.createGeneratorFactory(
+                Collections.singletonMap(JsonGenerator.PRETTY_PRINTING, true)).createGenerator(out)) {
+            generator.writeStartArray();
+            ((ParssonGenerator) generator).writeRaw("{\"a\":1}", true);
+            generator.write(2);
+            generator.writeEnd();
+        }
+        Assertions.assertEquals(Json.createReader(new StringReader("[{\"a\":1},2]")).readArray(),
+                Json.createReader(new StringReader(out.toString())).readArray());
+    }
+
+    @Test
+    void testWriteRawInvalid() {
+        String[] invalid = {"", " ", "{", "[}", "]", "1 2", "\"abc", "a,b", "{}[]", "\"a\"1", "1:2"};
+        for (String json : invalid) {
+            StringWriter out = new StringWriter();
+            JsonGenerator generator = Json.createGenerator(out);
+            generator.writeStartArray();
+            Assertions.assertThrows(JsonGenerationException.class,
+                    () -> ((ParssonGenerator) generator).writeRaw(json, true), json);
+        }
+    }
+
+    @Test
+    void testRawRelay() {
+        StringWriter out = new StringWriter();
+        try (JsonParser parser = Json.createParser(new StringReader(JSON));
+             JsonGenerator generator = Json.createGenerator(out)) {
+            parser.next();
+            generator.writeStartObject();
+            while (parser.next() == Event.KEY_NAME) {
+                String name = parser.getString();
+                parser.next();
+                ((ParssonGenerator) generator).writeRaw(name, ((ParssonParser) parser).getRawValue(), false);
+            }
+            generator.writeEnd();
+        }
+        Assertions.assertEquals(Json.createReader(new StringReader(JSON)).readObject(),
+                Json.createReader(new StringReader(out.toString())).readObject());
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.eclipse.parsson.tests;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParsingException;
+
+import org.eclipse.parsson.api.BufferPool;
+import org.eclipse.parsson.api.ParssonParserFactory;
+import org.eclipse.parsson.api.ParssonReaderFactory;
+import org.eclipse.parsson.api.ReusableJsonParser;
+import org.eclipse.parsson.api.ReusableJsonReader;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ReusableJsonParser} and {@link ReusableJsonReader}.
+ */
+public class ReusableJsonParserTest {
+
+    @Test
+    void testParserResetOntoReaders() {
+        ParssonParserFactory factory = (ParssonParserFactory) Json.createParserFactory(null);
+        ReusableJsonParser parser = factory.createReusableParser();
+        for (int i = 0; i < 10; i++) {
+            parser.reset(new StringReader("{\"a\":" + i + "}"));
+            Assertions.assertEquals(JsonParser.Event.START_OBJECT, parser.next());
+            Assertions.assertEquals(JsonParser.Event.KEY_NAME, parser.next());
+            Assertions.assertEquals(JsonParser.Event.VALUE_NUMBER, parser.next());
+            Assertions.assertEquals(i, parser.getInt());
+            Assertions.assertEquals(JsonParser.Event.END_OBJECT, parser.next());
+            Assertions.assertFalse(parser.hasNext());
+            parser.close();
+        }
+    }
+
+    @Test
+    void testParserResetOntoStrings() {
+        ParssonParserFactory factory = (ParssonParserFactory) Json.createParserFactory(null);
+        ReusableJsonParser parser = factory.createReusableParser();
+        // shorter inputs reuse the array of longer ones
+        String[] inputs = {"[\"long string value\", 12345]", "[1]", "\"abc\"", "[true, false]"};
+        for (String input : inputs) {
+            parser.reset(input);
+            Assertions.assertTrue(parser.hasNext());
+            parser.next();
+            Assertions.assertEquals(Json.createReader(new StringReader(input)).readValue(), parser.getValue());
+            Assertions.assertFalse(parser.hasNext());
+            parser.close();
+        }
+    }
+
+    @Test
+    void testParserKeepsBuffer() {
+        JsonParserTest.MyBufferPool bufferPool = new JsonParserTest.MyBufferPool(32);
+        Map<String, ?> config = Collections.singletonMap(BufferPool.class.getName(), bufferPool);
+        ParssonParserFactory factory = (ParssonParserFactory) Json.createParserFactory(config);
+        try (ReusableJsonParser parser = factory.createReusableParser()) {
+            parser.reset(new StringReader("[1,2,3]"));
+            Assertions.assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+            parser.getArray();
+            parser.reset(new StringReader("[\"" + repeat("x", 20) + "\"]"));
+            Assertions.assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+            Assertions.assertEquals(repeat("x", 20), parser.getArray().getString(0));
+            Assertions.assertTrue(bufferPool.isTakeCalled());
+            Assertions.assertFalse(bufferPool.isRecycleCalled());
+        }
+        Assertions.assertTrue(bufferPool.isRecycleCalled());
+    }
+
+    @Test
+    void testInMemoryParserTakesNoBuffer() {
+        JsonParserTest.MyBufferPool bufferPool = new JsonParserTest.MyBufferPool(32);
+        Map<String, ?> config = Collections.singletonMap(BufferPool.class.getName(), bufferPool);
+        ParssonParserFactory factory = (ParssonParserFactory) Json.createParserFactory(config);
+        try (ReusableJsonParser parser = factory.createReusableParser()) {
+            parser.reset("[1,2,3]");
+            Assertions.assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+            Assertions.assertEquals(3, parser.getArray().size());
+            parser.reset("[1,2]".toCharArray(), 0, 5);
+            Assertions.assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+            Assertions.assertEquals(2, parser.getArray().size());
+        }
+        Assertions.assertFalse(bufferPool.isTakeCalled());
+        Assertions.assertFalse(bufferPool.isRecycleCalled());
+    }
+
+    @Test
+    void testParserResetAfterError() {
+        ParssonParserFactory factory = (ParssonParserFactory) Json.createParserFactory(null);
+        ReusableJsonParser parser = factory.createReusableParser();
+        parser.reset(new StringReader("[[1,"));
+        Assertions.assertThrows(JsonParsingException.class, () -> {
+            while (parser.hasNext()) {
+                parser.next();
+            }
+        });
+        parser.reset(new StringReader("\n\n[true]"));
+        Assertions.assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+        Assertions.assertEquals(3, parser.getLocation().getLineNumber());
+        Assertions.assertEquals(1, parser.getLocation().getStreamOffset() - 2);
+        Assertions.assertEquals(JsonParser.Event.VALUE_TRUE, parser.next());
+        Assertions.assertEquals(JsonParser.Event.END_ARRAY, parser.next());
+        Assertions.assertFalse(parser.hasNext());
+    }
+
+    @Test
+    void testParserResetOntoStreams() {
+        ParssonParserFactory factory = (ParssonParserFactory) Json.createParserFactory(null);
+        ReusableJsonParser parser = factory.createReusableParser();
+        String value = repeat("é中😀", 5000);
+        String json = "[\"" + value + "\"]";
+
+        parser.reset(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+        Assertions.assertEquals(value, parser.getArray().getString(0));
+
+        byte[] utf16 = json.getBytes(StandardCharsets.UTF_16);
+        parser.reset(new ByteArrayInputStream(utf16));
+        Assertions.assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+        Assertions.assertEquals(value, parser.getArray().getString(0));
+
+        parser.reset(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_16LE)), StandardCharsets.UTF_16LE);
+        Assertions.assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+        Assertions.assertEquals(value, parser.getArray().getString(0));
+
+        byte[] bytes = ("xx" + json + "yy").getBytes(StandardCharsets.UTF_8);
+        parser.reset(bytes, 2, bytes.length - 4);
+        Assertions.assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+        Assertions.assertEquals(value, parser.getArray().getString(0));
+        Assertions.assertFalse(parser.hasNext());
+        parser.close();
+    }
+
+    @Test
+    void testReaderReset() {
+        ParssonReaderFactory factory = (ParssonReaderFactory) Json.createReaderFactory(null);
+        ReusableJsonReader reader = factory.createReusableReader();
+        for (int i = 0; i < 10; i++) {
+            try (ReusableJsonReader r = reader.reset(new StringReader("{\"a\":[" + i + "]}"))) {
+                JsonObject object = r.readObject();
+                Assertions.assertEquals(i, object.getJsonArray("a").getInt(0));
+                Assertions.assertThrows(IllegalStateException.class, r::read);
+            }
+        }
+        byte[] bytes = "[1,2]".getBytes(StandardCharsets.UTF_8);
+        JsonArray array = reader.reset(bytes, 0, bytes.length).readArray();
+        Assertions.assertEquals(2, array.size());
+        array = reader.reset(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8).readArray();
+        Assertions.assertEquals(2, array.size());
+        reader.close();
+    }
+
+    private static String repeat(String str, int count) {
+        StringBuilder sb = new StringBuilder(str.length() * count);
+        for (int i = 0; i < count; i++) {
+            sb.append(str);
+        }
+        return sb.toString();
+    }
+
+}